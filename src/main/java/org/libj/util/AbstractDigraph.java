@@ -17,18 +17,29 @@
 package org.libj.util;
 
 import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
-import java.util.BitSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.libj.util.function.Throwing;
 import org.libj.util.primitive.ArrayIntList;
+import org.libj.util.primitive.HashIntSet;
 
 /**
  * A directed graph of an arbitrary-sized set of arbitrary-typed vertices,
@@ -38,13 +49,18 @@ import org.libj.util.primitive.ArrayIntList;
  * Cycle can be found with {@link AbstractDigraph#hasCycle()} and
  * {@link AbstractDigraph#getCycle()}. If no cycle exists, a topological order can be
  * found with {@link AbstractDigraph#getTopologicalOrder()}.
+ * Independent vertices can be found with {@link AbstractDigraph#getReadySets()}, and
+ * an action can be performed for each vertex in parallel, once it has been
+ * performed for its predecessors, with
+ * {@link AbstractDigraph#executeInParallel(Executor,Consumer)}.
  * <p>
  * This implementation uses {@link Integer}-based vertex indices as references
  * to the arbitrary-typed object vertices via {@link HashBiMap}.
  * <p>
  * The digraph is internally represented as a dynamically scalable
- * {@link ArrayList} list of index-&gt;{@link LinkedHashSet} set of adjacent
- * edges.
+ * {@link ArrayList} list of index-&gt;{@link Edges} set of adjacent edges,
+ * which stores the indices of the adjacent vertices as primitive {@code int}
+ * values, in the order in which the edges were added.
  * <p>
  * All operations take constant time (in the worst case) except iterating over
  * the vertices adjacent from a given vertex, which takes time proportional to
@@ -57,20 +73,214 @@ import org.libj.util.primitive.ArrayIntList;
  * @param <V> The type of mapped values.
  */
 abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
+  /**
+   * The set of the indices of the vertices adjacent from a vertex, in the order
+   * in which their edges were added. The indices are stored unboxed in an
+   * {@code int} array, and, for a vertex with more than
+   * {@value #MAX_LINEAR_SIZE} edges, are also indexed in a {@link HashIntSet},
+   * such that membership is tested in constant time.
+   */
+  protected static final class Edges extends AbstractSet<Integer> implements Cloneable {
+    /** The maximum number of edges for which membership is tested by a linear search. */
+    private static final int MAX_LINEAR_SIZE = 32;
+
+    private static final int[] EMPTY = {};
+
+    private int[] values = EMPTY;
+    private int size;
+    private HashIntSet index;
+    private int modCount;
+
+    /**
+     * Returns the index of the vertex of the edge at the specified position.
+     *
+     * @param i The position of the edge.
+     * @return The index of the vertex of the edge at the specified position.
+     * @throws IndexOutOfBoundsException If {@code i} is out of range.
+     */
+    int get(final int i) {
+      if (i >= size)
+        throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+
+      return values[i];
+    }
+
+    private int indexOf(final int w) {
+      for (int i = 0; i < size; ++i)
+        if (values[i] == w)
+          return i;
+
+      return -1;
+    }
+
+    /**
+     * Returns whether this set contains the specified vertex index.
+     *
+     * @param w The vertex index.
+     * @return Whether this set contains the specified vertex index.
+     */
+    boolean contains(final int w) {
+      return index != null ? index.contains(w) : indexOf(w) != -1;
+    }
+
+    /**
+     * Adds the specified vertex index to the end of this set, if it is not
+     * already present.
+     *
+     * @param w The vertex index.
+     * @return {@code true} if this set did not already contain the specified
+     *         vertex index.
+     */
+    boolean add(final int w) {
+      if (contains(w))
+        return false;
+
+      if (size == values.length)
+        values = Arrays.copyOf(values, Math.max(4, size + (size >> 1)));
+
+      values[size++] = w;
+      if (index != null) {
+        index.add(w);
+      }
+      else if (size > MAX_LINEAR_SIZE) {
+        index = new HashIntSet(size << 1, .9f, true);
+        for (int i = 0; i < size; ++i)
+          index.add(values[i]);
+      }
+
+      ++modCount;
+      return true;
+    }
+
+    /**
+     * Removes the specified vertex index from this set, if it is present.
+     *
+     * @param w The vertex index.
+     * @return {@code true} if this set contained the specified vertex index.
+     */
+    boolean remove(final int w) {
+      if (index != null && !index.remove(w))
+        return false;
+
+      final int i = indexOf(w);
+      if (i == -1)
+        return false;
+
+      removeIndex(i);
+      return true;
+    }
+
+    private int removeIndex(final int i) {
+      final int w = values[i];
+      System.arraycopy(values, i + 1, values, i, --size - i);
+      ++modCount;
+      return w;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return o instanceof Integer && contains((int)(Integer)o);
+    }
+
+    @Override
+    public boolean add(final Integer e) {
+      return add((int)e);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+      return o instanceof Integer && remove((int)(Integer)o);
+    }
+
+    @Override
+    public void clear() {
+      size = 0;
+      index = null;
+      ++modCount;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+      return new Iterator<Integer>() {
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+          return cursor < size;
+        }
+
+        @Override
+        public Integer next() {
+          if (expectedModCount != modCount)
+            throw new ConcurrentModificationException();
+
+          if (cursor >= size)
+            throw new NoSuchElementException();
+
+          return values[lastRet = cursor++];
+        }
+
+        @Override
+        public void remove() {
+          if (lastRet == -1)
+            throw new IllegalStateException();
+
+          if (expectedModCount != modCount)
+            throw new ConcurrentModificationException();
+
+          final int w = removeIndex(lastRet);
+          if (index != null)
+            index.remove(w);
+
+          cursor = lastRet;
+          lastRet = -1;
+          expectedModCount = modCount;
+        }
+      };
+    }
+
+    @Override
+    public Edges clone() {
+      try {
+        final Edges clone = (Edges)super.clone();
+        clone.values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+        clone.index = index == null ? null : index.clone();
+        return clone;
+      }
+      catch (final CloneNotSupportedException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
   private final int initialCapacity;
   protected AbstractDigraph<K,V> transverse;
 
   protected HashBiMap<Object,Integer> objectToIndex;
   protected Map<Integer,Object> indexToObject;
   protected ArrayIntList adjRemoved;
-  protected ArrayList<LinkedHashSet<Integer>> adj;
-  protected TransList<LinkedHashSet<Integer>,TransSet<Integer,V>> adjEdges;
+  protected ArrayList<Edges> adj;
+  protected TransList<Edges,TransSet<Integer,V>> adjEdges;
   protected ObservableMap<K,Integer> observableObjectToIndex;
   protected ArrayIntList inDegree;
 
   protected Object[][] flatAdj;
   protected ArrayList<K> cycle;
-  protected ArrayList<K> reversePostOrder;
+  protected ArrayIntList topologicalOrder;
+  protected int[] topologicalPositions;
+  protected List<K> topologicalKeys;
+  protected List<List<K>> components;
+  protected int[] componentOf;
+
+  private boolean[] visited;
+  private int[] parent;
 
   /**
    * Creates an empty digraph with the specified initial capacity.
@@ -162,6 +372,20 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
     }
 
     objectToIndex.put(vertex, v);
+    // Invalidate the previous scc() and getTopologicalOrder() operations, as
+    // a new vertex is a component of its own, and is appended to the order
+    components = null;
+    componentOf = null;
+    topologicalKeys = null;
+    if (topologicalOrder != null) {
+      // A new vertex has no edges, so it can be appended to the topological order
+      if (v >= topologicalPositions.length)
+        topologicalPositions = Arrays.copyOf(topologicalPositions, Math.max(v + 1, topologicalPositions.length << 1));
+
+      topologicalPositions[v] = topologicalOrder.size();
+      topologicalOrder.add(v);
+    }
+
     return v;
   }
 
@@ -178,20 +402,122 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
   private boolean addEdge(final Object from, final Object to) {
     final int v = getIndexCreate(from);
     final int w = getIndexCreate(to);
-    LinkedHashSet<Integer> edges = adj.get(v);
+    Edges edges = adj.get(v);
     if (edges == null)
-      adj.set(v, edges = new LinkedHashSet<>());
-    else if (edges.contains(w))
+      adj.set(v, edges = new Edges());
+
+    if (!edges.add(w))
       return false;
 
-    edges.add(w);
     inDegree.set(w, inDegree.get(w) + 1);
 
-    // Invalidate the previous dfs() and getFlatAdj() operations, as the
-    // digraph has changed
-    reversePostOrder = null;
+    // Invalidate the previous getFlatAdj() and scc() operations, as the
+    // digraph has changed. A previously found cycle remains a cycle, and a
+    // topological order is maintained incrementally.
     flatAdj = null;
-    cycle = null;
+    components = null;
+    componentOf = null;
+    if (topologicalOrder != null && !reorder(v, w)) {
+      topologicalOrder = null;
+      topologicalPositions = null;
+      topologicalKeys = null;
+    }
+
+    return true;
+  }
+
+  /**
+   * Updates the topological order of this digraph for the addition of the edge
+   * ({@code x -> y}), with the algorithm of Marchetti-Spaccamela, Nanni, and
+   * Rohnert.
+   * <p>
+   * If {@code x} precedes {@code y} in the order, or if the edge is a loop
+   * (which is not regarded as a cycle, as per {@link #dfs(ArrayIntList)}), the
+   * order remains valid.
+   * Otherwise, the affected region of the order is that from {@code y} to
+   * {@code x}: the vertices of the region that are reachable from {@code y}
+   * are found with a forward search that does not leave the region, and are
+   * moved to follow {@code x}, whereas the other vertices of the region are
+   * shifted to precede it, each in their previous order. If the forward search
+   * reaches {@code x}, the edge closes a cycle, which is recorded. The vertices
+   * outside of the region are not visited.
+   *
+   * @param x The index of the tail vertex.
+   * @param y The index of the head vertex.
+   * @return {@code true} if the topological order has been updated, and
+   *         {@code false} if the edge closes a cycle.
+   */
+  private boolean reorder(final int x, final int y) {
+    final int[] positions = topologicalPositions;
+    final int lb = positions[y];
+    final int ub = positions[x];
+    if (lb > ub || x == y)
+      return true;
+
+    final int size = adj.size();
+    if (visited == null || visited.length < size) {
+      visited = new boolean[Math.max(size, initialCapacity)];
+      parent = new int[visited.length];
+    }
+
+    final boolean[] visited = this.visited;
+    final int[] parent = this.parent;
+    final ArrayIntList stack = new ArrayIntList();
+    visited[y] = true;
+    stack.add(y);
+    while (stack.size() > 0) {
+      final int v = stack.pop();
+      final Edges ws = adj.get(v);
+      if (ws == null)
+        continue;
+
+      for (int i = 0, degree = ws.size(); i < degree; ++i) {
+        final int w = ws.get(i);
+        if (w == x) {
+          final ArrayList<K> cycle = new ArrayList<>();
+          cycle.add(indexToKey(x));
+          for (int u = v; u != y; u = parent[u])
+            cycle.add(indexToKey(u));
+
+          cycle.add(indexToKey(y));
+          cycle.add(indexToKey(x));
+          this.cycle = cycle;
+          for (int p = lb; p < ub; ++p)
+            visited[topologicalOrder.get(p)] = false;
+
+          return false;
+        }
+
+        if (!visited[w] && positions[w] < ub) {
+          visited[w] = true;
+          parent[w] = v;
+          stack.add(w);
+        }
+      }
+    }
+
+    // Shift the unvisited vertices of the region to its start, and follow them with the visited vertices
+    topologicalKeys = null;
+    final ArrayIntList reached = new ArrayIntList();
+    int position = lb;
+    for (int p = lb; p <= ub; ++p) {
+      final int v = topologicalOrder.get(p);
+      if (visited[v]) {
+        visited[v] = false;
+        reached.add(v);
+      }
+      else {
+        topologicalOrder.set(position, v);
+        positions[v] = position++;
+      }
+    }
+
+    for (int i = 0, len = reached.size(); i < len; ++i) {
+      final int v = reached.get(i);
+      topologicalOrder.set(position, v);
+      positions[v] = position++;
+    }
+
     return true;
   }
 
@@ -272,7 +598,7 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
    * @return The {@link TransList} instance that relates the edges of type
    *         {@code V} to vertex indices.
    */
-  private TransList<LinkedHashSet<Integer>,TransSet<Integer,V>> getAdjEdges() {
+  private TransList<Edges,TransSet<Integer,V>> getAdjEdges() {
     if (adjEdges != null)
       return adjEdges;
 
@@ -328,7 +654,7 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
     if (!makeNew)
       return Collections.EMPTY_SET;
 
-    adj.set(v, new LinkedHashSet<>());
+    adj.set(v, new Edges());
     return adjEdges.get(v);
   }
 
@@ -357,13 +683,13 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
       return null;
 
     if (withObserver == null) {
-      final LinkedHashSet<Integer> indices = adj.get(v);
+      final Edges indices = adj.get(v);
       if (indices == null)
         return Collections.EMPTY_SET;
 
       final LinkedHashSet<V> edges = new LinkedHashSet<>(indices.size());
-      for (final int index : indices)
-        edges.add(indexToValue(index));
+      for (int i = 0, len = indices.size(); i < len; ++i)
+        edges.add(indexToValue(indices.get(i)));
 
       return edges;
     }
@@ -553,12 +879,22 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
     if (v == null)
       return false;
 
-    final LinkedHashSet<Integer> ws = adj.set(v, null);
-    if (ws != null)
-      for (final int w : ws)
+    final Edges ws = adj.set(v, null);
+    if (ws != null) {
+      for (int i = 0, len = ws.size(); i < len; ++i) {
+        final int w = ws.get(i);
         inDegree.set(w, inDegree.get(w) - 1);
+      }
+    }
 
     adjRemoved.add(v);
+    topologicalOrder = null;
+    topologicalPositions = null;
+    topologicalKeys = null;
+    flatAdj = null;
+    cycle = null;
+    components = null;
+    componentOf = null;
     return true;
   }
 
@@ -585,15 +921,20 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
    * @return {@code true} if this digraph changed due to the method call.
    */
   private boolean removeEdge(final int v, final int w) {
+    final Edges ws = adj.get(v);
+    if (ws == null || !ws.remove(w))
+      return false;
+
     inDegree.set(w, inDegree.get(w) - 1);
 
-    // Invalidate the previous dfs() and getFlatAdj() operations, as the
-    // digraph has changed
-    reversePostOrder = null;
+    // Invalidate the previous getFlatAdj() and scc() operations, as the
+    // digraph has changed. A previously found cycle may have been broken, and
+    // a topological order remains valid.
     flatAdj = null;
     cycle = null;
-
-    return adj.get(v).remove(w);
+    components = null;
+    componentOf = null;
+    return true;
   }
 
   /**
@@ -630,9 +971,13 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
     this.adjRemoved.clear();
     this.inDegree.clear();
     this.objectToIndex.clear();
-    this.reversePostOrder = null;
+    this.topologicalOrder = null;
+    this.topologicalPositions = null;
+    this.topologicalKeys = null;
     this.flatAdj = null;
     this.cycle = null;
+    this.components = null;
+    this.componentOf = null;
   }
 
   /**
@@ -703,75 +1048,96 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
    *           this digraph.
    */
   public int getOutDegree(final K vertex) {
-    return adj.get(getIndexFail(vertex)).size();
+    final Edges ws = adj.get(getIndexFail(vertex));
+    return ws == null ? 0 : ws.size();
   }
 
   /**
    * Run the depth-first-search algorithm on this digraph to detect a cycle, or
    * construct the reversePostOrder list.
+   * <p>
+   * The search is iterative, with an explicit stack of the vertices on the
+   * current path, such that the depth of the digraph is not limited by the
+   * depth of the call stack. The vertices are recorded in post order, and are
+   * added to {@code reversePostOrder} in reverse once the search has finished.
    *
-   * @param reversePostOrder List of vertices filled in reverse post order.
+   * @param reversePostOrder List of vertex indices filled in reverse post
+   *          order.
    * @return A cycle list, if one was found.
    */
-  private ArrayList<K> dfs(final List<? super K> reversePostOrder) {
+  private ArrayList<K> dfs(final ArrayIntList reversePostOrder) {
     final int size = adj.size();
-    final BitSet marked = new BitSet(size);
-    final BitSet onStack = new BitSet(size);
+    final boolean[] marked = new boolean[size];
+    final boolean[] onStack = new boolean[size];
     final int[] edgeTo = new int[size];
-    for (int v = 0; v < size; ++v) {
-      if (indexToObject.containsKey(v) && !marked.get(v)) {
-        final ArrayList<K> cycle = dfs(marked, onStack, edgeTo, reversePostOrder, v);
-        if (cycle != null)
-          return cycle;
+    // The vertices on the current path, and the position of the next edge of each
+    final int[] stack = new int[size];
+    final int[] next = new int[size];
+    final int[] postOrder = new int[size];
+    int count = 0;
+    // The indices of removed vertices are not roots, and are not adjacent from any vertex
+    final boolean[] removed = new boolean[size];
+    for (int i = 0, len = adjRemoved.size(); i < len; ++i)
+      removed[adjRemoved.get(i)] = true;
+
+    for (int s = 0; s < size; ++s) {
+      if (removed[s] || marked[s])
+        continue;
+
+      marked[s] = true;
+      onStack[s] = true;
+      next[s] = 0;
+      stack[0] = s;
+      for (int top = 0; top >= 0;) {
+        final int v = stack[top];
+        final Edges ws = adj.get(v);
+        if (ws != null && next[v] < ws.size()) {
+          final int w = ws.get(next[v]++);
+          if (!marked[w]) {
+            edgeTo[w] = v;
+            marked[w] = true;
+            onStack[w] = true;
+            next[w] = 0;
+            stack[++top] = w;
+          }
+          else if (v != w && onStack[w]) {
+            final ArrayList<K> cycle = new ArrayList<>(initialCapacity / 3);
+            for (int x = v; x != w; x = edgeTo[x])
+              cycle.add(indexToKey(x));
+
+            cycle.add(indexToKey(w));
+            cycle.add(indexToKey(v));
+            return cycle;
+          }
+        }
+        else {
+          onStack[v] = false;
+          postOrder[count++] = v;
+          --top;
+        }
       }
     }
 
+    for (int i = count - 1; i >= 0; --i)
+      reversePostOrder.add(postOrder[i]);
+
     return null;
   }
 
   private void dfs() {
-    if (reversePostOrder == null && (cycle = dfs(reversePostOrder = new ArrayList<>(size()))) != null)
-      reversePostOrder = null;
-  }
-
-  /**
-   * Run the depth-first-search algorithm on this digraph to detect a cycle, or
-   * construct the reversePostOrder list.
-   *
-   * @param marked {@link BitSet} maintaining marked state.
-   * @param onStack {@link BitSet} maintaining on-stack state.
-   * @param edgeTo Vertex index array maintaining state for cycle detection.
-   * @param reversePostOrder List of vertices filled in reverse post order.
-   * @param v The index of the vertex.
-   * @return A cycle list, if one was found.
-   */
-  private ArrayList<K> dfs(final BitSet marked, final BitSet onStack, final int[] edgeTo, final List<? super K> reversePostOrder, final int v) {
-    onStack.set(v);
-    marked.set(v);
-    final LinkedHashSet<Integer> ws = adj.get(v);
-    if (ws != null) {
-      for (final int w : ws) {
-        if (!marked.get(w)) {
-          edgeTo[w] = v;
-          final ArrayList<K> cycle = dfs(marked, onStack, edgeTo, reversePostOrder, w);
-          if (cycle != null)
-            return cycle;
-        }
-        else if (v != w && onStack.get(w)) {
-          final ArrayList<K> cycle = new ArrayList<>(initialCapacity / 3);
-          for (int x = v; x != w; x = edgeTo[x])
-            cycle.add(indexToKey(x));
-
-          cycle.add(indexToKey(w));
-          cycle.add(indexToKey(v));
-          return cycle;
-        }
-      }
+    if (topologicalOrder != null || cycle != null)
+      return;
+
+    final ArrayIntList reversePostOrder = new ArrayIntList(size());
+    if ((cycle = dfs(reversePostOrder)) == null) {
+      final int[] positions = new int[adj.size()];
+      for (int i = 0, len = reversePostOrder.size(); i < len; ++i)
+        positions[reversePostOrder.get(i)] = i;
+
+      topologicalOrder = reversePostOrder;
+      topologicalPositions = positions;
+      topologicalKeys = null;
     }
-
-    onStack.clear(v);
-    reversePostOrder.add(0, indexToKey(v));
-    return null;
   }
 
   /**
@@ -795,17 +1161,441 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
   }
 
   /**
-   * Returns the reverse post order of a depth first search analysis of the
-   * digraph, or {@code null} if no such order exists due to a cycle.
+   * Returns a topological order of the digraph, or {@code null} if no such
+   * order exists due to a cycle.
+   * <p>
+   * The order is first computed as the reverse post order of a depth first
+   * search analysis of the digraph. Thereafter, the order is maintained
+   * incrementally as edges are added, such that the addition of an edge only
+   * reorders the vertices between its head and tail in the order, and a cycle
+   * is detected upon the addition of the edge that closes it. The removal of
+   * an edge preserves the order, and the removal of a vertex requires the
+   * order to be computed anew.
+   * <p>
+   * The returned list is an unmodifiable snapshot of the order maintained by
+   * this digraph, and remains valid after this digraph is modified. The
+   * snapshot is retained until the order changes, such that the addition of an
+   * edge that does not reorder the vertices does not require the order to be
+   * copied anew.
    * <p>
    * <b>Note:</b> This method is not thread safe.
    *
-   * @return The reverse post order of a depth first search analysis of the
-   *         digraph, or {@code null} if no such order exists due to a cycle.
+   * @return A topological order of the digraph, or {@code null} if no such
+   *         order exists due to a cycle.
    */
   public List<K> getTopologicalOrder() {
     dfs();
-    return reversePostOrder;
+    final ArrayIntList order = topologicalOrder;
+    if (order == null)
+      return null;
+
+    if (topologicalKeys != null)
+      return topologicalKeys;
+
+    final int size = order.size();
+    final ArrayList<K> keys = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i)
+      keys.add(indexToKey(order.get(i)));
+
+    return topologicalKeys = Collections.unmodifiableList(keys);
+  }
+
+  /**
+   * Run Tarjan's algorithm on this digraph to find its strongly connected
+   * components, in a single pass over its vertices and edges.
+   * <p>
+   * The search is iterative, as per {@link #dfs(ArrayIntList)}. Tarjan's algorithm
+   * completes each component after all components reachable from it, so the
+   * components are numbered in reverse of their completion, such that each
+   * edge between components is directed from a lower to a higher component
+   * index.
+   */
+  private void scc() {
+    if (components != null)
+      return;
+
+    final int size = adj.size();
+    final int[] componentOf = new int[size];
+    final int[] order = new int[size];
+    final int[] low = new int[size];
+    final boolean[] onStack = new boolean[size];
+    // The vertices of the components that are not yet complete, in the order they were visited
+    final int[] visited = new int[size];
+    // The vertices on the current path, and the position of the next edge of each
+    final int[] stack = new int[size];
+    final int[] next = new int[size];
+    // The vertices of the completed components, from the end, and the index at which each component starts
+    final int[] members = new int[size];
+    final int[] bounds = new int[size];
+    final boolean[] removed = new boolean[size];
+    for (int i = 0, len = adjRemoved.size(); i < len; ++i)
+      removed[adjRemoved.get(i)] = true;
+
+    Arrays.fill(order, -1);
+    int count = 0;
+    int components = 0;
+    int completed = size;
+    for (int s = 0; s < size; ++s) {
+      if (removed[s] || order[s] != -1)
+        continue;
+
+      int top = 0;
+      int tail = 0;
+      stack[0] = s;
+      order[s] = low[s] = count++;
+      visited[tail++] = s;
+      onStack[s] = true;
+      next[s] = 0;
+      while (top >= 0) {
+        final int v = stack[top];
+        final Edges ws = adj.get(v);
+        if (ws != null && next[v] < ws.size()) {
+          final int w = ws.get(next[v]++);
+          if (order[w] == -1) {
+            order[w] = low[w] = count++;
+            visited[tail++] = w;
+            onStack[w] = true;
+            next[w] = 0;
+            stack[++top] = w;
+          }
+          else if (onStack[w] && order[w] < low[v]) {
+            low[v] = order[w];
+          }
+        }
+        else {
+          if (low[v] == order[v]) {
+            // v is the root of a component, of which the vertices are those visited since v
+            int i = tail;
+            while (visited[--i] != v);
+            final int length = tail - i;
+            completed -= length;
+            System.arraycopy(visited, i, members, completed, length);
+            for (int j = i; j < tail; ++j) {
+              onStack[visited[j]] = false;
+              componentOf[visited[j]] = components;
+            }
+
+            bounds[components++] = completed;
+            tail = i;
+          }
+
+          if (--top >= 0 && low[v] < low[stack[top]])
+            low[stack[top]] = low[v];
+        }
+      }
+    }
+
+    // Number the components in reverse of their completion
+    final ArrayList<List<K>> list = new ArrayList<>(components);
+    for (int c = components - 1; c >= 0; --c) {
+      final int from = bounds[c];
+      final int to = c == 0 ? size : bounds[c - 1];
+      final ArrayList<K> component = new ArrayList<>(to - from);
+      for (int i = from; i < to; ++i) {
+        final int v = members[i];
+        componentOf[v] = components - 1 - componentOf[v];
+        component.add(indexToKey(v));
+      }
+
+      list.add(Collections.unmodifiableList(component));
+    }
+
+    this.componentOf = componentOf;
+    this.components = Collections.unmodifiableList(list);
+  }
+
+  /**
+   * Returns the strongly connected components of this digraph, each of which is
+   * a maximal set of vertices that are reachable from each other. A vertex that
+   * is not on a cycle is a component of its own.
+   * <p>
+   * The components are returned in topological order, such that each edge
+   * between vertices of different components is directed from a component to
+   * a component that follows it in the returned list. The vertices of each
+   * component are listed in the order they were visited, starting with the
+   * vertex by which the component was entered. The returned lists are not
+   * modifiable.
+   * <p>
+   * <b>Note:</b> This method is not thread safe.
+   *
+   * @return The strongly connected components of this digraph, in topological
+   *         order.
+   */
+  public List<List<K>> getStronglyConnectedComponents() {
+    scc();
+    return components;
+  }
+
+  /**
+   * Returns the index of the strongly connected component of the specified
+   * vertex in the list returned by {@link #getStronglyConnectedComponents()}.
+   * <p>
+   * <b>Note:</b> This method is not thread safe.
+   *
+   * @param vertex The vertex.
+   * @return The index of the strongly connected component of the specified
+   *         vertex.
+   * @throws NoSuchElementException If vertex {@code vertex} does not exist in
+   *           this digraph.
+   */
+  public int getComponentIndex(final K vertex) {
+    final int v = getIndexFail(vertex);
+    scc();
+    return componentOf[v];
+  }
+
+  /**
+   * Returns the condensation of this digraph, which is the directed acyclic
+   * graph of the indices of the strongly connected components of this digraph
+   * in the list returned by {@link #getStronglyConnectedComponents()}, with an
+   * edge from a component to another for each edge between their vertices in
+   * this digraph. The returned digraph does not reflect subsequent
+   * modifications of this digraph.
+   * <p>
+   * <b>Note:</b> This method is not thread safe.
+   *
+   * @return The condensation of this digraph.
+   */
+  public Digraph<Integer> getCondensation() {
+    scc();
+    final int size = components.size();
+    final Digraph<Integer> condensation = new Digraph<>(size);
+    for (int c = 0; c < size; ++c)
+      condensation.add(c);
+
+    for (int v = 0, len = adj.size(); v < len; ++v) {
+      final Edges ws = adj.get(v);
+      if (ws != null) {
+        final int c = componentOf[v];
+        for (int i = 0, degree = ws.size(); i < degree; ++i) {
+          final int d = componentOf[ws.get(i)];
+          if (c != d)
+            condensation.add(c, d);
+        }
+      }
+    }
+
+    return condensation;
+  }
+
+  /**
+   * Returns the in-degree of each vertex index of this digraph, disregarding
+   * loops, or {@code -1} for the indices of removed vertices.
+   *
+   * @return The in-degree of each vertex index of this digraph, disregarding
+   *         loops, or {@code -1} for the indices of removed vertices.
+   */
+  private int[] getInDegrees() {
+    final int size = adj.size();
+    final int[] inDegrees = new int[size];
+    for (int v = 0; v < size; ++v) {
+      final Edges ws = adj.get(v);
+      inDegrees[v] = ws != null && ws.contains(v) ? inDegree.get(v) - 1 : inDegree.get(v);
+    }
+
+    for (int i = 0, len = adjRemoved.size(); i < len; ++i)
+      inDegrees[adjRemoved.get(i)] = -1;
+
+    return inDegrees;
+  }
+
+  /**
+   * Returns the vertices of this digraph in the ready sets of Kahn's
+   * algorithm, or {@code null} if no such sets exist due to a cycle.
+   * <p>
+   * The first ready set is that of the vertices without incoming edges, and
+   * each following ready set is that of the vertices whose predecessors are
+   * all in the preceding ready sets. The vertices of a ready set therefore do
+   * not depend on each other, and can be processed in parallel once the
+   * vertices of the preceding ready sets have been processed. The ready sets
+   * are computed from the in-degrees of the vertices in a single pass over
+   * the vertices and edges of this digraph, disregarding loops (as per
+   * {@link #getTopologicalOrder()}). The returned lists are not modifiable,
+   * and do not reflect subsequent modifications of this digraph.
+   * <p>
+   * <b>Note:</b> This method is not thread safe.
+   *
+   * @return The vertices of this digraph in the ready sets of Kahn's
+   *         algorithm, or {@code null} if no such sets exist due to a cycle.
+   * @see #executeInParallel(Executor,Consumer)
+   */
+  public List<List<K>> getReadySets() {
+    final int[] inDegrees = getInDegrees();
+    final ArrayIntList ready = new ArrayIntList();
+    for (int v = 0; v < inDegrees.length; ++v)
+      if (inDegrees[v] == 0)
+        ready.add(v);
+
+    final ArrayList<List<K>> sets = new ArrayList<>();
+    for (int i = 0; i < ready.size();) {
+      final int len = ready.size();
+      final ArrayList<K> set = new ArrayList<>(len - i);
+      for (; i < len; ++i) {
+        final int v = ready.get(i);
+        set.add(indexToKey(v));
+        final Edges ws = adj.get(v);
+        if (ws != null) {
+          for (int j = 0, degree = ws.size(); j < degree; ++j) {
+            final int w = ws.get(j);
+            if (w != v && --inDegrees[w] == 0)
+              ready.add(w);
+          }
+        }
+      }
+
+      sets.add(Collections.unmodifiableList(set));
+    }
+
+    return ready.size() < size() ? null : Collections.unmodifiableList(sets);
+  }
+
+  /**
+   * Performs the specified action for each vertex of this digraph, in parallel
+   * on the specified {@link Executor}, and returns when the action has been
+   * performed for all vertices.
+   * <p>
+   * The action is performed for a vertex once it has been performed for all of
+   * its predecessors, as per Kahn's algorithm: the vertices without incoming
+   * edges are submitted to the {@code executor} by the calling thread, and
+   * each vertex is submitted by the thread that completes the last of its
+   * predecessors. If the completion of a vertex readies several successors,
+   * one of them is performed directly on the same thread, such that a chain of
+   * vertices does not incur a task per vertex. Loops are disregarded (as per
+   * {@link #getTopologicalOrder()}). The vertices and edges are captured when
+   * this method is called, and subsequent modifications of this digraph are
+   * not reflected in the execution.
+   * <p>
+   * If the action fails for a vertex, no further vertices are submitted, and
+   * the first exception is thrown once the submitted vertices have completed,
+   * with the exceptions of other failed vertices added as suppressed
+   * exceptions. If the calling thread is interrupted while waiting for the
+   * vertices, no further vertices are submitted, and the
+   * {@link InterruptedException} is thrown without waiting for the submitted
+   * vertices to complete.
+   * <p>
+   * <b>Note:</b> This method is not thread safe with respect to modifications
+   * of this digraph.
+   *
+   * @param executor The {@link Executor} on which the action is performed.
+   * @param action The action to be performed for each vertex.
+   * @throws InterruptedException If the calling thread is interrupted while
+   *           waiting for the vertices to complete.
+   * @throws IllegalStateException If this digraph has a cycle.
+   * @throws NullPointerException If {@code executor} or {@code action} is
+   *           null.
+   * @see #getReadySets()
+   */
+  public void executeInParallel(final Executor executor, final Consumer<? super K> action) throws InterruptedException {
+    Objects.requireNonNull(executor);
+    Objects.requireNonNull(action);
+    final List<K> cycle = getCycle();
+    if (cycle != null)
+      throw new IllegalStateException("Digraph has a cycle: " + cycle);
+
+    final int[] inDegrees = getInDegrees();
+    final Object[] keys = new Object[inDegrees.length];
+    final int[][] successors = new int[inDegrees.length][];
+    for (int v = 0; v < inDegrees.length; ++v) {
+      if (inDegrees[v] != -1) {
+        keys[v] = indexToKey(v);
+        final Edges ws = adj.get(v);
+        successors[v] = ws == null ? Edges.EMPTY : Arrays.copyOf(ws.values, ws.size());
+      }
+    }
+
+    final Execution<K> execution = new Execution<>(executor, action, keys, successors, inDegrees);
+    for (int v = 0; v < inDegrees.length && execution.exception.get() == null; ++v)
+      if (inDegrees[v] == 0)
+        execution.submit(v);
+
+    execution.complete();
+    try {
+      execution.done.await();
+    }
+    catch (final InterruptedException e) {
+      execution.exception.compareAndSet(null, e);
+      throw e;
+    }
+
+    // The action may throw a checked exception undeclared, as per Throwing.rethrow(...)
+    final Throwable e = execution.exception.get();
+    if (e != null)
+      Throwing.rethrow(e);
+  }
+
+  /**
+   * The state of an execution of {@link #executeInParallel(Executor,Consumer)},
+   * with the number of incomplete predecessors of each vertex index, and the
+   * number of active tasks, which includes a task for the calling thread while
+   * it submits the vertices without incoming edges.
+   *
+   * @param <K> The type of the vertices.
+   */
+  private static final class Execution<K> {
+    private final Executor executor;
+    private final Consumer<? super K> action;
+    private final Object[] keys;
+    private final int[][] successors;
+    private final AtomicIntegerArray remaining;
+    private final AtomicInteger active = new AtomicInteger(1);
+    private final AtomicReference<Throwable> exception = new AtomicReference<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private Execution(final Executor executor, final Consumer<? super K> action, final Object[] keys, final int[][] successors, final int[] inDegrees) {
+      this.executor = executor;
+      this.action = action;
+      this.keys = keys;
+      this.successors = successors;
+      this.remaining = new AtomicIntegerArray(inDegrees);
+    }
+
+    private void submit(final int v) {
+      active.incrementAndGet();
+      try {
+        executor.execute(() -> run(v));
+      }
+      catch (final RuntimeException e) {
+        fail(e);
+        complete();
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void run(int v) {
+      try {
+        do {
+          action.accept((K)keys[v]);
+          int next = -1;
+          for (final int w : successors[v]) {
+            if (w != v && remaining.decrementAndGet(w) == 0 && exception.get() == null) {
+              if (next != -1)
+                submit(next);
+
+              next = w;
+            }
+          }
+
+          v = next;
+        }
+        while (v != -1 && exception.get() == null);
+      }
+      catch (final Throwable e) {
+        fail(e);
+      }
+      finally {
+        complete();
+      }
+    }
+
+    private void fail(final Throwable e) {
+      if (!exception.compareAndSet(null, e))
+        exception.get().addSuppressed(e);
+    }
+
+    private void complete() {
+      if (active.decrementAndGet() == 0)
+        done.countDown();
+    }
   }
 
   /**
@@ -824,10 +1614,10 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
       final AbstractDigraph<K,V> clone = (AbstractDigraph<K,V>)super.clone();
       clone.objectToIndex = objectToIndex.clone();
       clone.indexToObject = clone.objectToIndex.reverse();
-      clone.adj = (ArrayList<LinkedHashSet<Integer>>)adj.clone();
+      clone.adj = (ArrayList<Edges>)adj.clone();
       for (int i = 0, len = clone.adj.size(); i < len; ++i) {
-        final LinkedHashSet<Integer> set = clone.adj.get(i);
-        clone.adj.set(i, set == null ? null : (LinkedHashSet<Integer>)set.clone());
+        final Edges set = clone.adj.get(i);
+        clone.adj.set(i, set == null ? null : set.clone());
       }
 
       clone.adjEdges = null;
@@ -836,7 +1626,11 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
       clone.flatAdj = flatAdj == null ? null : flatAdj.clone();
       clone.inDegree = inDegree.clone();
       clone.cycle = cycle == null ? null : (ArrayList<K>)cycle.clone();
-      clone.reversePostOrder = reversePostOrder == null ? null : (ArrayList<K>)reversePostOrder.clone();
+      clone.topologicalOrder = topologicalOrder == null ? null : topologicalOrder.clone();
+      clone.topologicalPositions = topologicalPositions == null ? null : topologicalPositions.clone();
+      clone.visited = null;
+      clone.parent = null;
+      clone.componentOf = componentOf == null ? null : componentOf.clone();
       return clone;
     }
     catch (final CloneNotSupportedException e) {
@@ -921,11 +1715,11 @@ abstract class AbstractDigraph<K,V> implements Map<K,Set<V>>, Cloneable {
     final StringBuilder builder = new StringBuilder();
     for (int v = 0, len = adj.size(); v < len; ++v) {
       final Object obj = indexToObject.get(v);
-      final LinkedHashSet<Integer> ws = adj.get(v);
+      final Edges ws = adj.get(v);
       builder.append(obj).append(':');
       if (ws != null)
-        for (final int w : ws)
-          builder.append(' ').append(indexToObject.get(w));
+        for (int i = 0, size = ws.size(); i < size; ++i)
+          builder.append(' ').append(indexToObject.get(ws.get(i)));
 
       if (v < adj.size() - 1)
         builder.append('\n');
@@ -0,0 +1,243 @@
+/* Copyright (c) 2014 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton of a set of patterns, with which all patterns are
+ * searched for in a single pass over the input, at a cost per input symbol that
+ * is independent of the number of patterns.
+ * <p>
+ * The states of the automaton are the nodes of the trie of the patterns. The
+ * transitions of each state are stored as sorted arrays of labels and targets,
+ * and a symbol with no transition follows the failure links of the states (the
+ * longest proper suffix of the string of a state that is also a prefix of a
+ * pattern) until a state with a transition is found. If the alphabet is small
+ * (i.e. {@code byte} symbols) and the automaton has few states, the failure
+ * links are resolved in advance into a table of the transitions of every state
+ * for every symbol, such that each input symbol costs a single array lookup.
+ * <p>
+ * For a single pattern, the failure links are the border table of the
+ * Knuth-Morris-Pratt algorithm.
+ */
+final class AhoCorasick {
+  /** The maximum length of the table of the transitions of every state for every symbol. */
+  private static final int MAX_TABLE_LENGTH = 1 << 18;
+
+  /** The initial state. */
+  static final int ROOT = 0;
+
+  private final int[] first;
+  private final int[] labels;
+  private final int[] targets;
+  private final int[] fail;
+  private final int[] match;
+  private final int[] table;
+  private final int bits;
+
+  /**
+   * Creates a new {@link AhoCorasick} automaton of the specified patterns of
+   * {@code char} symbols.
+   *
+   * @param patterns The patterns.
+   * @throws IllegalArgumentException If {@code patterns} or a pattern is
+   *           empty.
+   * @throws NullPointerException If {@code patterns} or a pattern is null.
+   */
+  AhoCorasick(final char[][] patterns) {
+    this(toSymbols(patterns), Character.SIZE);
+  }
+
+  /**
+   * Creates a new {@link AhoCorasick} automaton of the specified patterns of
+   * {@code byte} symbols.
+   *
+   * @param patterns The patterns.
+   * @throws IllegalArgumentException If {@code patterns} or a pattern is
+   *           empty.
+   * @throws NullPointerException If {@code patterns} or a pattern is null.
+   */
+  AhoCorasick(final byte[][] patterns) {
+    this(toSymbols(patterns), java.lang.Byte.SIZE);
+  }
+
+  private static int[][] toSymbols(final char[][] patterns) {
+    final int[][] symbols = new int[patterns.length][];
+    for (int p = 0; p < patterns.length; ++p) {
+      final char[] pattern = patterns[p];
+      final int[] s = symbols[p] = new int[pattern.length];
+      for (int i = 0; i < pattern.length; ++i)
+        s[i] = pattern[i];
+    }
+
+    return symbols;
+  }
+
+  private static int[][] toSymbols(final byte[][] patterns) {
+    final int[][] symbols = new int[patterns.length][];
+    for (int p = 0; p < patterns.length; ++p) {
+      final byte[] pattern = patterns[p];
+      final int[] s = symbols[p] = new int[pattern.length];
+      for (int i = 0; i < pattern.length; ++i)
+        s[i] = pattern[i] & 0xFF;
+    }
+
+    return symbols;
+  }
+
+  private AhoCorasick(final int[][] patterns, final int bits) {
+    if (patterns.length == 0)
+      throw new IllegalArgumentException("patterns is empty");
+
+    // Build the trie, in which the lowest index of the patterns of each state is recorded
+    final ArrayList<TreeMap<Integer,Integer>> trie = new ArrayList<>();
+    final ArrayList<Integer> own = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    own.add(-1);
+    for (int p = 0; p < patterns.length; ++p) {
+      final int[] pattern = patterns[p];
+      if (pattern.length == 0)
+        throw new IllegalArgumentException("patterns[" + p + "] is empty");
+
+      int state = ROOT;
+      for (final int symbol : pattern) {
+        final Integer next = trie.get(state).get(symbol);
+        if (next != null) {
+          state = next;
+        }
+        else {
+          trie.get(state).put(symbol, trie.size());
+          state = trie.size();
+          trie.add(new TreeMap<>());
+          own.add(-1);
+        }
+      }
+
+      if (own.get(state) == -1)
+        own.set(state, p);
+    }
+
+    final int states = trie.size();
+    this.first = new int[states + 1];
+    for (int s = 0; s < states; ++s)
+      first[s + 1] = first[s] + trie.get(s).size();
+
+    this.labels = new int[first[states]];
+    this.targets = new int[first[states]];
+    for (int s = 0; s < states; ++s) {
+      int i = first[s];
+      for (final Map.Entry<Integer,Integer> entry : trie.get(s).entrySet()) {
+        labels[i] = entry.getKey();
+        targets[i++] = entry.getValue();
+      }
+    }
+
+    // Compute the failure links and matches in breadth-first order, such that the failure link of a state precedes it
+    this.fail = new int[states];
+    this.match = new int[states];
+    final int[] queue = new int[states];
+    match[ROOT] = -1;
+    int tail = 0;
+    for (int i = first[ROOT]; i < first[ROOT + 1]; ++i) {
+      final int t = targets[i];
+      fail[t] = ROOT;
+      match[t] = own.get(t);
+      queue[tail++] = t;
+    }
+
+    for (int head = 0; head < tail; ++head) {
+      final int s = queue[head];
+      for (int i = first[s]; i < first[s + 1]; ++i) {
+        final int t = targets[i];
+        final int f = fail[t] = next(fail[s], labels[i]);
+        final int o = own.get(t);
+        match[t] = o == -1 ? match[f] : match[f] == -1 ? o : Math.min(o, match[f]);
+        queue[tail++] = t;
+      }
+    }
+
+    this.bits = bits;
+    if (bits > java.lang.Byte.SIZE || states > MAX_TABLE_LENGTH >> bits) {
+      this.table = null;
+    }
+    else {
+      final int size = 1 << bits;
+      final int[] table = new int[states << bits];
+      for (int i = first[ROOT]; i < first[ROOT + 1]; ++i)
+        table[labels[i]] = targets[i];
+
+      for (int head = 0; head < tail; ++head) {
+        final int s = queue[head];
+        System.arraycopy(table, fail[s] << bits, table, s << bits, size);
+        for (int i = first[s]; i < first[s + 1]; ++i)
+          table[s << bits | labels[i]] = targets[i];
+      }
+
+      this.table = table;
+    }
+  }
+
+  /**
+   * Returns the transition of the specified state for the specified symbol in
+   * the trie, or {@code -1} if there is none.
+   */
+  private int child(final int state, final int symbol) {
+    final int i = Arrays.binarySearch(labels, first[state], first[state + 1], symbol);
+    return i < 0 ? -1 : targets[i];
+  }
+
+  /**
+   * Returns the state of the automaton after the specified symbol is read in
+   * the specified state.
+   *
+   * @param state The state.
+   * @param symbol The symbol.
+   * @return The state of the automaton after the specified symbol is read in
+   *         the specified state.
+   */
+  int next(int state, final int symbol) {
+    if (table != null)
+      return table[state << bits | symbol];
+
+    while (true) {
+      final int child = child(state, symbol);
+      if (child != -1)
+        return child;
+
+      if (state == ROOT)
+        return ROOT;
+
+      state = fail[state];
+    }
+  }
+
+  /**
+   * Returns the lowest index of the patterns that end in the specified state,
+   * or {@code -1} if no pattern ends in the specified state.
+   *
+   * @param state The state.
+   * @return The lowest index of the patterns that end in the specified state,
+   *         or {@code -1} if no pattern ends in the specified state.
+   */
+  int match(final int state) {
+    return match[state];
+  }
+}
\ No newline at end of file
@@ -750,6 +750,63 @@ public final class ArrayUtil extends PrimitiveSort {
     return (fromIndex + toIndex) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted array whose values most closely match the
+   * values provided, as per {@link #binaryClosestSearch(byte[],byte)}.
+   * <p>
+   * The keys are searched in order, and a key that is not less than its
+   * preceding key is searched with an exponential search from the index found
+   * for the preceding key. A batch of keys sorted in ascending order is thus
+   * searched in {@code O(m log(n / m))} time, for {@code m} keys in an array
+   * of {@code n} values. Each search is a branchless lower bound search, such
+   * that the index of the first matching value is returned for a key that
+   * matches a value of the array.
+   *
+   * @param a The sorted array.
+   * @param keys The values to match.
+   * @param results The array into which the index for each key is written.
+   * @throws NullPointerException If {@code a}, {@code keys}, or
+   *           {@code results} is null.
+   * @throws IllegalArgumentException If {@code results.length < keys.length}.
+   * @see org.libj.util.primitive.EytzingerByteIndex
+   */
+  public static void binaryClosestSearch(final byte[] a, final byte[] keys, final int[] results) {
+    if (results.length < keys.length)
+      throw new IllegalArgumentException("results.length [" + results.length + "] must be greater than or equal to keys.length [" + keys.length + "]");
+
+    final ByteComparator c = ByteComparator.NATURAL;
+    final int len = a.length;
+    int lo = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      final byte key = keys[i];
+      if (i > 0 && c.compare(key, keys[i - 1]) < 0)
+        lo = 0;
+
+      // All values before lo are less than the key
+      int hi = lo;
+      for (int step = 1; hi < len && c.compare(a[hi], key) < 0; step <<= 1) {
+        lo = hi + 1;
+        hi += step;
+      }
+
+      results[i] = lo = lowerBound(a, lo, hi < len ? hi : len, key, c);
+    }
+  }
+
+  private static int lowerBound(final byte[] a, final int fromIndex, final int toIndex, final byte key, final ByteComparator c) {
+    int n = toIndex - fromIndex;
+    if (n == 0)
+      return fromIndex;
+
+    int base = fromIndex;
+    for (int half; n > 1; n -= half) {
+      half = n >>> 1;
+      base += (c.compare(a[base + half], key) >>> 31) * half;
+    }
+
+    return base + (c.compare(a[base], key) >>> 31);
+  }
+
   /**
    * Find the index of the sorted array whose value most closely matches the
    * value provided. The returned index will be less than or equal to an exact
@@ -821,6 +878,63 @@ public final class ArrayUtil extends PrimitiveSort {
     return (fromIndex + toIndex) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted array whose values most closely match the
+   * values provided, as per {@link #binaryClosestSearch(short[],short)}.
+   * <p>
+   * The keys are searched in order, and a key that is not less than its
+   * preceding key is searched with an exponential search from the index found
+   * for the preceding key. A batch of keys sorted in ascending order is thus
+   * searched in {@code O(m log(n / m))} time, for {@code m} keys in an array
+   * of {@code n} values. Each search is a branchless lower bound search, such
+   * that the index of the first matching value is returned for a key that
+   * matches a value of the array.
+   *
+   * @param a The sorted array.
+   * @param keys The values to match.
+   * @param results The array into which the index for each key is written.
+   * @throws NullPointerException If {@code a}, {@code keys}, or
+   *           {@code results} is null.
+   * @throws IllegalArgumentException If {@code results.length < keys.length}.
+   * @see org.libj.util.primitive.EytzingerShortIndex
+   */
+  public static void binaryClosestSearch(final short[] a, final short[] keys, final int[] results) {
+    if (results.length < keys.length)
+      throw new IllegalArgumentException("results.length [" + results.length + "] must be greater than or equal to keys.length [" + keys.length + "]");
+
+    final ShortComparator c = ShortComparator.NATURAL;
+    final int len = a.length;
+    int lo = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      final short key = keys[i];
+      if (i > 0 && c.compare(key, keys[i - 1]) < 0)
+        lo = 0;
+
+      // All values before lo are less than the key
+      int hi = lo;
+      for (int step = 1; hi < len && c.compare(a[hi], key) < 0; step <<= 1) {
+        lo = hi + 1;
+        hi += step;
+      }
+
+      results[i] = lo = lowerBound(a, lo, hi < len ? hi : len, key, c);
+    }
+  }
+
+  private static int lowerBound(final short[] a, final int fromIndex, final int toIndex, final short key, final ShortComparator c) {
+    int n = toIndex - fromIndex;
+    if (n == 0)
+      return fromIndex;
+
+    int base = fromIndex;
+    for (int half; n > 1; n -= half) {
+      half = n >>> 1;
+      base += (c.compare(a[base + half], key) >>> 31) * half;
+    }
+
+    return base + (c.compare(a[base], key) >>> 31);
+  }
+
   /**
    * Find the index of the sorted array whose value most closely matches the
    * value provided. The returned index will be less than or equal to an exact
@@ -892,6 +1006,63 @@ public final class ArrayUtil extends PrimitiveSort {
     return (fromIndex + toIndex) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted array whose values most closely match the
+   * values provided, as per {@link #binaryClosestSearch(int[],int)}.
+   * <p>
+   * The keys are searched in order, and a key that is not less than its
+   * preceding key is searched with an exponential search from the index found
+   * for the preceding key. A batch of keys sorted in ascending order is thus
+   * searched in {@code O(m log(n / m))} time, for {@code m} keys in an array
+   * of {@code n} values. Each search is a branchless lower bound search, such
+   * that the index of the first matching value is returned for a key that
+   * matches a value of the array.
+   *
+   * @param a The sorted array.
+   * @param keys The values to match.
+   * @param results The array into which the index for each key is written.
+   * @throws NullPointerException If {@code a}, {@code keys}, or
+   *           {@code results} is null.
+   * @throws IllegalArgumentException If {@code results.length < keys.length}.
+   * @see org.libj.util.primitive.EytzingerIntIndex
+   */
+  public static void binaryClosestSearch(final int[] a, final int[] keys, final int[] results) {
+    if (results.length < keys.length)
+      throw new IllegalArgumentException("results.length [" + results.length + "] must be greater than or equal to keys.length [" + keys.length + "]");
+
+    final IntComparator c = IntComparator.NATURAL;
+    final int len = a.length;
+    int lo = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      final int key = keys[i];
+      if (i > 0 && c.compare(key, keys[i - 1]) < 0)
+        lo = 0;
+
+      // All values before lo are less than the key
+      int hi = lo;
+      for (int step = 1; hi < len && c.compare(a[hi], key) < 0; step <<= 1) {
+        lo = hi + 1;
+        hi += step;
+      }
+
+      results[i] = lo = lowerBound(a, lo, hi < len ? hi : len, key, c);
+    }
+  }
+
+  private static int lowerBound(final int[] a, final int fromIndex, final int toIndex, final int key, final IntComparator c) {
+    int n = toIndex - fromIndex;
+    if (n == 0)
+      return fromIndex;
+
+    int base = fromIndex;
+    for (int half; n > 1; n -= half) {
+      half = n >>> 1;
+      base += (c.compare(a[base + half], key) >>> 31) * half;
+    }
+
+    return base + (c.compare(a[base], key) >>> 31);
+  }
+
   /**
    * Find the index of the sorted array whose value most closely matches the
    * value provided. The returned index will be less than or equal to an exact
@@ -963,6 +1134,63 @@ public final class ArrayUtil extends PrimitiveSort {
     return (fromIndex + toIndex) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted array whose values most closely match the
+   * values provided, as per {@link #binaryClosestSearch(float[],float)}.
+   * <p>
+   * The keys are searched in order, and a key that is not less than its
+   * preceding key is searched with an exponential search from the index found
+   * for the preceding key. A batch of keys sorted in ascending order is thus
+   * searched in {@code O(m log(n / m))} time, for {@code m} keys in an array
+   * of {@code n} values. Each search is a branchless lower bound search, such
+   * that the index of the first matching value is returned for a key that
+   * matches a value of the array.
+   *
+   * @param a The sorted array.
+   * @param keys The values to match.
+   * @param results The array into which the index for each key is written.
+   * @throws NullPointerException If {@code a}, {@code keys}, or
+   *           {@code results} is null.
+   * @throws IllegalArgumentException If {@code results.length < keys.length}.
+   * @see org.libj.util.primitive.EytzingerFloatIndex
+   */
+  public static void binaryClosestSearch(final float[] a, final float[] keys, final int[] results) {
+    if (results.length < keys.length)
+      throw new IllegalArgumentException("results.length [" + results.length + "] must be greater than or equal to keys.length [" + keys.length + "]");
+
+    final FloatComparator c = FloatComparator.NATURAL;
+    final int len = a.length;
+    int lo = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      final float key = keys[i];
+      if (i > 0 && c.compare(key, keys[i - 1]) < 0)
+        lo = 0;
+
+      // All values before lo are less than the key
+      int hi = lo;
+      for (int step = 1; hi < len && c.compare(a[hi], key) < 0; step <<= 1) {
+        lo = hi + 1;
+        hi += step;
+      }
+
+      results[i] = lo = lowerBound(a, lo, hi < len ? hi : len, key, c);
+    }
+  }
+
+  private static int lowerBound(final float[] a, final int fromIndex, final int toIndex, final float key, final FloatComparator c) {
+    int n = toIndex - fromIndex;
+    if (n == 0)
+      return fromIndex;
+
+    int base = fromIndex;
+    for (int half; n > 1; n -= half) {
+      half = n >>> 1;
+      base += (c.compare(a[base + half], key) >>> 31) * half;
+    }
+
+    return base + (c.compare(a[base], key) >>> 31);
+  }
+
   /**
    * Find the index of the sorted array whose value most closely matches the
    * value provided. The returned index will be less than or equal to an exact
@@ -1034,6 +1262,63 @@ public final class ArrayUtil extends PrimitiveSort {
     return (fromIndex + toIndex) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted array whose values most closely match the
+   * values provided, as per {@link #binaryClosestSearch(double[],double)}.
+   * <p>
+   * The keys are searched in order, and a key that is not less than its
+   * preceding key is searched with an exponential search from the index found
+   * for the preceding key. A batch of keys sorted in ascending order is thus
+   * searched in {@code O(m log(n / m))} time, for {@code m} keys in an array
+   * of {@code n} values. Each search is a branchless lower bound search, such
+   * that the index of the first matching value is returned for a key that
+   * matches a value of the array.
+   *
+   * @param a The sorted array.
+   * @param keys The values to match.
+   * @param results The array into which the index for each key is written.
+   * @throws NullPointerException If {@code a}, {@code keys}, or
+   *           {@code results} is null.
+   * @throws IllegalArgumentException If {@code results.length < keys.length}.
+   * @see org.libj.util.primitive.EytzingerDoubleIndex
+   */
+  public static void binaryClosestSearch(final double[] a, final double[] keys, final int[] results) {
+    if (results.length < keys.length)
+      throw new IllegalArgumentException("results.length [" + results.length + "] must be greater than or equal to keys.length [" + keys.length + "]");
+
+    final DoubleComparator c = DoubleComparator.NATURAL;
+    final int len = a.length;
+    int lo = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      final double key = keys[i];
+      if (i > 0 && c.compare(key, keys[i - 1]) < 0)
+        lo = 0;
+
+      // All values before lo are less than the key
+      int hi = lo;
+      for (int step = 1; hi < len && c.compare(a[hi], key) < 0; step <<= 1) {
+        lo = hi + 1;
+        hi += step;
+      }
+
+      results[i] = lo = lowerBound(a, lo, hi < len ? hi : len, key, c);
+    }
+  }
+
+  private static int lowerBound(final double[] a, final int fromIndex, final int toIndex, final double key, final DoubleComparator c) {
+    int n = toIndex - fromIndex;
+    if (n == 0)
+      return fromIndex;
+
+    int base = fromIndex;
+    for (int half; n > 1; n -= half) {
+      half = n >>> 1;
+      base += (c.compare(a[base + half], key) >>> 31) * half;
+    }
+
+    return base + (c.compare(a[base], key) >>> 31);
+  }
+
   /**
    * Find the index of the sorted array whose value most closely matches the
    * value provided. The returned index will be less than or equal to an exact
@@ -1105,6 +1390,63 @@ public final class ArrayUtil extends PrimitiveSort {
     return (fromIndex + toIndex) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted array whose values most closely match the
+   * values provided, as per {@link #binaryClosestSearch(long[],long)}.
+   * <p>
+   * The keys are searched in order, and a key that is not less than its
+   * preceding key is searched with an exponential search from the index found
+   * for the preceding key. A batch of keys sorted in ascending order is thus
+   * searched in {@code O(m log(n / m))} time, for {@code m} keys in an array
+   * of {@code n} values. Each search is a branchless lower bound search, such
+   * that the index of the first matching value is returned for a key that
+   * matches a value of the array.
+   *
+   * @param a The sorted array.
+   * @param keys The values to match.
+   * @param results The array into which the index for each key is written.
+   * @throws NullPointerException If {@code a}, {@code keys}, or
+   *           {@code results} is null.
+   * @throws IllegalArgumentException If {@code results.length < keys.length}.
+   * @see org.libj.util.primitive.EytzingerLongIndex
+   */
+  public static void binaryClosestSearch(final long[] a, final long[] keys, final int[] results) {
+    if (results.length < keys.length)
+      throw new IllegalArgumentException("results.length [" + results.length + "] must be greater than or equal to keys.length [" + keys.length + "]");
+
+    final LongComparator c = LongComparator.NATURAL;
+    final int len = a.length;
+    int lo = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      final long key = keys[i];
+      if (i > 0 && c.compare(key, keys[i - 1]) < 0)
+        lo = 0;
+
+      // All values before lo are less than the key
+      int hi = lo;
+      for (int step = 1; hi < len && c.compare(a[hi], key) < 0; step <<= 1) {
+        lo = hi + 1;
+        hi += step;
+      }
+
+      results[i] = lo = lowerBound(a, lo, hi < len ? hi : len, key, c);
+    }
+  }
+
+  private static int lowerBound(final long[] a, final int fromIndex, final int toIndex, final long key, final LongComparator c) {
+    int n = toIndex - fromIndex;
+    if (n == 0)
+      return fromIndex;
+
+    int base = fromIndex;
+    for (int half; n > 1; n -= half) {
+      half = n >>> 1;
+      base += (c.compare(a[base + half], key) >>> 31) * half;
+    }
+
+    return base + (c.compare(a[base], key) >>> 31);
+  }
+
   /**
    * Replace all members of the provided array with the provided
    * {@link UnaryOperator}.
@@ -4365,6 +4707,10 @@ public final class ArrayUtil extends PrimitiveSort {
   /**
    * Sorts the specified array of {@code int}s, according to the specified
    * {@link IntComparator}.
+   * <p>
+   * If {@code c} is null or {@link IntComparator#NATURAL}, and the range
+   * contains at least {@link #RADIX_SORT_THRESHOLD} values, the range is
+   * sorted with a stable LSD radix sort.
    *
    * @param a The array of {@code int}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
@@ -4375,6 +4721,8 @@ public final class ArrayUtil extends PrimitiveSort {
   public static void sort(final int[] a, final int fromIndex, final int toIndex, final IntComparator c) {
     if (c != null)
       PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else if (toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      PrimitiveSort.radixSort(a, fromIndex, toIndex);
     else
       Arrays.sort(a, fromIndex, toIndex);
   }
@@ -4394,6 +4742,10 @@ public final class ArrayUtil extends PrimitiveSort {
   /**
    * Sorts the specified array of {@code long}s, according to the specified
    * {@link LongComparator}.
+   * <p>
+   * If {@code c} is null or {@link LongComparator#NATURAL}, and the range
+   * contains at least {@link #RADIX_SORT_THRESHOLD} values, the range is
+   * sorted with a stable LSD radix sort.
    *
    * @param a The array of {@code long}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
@@ -4404,6 +4756,8 @@ public final class ArrayUtil extends PrimitiveSort {
   public static void sort(final long[] a, final int fromIndex, final int toIndex, final LongComparator c) {
     if (c != null)
       PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else if (toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      PrimitiveSort.radixSort(a, fromIndex, toIndex);
     else
       Arrays.sort(a, fromIndex, toIndex);
   }
@@ -4423,6 +4777,10 @@ public final class ArrayUtil extends PrimitiveSort {
   /**
    * Sorts the specified array of {@code float}s, according to the specified
    * {@link FloatComparator}.
+   * <p>
+   * If {@code c} is null or {@link FloatComparator#NATURAL}, and the range
+   * contains at least {@link #RADIX_SORT_THRESHOLD} values, the range is
+   * sorted with a stable LSD radix sort.
    *
    * @param a The array of {@code float}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
@@ -4433,6 +4791,8 @@ public final class ArrayUtil extends PrimitiveSort {
   public static void sort(final float[] a, final int fromIndex, final int toIndex, final FloatComparator c) {
     if (c != null)
       PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else if (toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      PrimitiveSort.radixSort(a, fromIndex, toIndex);
     else
       Arrays.sort(a, fromIndex, toIndex);
   }
@@ -4452,6 +4812,10 @@ public final class ArrayUtil extends PrimitiveSort {
   /**
    * Sorts the specified array of {@code double}s, according to the specified
    * {@link DoubleComparator}.
+   * <p>
+   * If {@code c} is null or {@link DoubleComparator#NATURAL}, and the range
+   * contains at least {@link #RADIX_SORT_THRESHOLD} values, the range is
+   * sorted with a stable LSD radix sort.
    *
    * @param a The array of {@code double}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
@@ -4462,10 +4826,1405 @@ public final class ArrayUtil extends PrimitiveSort {
   public static void sort(final double[] a, final int fromIndex, final int toIndex, final DoubleComparator c) {
     if (c != null)
       PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else if (toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      PrimitiveSort.radixSort(a, fromIndex, toIndex);
     else
       Arrays.sort(a, fromIndex, toIndex);
   }
 
+  /**
+   * Rearranges the specified array of {@code byte}s such that the value at index
+   * {@code k} is the value that would be at that index if the array were
+   * sorted, no value before index {@code k} is greater than it, and no value
+   * after index {@code k} is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code byte}s.
+   * @param k The index of the value to select.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length <= k}.
+   */
+  public static byte select(final byte[] a, final int k) {
+    return select(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code byte}s, according to
+   * the specified {@link ByteComparator}, such that the value at index
+   * {@code fromIndex + k} is the value that would be at that index if the range
+   * were sorted, no value in the range before it is greater than it, and no
+   * value in the range after it is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, relative to {@code fromIndex}.
+   * @param c The {@link ByteComparator}, or {@code null} for natural order.
+   * @return The value at index {@code fromIndex + k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex <= k}.
+   */
+  public static byte select(final byte[] a, final int fromIndex, final int toIndex, final int k, final ByteComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(k, toIndex - fromIndex);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, fromIndex + k, c != null ? c : ByteComparator.NATURAL);
+    return a[fromIndex + k];
+  }
+
+  /**
+   * Rearranges the specified array of {@code byte}s such that its first
+   * {@code k} values are its {@code k} least values, in ascending order. The
+   * order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code byte}s.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length < k}.
+   */
+  public static void partialSort(final byte[] a, final int k) {
+    partialSort(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code byte}s, according to
+   * the specified {@link ByteComparator}, such that the first {@code k} values
+   * of the range are its {@code k} least values, in sorted order. The order of
+   * the remaining values of the range is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The {@link ByteComparator}, or {@code null} for natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex < k}.
+   */
+  public static void partialSort(final byte[] a, final int fromIndex, final int toIndex, final int k, final ByteComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(0, k, toIndex - fromIndex);
+    PrimitiveSort.partialSort(a, null, fromIndex, toIndex, k, c != null ? c : ByteComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted in ascending order, and the values of {@code data} are moved in
+   * tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static byte select(final Object[] data, final byte[] order, final int k) {
+    return select(data, order, k, ByteComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted according to the specified {@link ByteComparator}, and the values of
+   * {@code data} are moved in tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static byte select(final Object[] data, final byte[] order, final int k, final ByteComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(k, order.length);
+    PrimitiveSort.select(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+    return order[k];
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values, in ascending order, and the
+   * values of {@code data} are moved in tandem. The order of the remaining
+   * values is unspecified.
+   * <p>
+   * For example, to retrieve the top 100 rows of {@code data} by descending
+   * {@code score}:
+   *
+   * <pre>
+   * {@code
+   * ArrayUtil.partialSort(data, score, 100, ByteComparator.REVERSE);
+   * }
+   * </pre>
+   *
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final byte[] order, final int k) {
+    partialSort(data, order, k, ByteComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values according to the specified
+   * {@link ByteComparator}, in sorted order, and the values of {@code data} are
+   * moved in tandem. The order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final byte[] order, final int k, final ByteComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(0, k, order.length);
+    PrimitiveSort.partialSort(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Rearranges the specified array of {@code char}s such that the value at index
+   * {@code k} is the value that would be at that index if the array were
+   * sorted, no value before index {@code k} is greater than it, and no value
+   * after index {@code k} is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code char}s.
+   * @param k The index of the value to select.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length <= k}.
+   */
+  public static char select(final char[] a, final int k) {
+    return select(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code char}s, according to
+   * the specified {@link CharComparator}, such that the value at index
+   * {@code fromIndex + k} is the value that would be at that index if the range
+   * were sorted, no value in the range before it is greater than it, and no
+   * value in the range after it is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, relative to {@code fromIndex}.
+   * @param c The {@link CharComparator}, or {@code null} for natural order.
+   * @return The value at index {@code fromIndex + k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex <= k}.
+   */
+  public static char select(final char[] a, final int fromIndex, final int toIndex, final int k, final CharComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(k, toIndex - fromIndex);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, fromIndex + k, c != null ? c : CharComparator.NATURAL);
+    return a[fromIndex + k];
+  }
+
+  /**
+   * Rearranges the specified array of {@code char}s such that its first
+   * {@code k} values are its {@code k} least values, in ascending order. The
+   * order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code char}s.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length < k}.
+   */
+  public static void partialSort(final char[] a, final int k) {
+    partialSort(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code char}s, according to
+   * the specified {@link CharComparator}, such that the first {@code k} values
+   * of the range are its {@code k} least values, in sorted order. The order of
+   * the remaining values of the range is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The {@link CharComparator}, or {@code null} for natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex < k}.
+   */
+  public static void partialSort(final char[] a, final int fromIndex, final int toIndex, final int k, final CharComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(0, k, toIndex - fromIndex);
+    PrimitiveSort.partialSort(a, null, fromIndex, toIndex, k, c != null ? c : CharComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted in ascending order, and the values of {@code data} are moved in
+   * tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static char select(final Object[] data, final char[] order, final int k) {
+    return select(data, order, k, CharComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted according to the specified {@link CharComparator}, and the values of
+   * {@code data} are moved in tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static char select(final Object[] data, final char[] order, final int k, final CharComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(k, order.length);
+    PrimitiveSort.select(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+    return order[k];
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values, in ascending order, and the
+   * values of {@code data} are moved in tandem. The order of the remaining
+   * values is unspecified.
+   * <p>
+   * For example, to retrieve the top 100 rows of {@code data} by descending
+   * {@code score}:
+   *
+   * <pre>
+   * {@code
+   * ArrayUtil.partialSort(data, score, 100, CharComparator.REVERSE);
+   * }
+   * </pre>
+   *
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final char[] order, final int k) {
+    partialSort(data, order, k, CharComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values according to the specified
+   * {@link CharComparator}, in sorted order, and the values of {@code data} are
+   * moved in tandem. The order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final char[] order, final int k, final CharComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(0, k, order.length);
+    PrimitiveSort.partialSort(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Rearranges the specified array of {@code short}s such that the value at index
+   * {@code k} is the value that would be at that index if the array were
+   * sorted, no value before index {@code k} is greater than it, and no value
+   * after index {@code k} is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code short}s.
+   * @param k The index of the value to select.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length <= k}.
+   */
+  public static short select(final short[] a, final int k) {
+    return select(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code short}s, according to
+   * the specified {@link ShortComparator}, such that the value at index
+   * {@code fromIndex + k} is the value that would be at that index if the range
+   * were sorted, no value in the range before it is greater than it, and no
+   * value in the range after it is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, relative to {@code fromIndex}.
+   * @param c The {@link ShortComparator}, or {@code null} for natural order.
+   * @return The value at index {@code fromIndex + k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex <= k}.
+   */
+  public static short select(final short[] a, final int fromIndex, final int toIndex, final int k, final ShortComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(k, toIndex - fromIndex);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, fromIndex + k, c != null ? c : ShortComparator.NATURAL);
+    return a[fromIndex + k];
+  }
+
+  /**
+   * Rearranges the specified array of {@code short}s such that its first
+   * {@code k} values are its {@code k} least values, in ascending order. The
+   * order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code short}s.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length < k}.
+   */
+  public static void partialSort(final short[] a, final int k) {
+    partialSort(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code short}s, according to
+   * the specified {@link ShortComparator}, such that the first {@code k} values
+   * of the range are its {@code k} least values, in sorted order. The order of
+   * the remaining values of the range is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The {@link ShortComparator}, or {@code null} for natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex < k}.
+   */
+  public static void partialSort(final short[] a, final int fromIndex, final int toIndex, final int k, final ShortComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(0, k, toIndex - fromIndex);
+    PrimitiveSort.partialSort(a, null, fromIndex, toIndex, k, c != null ? c : ShortComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted in ascending order, and the values of {@code data} are moved in
+   * tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static short select(final Object[] data, final short[] order, final int k) {
+    return select(data, order, k, ShortComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted according to the specified {@link ShortComparator}, and the values of
+   * {@code data} are moved in tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static short select(final Object[] data, final short[] order, final int k, final ShortComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(k, order.length);
+    PrimitiveSort.select(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+    return order[k];
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values, in ascending order, and the
+   * values of {@code data} are moved in tandem. The order of the remaining
+   * values is unspecified.
+   * <p>
+   * For example, to retrieve the top 100 rows of {@code data} by descending
+   * {@code score}:
+   *
+   * <pre>
+   * {@code
+   * ArrayUtil.partialSort(data, score, 100, ShortComparator.REVERSE);
+   * }
+   * </pre>
+   *
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final short[] order, final int k) {
+    partialSort(data, order, k, ShortComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values according to the specified
+   * {@link ShortComparator}, in sorted order, and the values of {@code data} are
+   * moved in tandem. The order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final short[] order, final int k, final ShortComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(0, k, order.length);
+    PrimitiveSort.partialSort(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Rearranges the specified array of {@code int}s such that the value at index
+   * {@code k} is the value that would be at that index if the array were
+   * sorted, no value before index {@code k} is greater than it, and no value
+   * after index {@code k} is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code int}s.
+   * @param k The index of the value to select.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length <= k}.
+   */
+  public static int select(final int[] a, final int k) {
+    return select(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code int}s, according to
+   * the specified {@link IntComparator}, such that the value at index
+   * {@code fromIndex + k} is the value that would be at that index if the range
+   * were sorted, no value in the range before it is greater than it, and no
+   * value in the range after it is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, relative to {@code fromIndex}.
+   * @param c The {@link IntComparator}, or {@code null} for natural order.
+   * @return The value at index {@code fromIndex + k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex <= k}.
+   */
+  public static int select(final int[] a, final int fromIndex, final int toIndex, final int k, final IntComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(k, toIndex - fromIndex);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, fromIndex + k, c != null ? c : IntComparator.NATURAL);
+    return a[fromIndex + k];
+  }
+
+  /**
+   * Rearranges the specified array of {@code int}s such that its first
+   * {@code k} values are its {@code k} least values, in ascending order. The
+   * order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code int}s.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length < k}.
+   */
+  public static void partialSort(final int[] a, final int k) {
+    partialSort(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code int}s, according to
+   * the specified {@link IntComparator}, such that the first {@code k} values
+   * of the range are its {@code k} least values, in sorted order. The order of
+   * the remaining values of the range is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The {@link IntComparator}, or {@code null} for natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex < k}.
+   */
+  public static void partialSort(final int[] a, final int fromIndex, final int toIndex, final int k, final IntComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(0, k, toIndex - fromIndex);
+    PrimitiveSort.partialSort(a, null, fromIndex, toIndex, k, c != null ? c : IntComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted in ascending order, and the values of {@code data} are moved in
+   * tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static int select(final Object[] data, final int[] order, final int k) {
+    return select(data, order, k, IntComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted according to the specified {@link IntComparator}, and the values of
+   * {@code data} are moved in tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static int select(final Object[] data, final int[] order, final int k, final IntComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(k, order.length);
+    PrimitiveSort.select(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+    return order[k];
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values, in ascending order, and the
+   * values of {@code data} are moved in tandem. The order of the remaining
+   * values is unspecified.
+   * <p>
+   * For example, to retrieve the top 100 rows of {@code data} by descending
+   * {@code score}:
+   *
+   * <pre>
+   * {@code
+   * ArrayUtil.partialSort(data, score, 100, IntComparator.REVERSE);
+   * }
+   * </pre>
+   *
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final int[] order, final int k) {
+    partialSort(data, order, k, IntComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values according to the specified
+   * {@link IntComparator}, in sorted order, and the values of {@code data} are
+   * moved in tandem. The order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final int[] order, final int k, final IntComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(0, k, order.length);
+    PrimitiveSort.partialSort(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Rearranges the specified array of {@code long}s such that the value at index
+   * {@code k} is the value that would be at that index if the array were
+   * sorted, no value before index {@code k} is greater than it, and no value
+   * after index {@code k} is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code long}s.
+   * @param k The index of the value to select.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length <= k}.
+   */
+  public static long select(final long[] a, final int k) {
+    return select(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code long}s, according to
+   * the specified {@link LongComparator}, such that the value at index
+   * {@code fromIndex + k} is the value that would be at that index if the range
+   * were sorted, no value in the range before it is greater than it, and no
+   * value in the range after it is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, relative to {@code fromIndex}.
+   * @param c The {@link LongComparator}, or {@code null} for natural order.
+   * @return The value at index {@code fromIndex + k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex <= k}.
+   */
+  public static long select(final long[] a, final int fromIndex, final int toIndex, final int k, final LongComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(k, toIndex - fromIndex);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, fromIndex + k, c != null ? c : LongComparator.NATURAL);
+    return a[fromIndex + k];
+  }
+
+  /**
+   * Rearranges the specified array of {@code long}s such that its first
+   * {@code k} values are its {@code k} least values, in ascending order. The
+   * order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code long}s.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length < k}.
+   */
+  public static void partialSort(final long[] a, final int k) {
+    partialSort(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code long}s, according to
+   * the specified {@link LongComparator}, such that the first {@code k} values
+   * of the range are its {@code k} least values, in sorted order. The order of
+   * the remaining values of the range is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The {@link LongComparator}, or {@code null} for natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex < k}.
+   */
+  public static void partialSort(final long[] a, final int fromIndex, final int toIndex, final int k, final LongComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(0, k, toIndex - fromIndex);
+    PrimitiveSort.partialSort(a, null, fromIndex, toIndex, k, c != null ? c : LongComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted in ascending order, and the values of {@code data} are moved in
+   * tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static long select(final Object[] data, final long[] order, final int k) {
+    return select(data, order, k, LongComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted according to the specified {@link LongComparator}, and the values of
+   * {@code data} are moved in tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static long select(final Object[] data, final long[] order, final int k, final LongComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(k, order.length);
+    PrimitiveSort.select(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+    return order[k];
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values, in ascending order, and the
+   * values of {@code data} are moved in tandem. The order of the remaining
+   * values is unspecified.
+   * <p>
+   * For example, to retrieve the top 100 rows of {@code data} by descending
+   * {@code score}:
+   *
+   * <pre>
+   * {@code
+   * ArrayUtil.partialSort(data, score, 100, LongComparator.REVERSE);
+   * }
+   * </pre>
+   *
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final long[] order, final int k) {
+    partialSort(data, order, k, LongComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values according to the specified
+   * {@link LongComparator}, in sorted order, and the values of {@code data} are
+   * moved in tandem. The order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final long[] order, final int k, final LongComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(0, k, order.length);
+    PrimitiveSort.partialSort(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Rearranges the specified array of {@code float}s such that the value at index
+   * {@code k} is the value that would be at that index if the array were
+   * sorted, no value before index {@code k} is greater than it, and no value
+   * after index {@code k} is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code float}s.
+   * @param k The index of the value to select.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length <= k}.
+   */
+  public static float select(final float[] a, final int k) {
+    return select(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code float}s, according to
+   * the specified {@link FloatComparator}, such that the value at index
+   * {@code fromIndex + k} is the value that would be at that index if the range
+   * were sorted, no value in the range before it is greater than it, and no
+   * value in the range after it is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, relative to {@code fromIndex}.
+   * @param c The {@link FloatComparator}, or {@code null} for natural order.
+   * @return The value at index {@code fromIndex + k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex <= k}.
+   */
+  public static float select(final float[] a, final int fromIndex, final int toIndex, final int k, final FloatComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(k, toIndex - fromIndex);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, fromIndex + k, c != null ? c : FloatComparator.NATURAL);
+    return a[fromIndex + k];
+  }
+
+  /**
+   * Rearranges the specified array of {@code float}s such that its first
+   * {@code k} values are its {@code k} least values, in ascending order. The
+   * order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code float}s.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length < k}.
+   */
+  public static void partialSort(final float[] a, final int k) {
+    partialSort(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code float}s, according to
+   * the specified {@link FloatComparator}, such that the first {@code k} values
+   * of the range are its {@code k} least values, in sorted order. The order of
+   * the remaining values of the range is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The {@link FloatComparator}, or {@code null} for natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex < k}.
+   */
+  public static void partialSort(final float[] a, final int fromIndex, final int toIndex, final int k, final FloatComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(0, k, toIndex - fromIndex);
+    PrimitiveSort.partialSort(a, null, fromIndex, toIndex, k, c != null ? c : FloatComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted in ascending order, and the values of {@code data} are moved in
+   * tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static float select(final Object[] data, final float[] order, final int k) {
+    return select(data, order, k, FloatComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted according to the specified {@link FloatComparator}, and the values of
+   * {@code data} are moved in tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static float select(final Object[] data, final float[] order, final int k, final FloatComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(k, order.length);
+    PrimitiveSort.select(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+    return order[k];
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values, in ascending order, and the
+   * values of {@code data} are moved in tandem. The order of the remaining
+   * values is unspecified.
+   * <p>
+   * For example, to retrieve the top 100 rows of {@code data} by descending
+   * {@code score}:
+   *
+   * <pre>
+   * {@code
+   * ArrayUtil.partialSort(data, score, 100, FloatComparator.REVERSE);
+   * }
+   * </pre>
+   *
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final float[] order, final int k) {
+    partialSort(data, order, k, FloatComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values according to the specified
+   * {@link FloatComparator}, in sorted order, and the values of {@code data} are
+   * moved in tandem. The order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final float[] order, final int k, final FloatComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(0, k, order.length);
+    PrimitiveSort.partialSort(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Rearranges the specified array of {@code double}s such that the value at index
+   * {@code k} is the value that would be at that index if the array were
+   * sorted, no value before index {@code k} is greater than it, and no value
+   * after index {@code k} is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code double}s.
+   * @param k The index of the value to select.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length <= k}.
+   */
+  public static double select(final double[] a, final int k) {
+    return select(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code double}s, according to
+   * the specified {@link DoubleComparator}, such that the value at index
+   * {@code fromIndex + k} is the value that would be at that index if the range
+   * were sorted, no value in the range before it is greater than it, and no
+   * value in the range after it is less than it.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, relative to {@code fromIndex}.
+   * @param c The {@link DoubleComparator}, or {@code null} for natural order.
+   * @return The value at index {@code fromIndex + k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex <= k}.
+   */
+  public static double select(final double[] a, final int fromIndex, final int toIndex, final int k, final DoubleComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(k, toIndex - fromIndex);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, fromIndex + k, c != null ? c : DoubleComparator.NATURAL);
+    return a[fromIndex + k];
+  }
+
+  /**
+   * Rearranges the specified array of {@code double}s such that its first
+   * {@code k} values are its {@code k} least values, in ascending order. The
+   * order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code double}s.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0 || a.length < k}.
+   */
+  public static void partialSort(final double[] a, final int k) {
+    partialSort(a, 0, a.length, k, null);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code double}s, according to
+   * the specified {@link DoubleComparator}, such that the first {@code k} values
+   * of the range are its {@code k} least values, in sorted order. The order of
+   * the remaining values of the range is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time, and is not
+   * stable.
+   *
+   * @param a The array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The {@link DoubleComparator}, or {@code null} for natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If the range is out of bounds, or if
+   *           {@code k < 0 || toIndex - fromIndex < k}.
+   */
+  public static void partialSort(final double[] a, final int fromIndex, final int toIndex, final int k, final DoubleComparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    Assertions.assertRangeArray(0, k, toIndex - fromIndex);
+    PrimitiveSort.partialSort(a, null, fromIndex, toIndex, k, c != null ? c : DoubleComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted in ascending order, and the values of {@code data} are moved in
+   * tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static double select(final Object[] data, final double[] order, final int k) {
+    return select(data, order, k, DoubleComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the value of {@code order} at index
+   * {@code k} is the value that would be at that index if {@code order} were
+   * sorted according to the specified {@link DoubleComparator}, and the values of
+   * {@code data} are moved in tandem.
+   * <p>
+   * The selection runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select from
+   *          {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length <= k}.
+   */
+  public static double select(final Object[] data, final double[] order, final int k, final DoubleComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(k, order.length);
+    PrimitiveSort.select(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+    return order[k];
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values, in ascending order, and the
+   * values of {@code data} are moved in tandem. The order of the remaining
+   * values is unspecified.
+   * <p>
+   * For example, to retrieve the top 100 rows of {@code data} by descending
+   * {@code score}:
+   *
+   * <pre>
+   * {@code
+   * ArrayUtil.partialSort(data, score, 100, DoubleComparator.REVERSE);
+   * }
+   * </pre>
+   *
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final double[] order, final int k) {
+    partialSort(data, order, k, DoubleComparator.NATURAL);
+  }
+
+  /**
+   * Rearranges the array in the first argument matching the order of the array
+   * in the second argument, such that the first {@code k} values of
+   * {@code order} are its {@code k} least values according to the specified
+   * {@link DoubleComparator}, in sorted order, and the values of {@code data} are
+   * moved in tandem. The order of the remaining values is unspecified.
+   * <p>
+   * The partial sort runs in {@code O(n + k log k)} expected time. The
+   * selection of the {@code k} values is not stable, but the {@code k} values
+   * are sorted stably.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of values to sort.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code k < 0 || order.length < k}.
+   */
+  public static void partialSort(final Object[] data, final double[] order, final int k, final DoubleComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    Assertions.assertRangeArray(0, k, order.length);
+    PrimitiveSort.partialSort(order, data, 0, order.length, k, Objects.requireNonNull(comparator));
+  }
+
   /**
    * Reverses the order of the members in the provided array.
    *
@@ -1332,6 +1332,11 @@ public final class CollectionUtil extends PrimitiveSort {
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
 
     Objects.requireNonNull(comparator);
+    if (comparator == IntComparator.NATURAL && order.length >= RADIX_SORT_THRESHOLD) {
+      PrimitiveSort.radixSortPaired(data, order);
+      return;
+    }
+
     final int[] idx = PrimitiveSort.buildIndex(order.length);
     PrimitiveSort.sortIndexed(data, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
   }
@@ -1393,6 +1398,11 @@ public final class CollectionUtil extends PrimitiveSort {
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
 
     Objects.requireNonNull(comparator);
+    if (comparator == LongComparator.NATURAL && order.length >= RADIX_SORT_THRESHOLD) {
+      PrimitiveSort.radixSortPaired(data, order);
+      return;
+    }
+
     final int[] idx = PrimitiveSort.buildIndex(order.length);
     PrimitiveSort.sortIndexed(data, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
   }
@@ -1454,6 +1464,11 @@ public final class CollectionUtil extends PrimitiveSort {
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
 
     Objects.requireNonNull(comparator);
+    if (comparator == FloatComparator.NATURAL && order.length >= RADIX_SORT_THRESHOLD) {
+      PrimitiveSort.radixSortPaired(data, order);
+      return;
+    }
+
     final int[] idx = PrimitiveSort.buildIndex(order.length);
     PrimitiveSort.sortIndexed(data, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
   }
@@ -1515,10 +1530,554 @@ public final class CollectionUtil extends PrimitiveSort {
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
 
     Objects.requireNonNull(comparator);
+    if (comparator == DoubleComparator.NATURAL && order.length >= RADIX_SORT_THRESHOLD) {
+      PrimitiveSort.radixSortPaired(data, order);
+      return;
+    }
+
     final int[] idx = PrimitiveSort.buildIndex(order.length);
     PrimitiveSort.sortIndexed(data, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
   }
 
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,byte[])
+   */
+  public static void parallelSort(final List<?> data, final byte[] order) {
+    parallelSort(data, order, ByteComparator.NATURAL);
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,byte[],ByteComparator)
+   */
+  public static void parallelSort(final List<?> data, final byte[] order, final ByteComparator comparator) {
+    if (data.size() != order.length)
+      throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
+
+    PrimitiveSort.parallelSortPaired(data, order, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,char[])
+   */
+  public static void parallelSort(final List<?> data, final char[] order) {
+    parallelSort(data, order, CharComparator.NATURAL);
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,char[],CharComparator)
+   */
+  public static void parallelSort(final List<?> data, final char[] order, final CharComparator comparator) {
+    if (data.size() != order.length)
+      throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
+
+    PrimitiveSort.parallelSortPaired(data, order, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,short[])
+   */
+  public static void parallelSort(final List<?> data, final short[] order) {
+    parallelSort(data, order, ShortComparator.NATURAL);
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,short[],ShortComparator)
+   */
+  public static void parallelSort(final List<?> data, final short[] order, final ShortComparator comparator) {
+    if (data.size() != order.length)
+      throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
+
+    PrimitiveSort.parallelSortPaired(data, order, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,int[])
+   */
+  public static void parallelSort(final List<?> data, final int[] order) {
+    parallelSort(data, order, IntComparator.NATURAL);
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,int[],IntComparator)
+   */
+  public static void parallelSort(final List<?> data, final int[] order, final IntComparator comparator) {
+    if (data.size() != order.length)
+      throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
+
+    PrimitiveSort.parallelSortPaired(data, order, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,long[])
+   */
+  public static void parallelSort(final List<?> data, final long[] order) {
+    parallelSort(data, order, LongComparator.NATURAL);
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,long[],LongComparator)
+   */
+  public static void parallelSort(final List<?> data, final long[] order, final LongComparator comparator) {
+    if (data.size() != order.length)
+      throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
+
+    PrimitiveSort.parallelSortPaired(data, order, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,float[])
+   */
+  public static void parallelSort(final List<?> data, final float[] order) {
+    parallelSort(data, order, FloatComparator.NATURAL);
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,float[],FloatComparator)
+   */
+  public static void parallelSort(final List<?> data, final float[] order, final FloatComparator comparator) {
+    if (data.size() != order.length)
+      throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
+
+    PrimitiveSort.parallelSortPaired(data, order, Objects.requireNonNull(comparator));
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,double[])
+   */
+  public static void parallelSort(final List<?> data, final double[] order) {
+    parallelSort(data, order, DoubleComparator.NATURAL);
+  }
+
+  /**
+   * Sorts the {@link List} in the first argument matching the sorted order of
+   * the array in the second argument, in parallel.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code parallelSort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   * <p>
+   * The sort is stable, and is performed as per
+   * {@link java.util.Arrays#parallelSort(Object[])}: the values of
+   * {@code order} and {@code data} are copied into arrays, which are split
+   * into ranges that are sorted and merged in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}. Ranges smaller than
+   * {@code 2^13} values are sorted sequentially. The array {@code order} is
+   * not modified.
+   *
+   * @param data The {@link List} providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   * @throws IllegalArgumentException If {@code data.size() != order.length}.
+   * @see #sort(List,double[],DoubleComparator)
+   */
+  public static void parallelSort(final List<?> data, final double[] order, final DoubleComparator comparator) {
+    if (data.size() != order.length)
+      throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + order.length + "] must be equal");
+
+    PrimitiveSort.parallelSortPaired(data, order, Objects.requireNonNull(comparator));
+  }
+
   /**
    * Sorts the {@link List} in the first argument matching the sorted order of
    * the {@link List} of {@link Comparable} objects in the second argument.
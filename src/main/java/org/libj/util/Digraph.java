@@ -17,7 +17,6 @@
 package org.libj.util;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 
 /**
  * A directed graph of an arbitrary-sized set of arbitrary-typed vertices,
@@ -27,13 +26,18 @@ import java.util.LinkedHashSet;
  * can be found with {@link Digraph#hasCycle()} and {@link Digraph#getCycle()}.
  * If no cycle exists, a topological order can be found with
  * {@link Digraph#getTopologicalOrder()}.
+ * Independent vertices can be found with {@link Digraph#getReadySets()}, and
+ * an action can be performed for each vertex in parallel, once it has been
+ * performed for its predecessors, with
+ * {@link Digraph#executeInParallel(java.util.concurrent.Executor,java.util.function.Consumer)}.
  * <p>
  * This implementation uses {@link Integer}-based vertex indices as references
  * to the arbitrary-typed object vertices via {@link HashBiMap}.
  * <p>
  * The digraph is internally represented as a dynamically scalable
- * {@link ArrayList} list of index-&gt;{@link LinkedHashSet} set of adjacent
- * edges.
+ * {@link ArrayList} list of index-&gt;set of adjacent edges, which stores the
+ * indices of the adjacent vertices as primitive {@code int} values, in the
+ * order in which the edges were added.
  * <p>
  * All operations take constant time (in the worst case) except iterating over
  * the vertices adjacent from a given vertex, which takes time proportional to
@@ -21,6 +21,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -118,8 +120,11 @@ public class RefDigraph<K,V> extends AbstractDigraph<K,V> {
       final V ref = reference.apply(vertex);
       references.remove(ref);
       final Integer index = digraph.objectToIndex.remove(ref);
-      if (index != null)
+      if (index != null) {
         digraph.objectToIndex.put(vertex, index);
+        // The snapshot of the topological order refers to the reference
+        digraph.topologicalKeys = null;
+      }
     }
 
     vertices.clear();
@@ -217,6 +222,60 @@ public class RefDigraph<K,V> extends AbstractDigraph<K,V> {
     return (List<K>)digraph.getTopologicalOrder();
   }
 
+  /**
+   * @throws IllegalStateException If some vertex references have not been
+   *           specified before the call of this method.
+   */
+  @Override
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public List<List<K>> getStronglyConnectedComponents() {
+    swapRefs();
+    return (List)digraph.getStronglyConnectedComponents();
+  }
+
+  /**
+   * @throws IllegalStateException If some vertex references have not been
+   *           specified before the call of this method.
+   */
+  @Override
+  public int getComponentIndex(final K vertex) {
+    swapRefs();
+    return digraph.getComponentIndex(vertex);
+  }
+
+  /**
+   * @throws IllegalStateException If some vertex references have not been
+   *           specified before the call of this method.
+   */
+  @Override
+  public Digraph<Integer> getCondensation() {
+    swapRefs();
+    return digraph.getCondensation();
+  }
+
+  /**
+   * @throws IllegalStateException If some vertex references have not been
+   *           specified before the call of this method.
+   */
+  @Override
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public List<List<K>> getReadySets() {
+    swapRefs();
+    return (List)digraph.getReadySets();
+  }
+
+  /**
+   * @throws IllegalStateException If some vertex references have not been
+   *           specified before the call of this method, or if this digraph
+   *           has a cycle.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public void executeInParallel(final Executor executor, final Consumer<? super K> action) throws InterruptedException {
+    swapRefs();
+    digraph.executeInParallel(executor, (Consumer<Object>)action);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public RefDigraph<K,V> clone() {
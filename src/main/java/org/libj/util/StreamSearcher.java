@@ -19,39 +19,175 @@ package org.libj.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
 
 import org.libj.lang.Assertions;
 
 /**
  * An efficient stream searching class based on the Knuth-Morris-Pratt
  * algorithm.
+ * <p>
+ * The patterns of a searcher are compiled into a single Aho-Corasick automaton
+ * (of which the Knuth-Morris-Pratt algorithm is the special case of a single
+ * pattern), such that all patterns are searched for in a single pass over the
+ * stream, at a cost per input character that is independent of the number of
+ * patterns. The patterns may be of different lengths. If more than one pattern
+ * matches at the same position, the match is that of the pattern with the
+ * lowest index. The pattern that matched, and the offsets of the match, are
+ * reported in a {@link Match}.
+ * <p>
+ * A {@link Byte} searcher of a single pattern of at least
+ * {@value #MIN_SKIP_LENGTH} bytes (such as a multipart boundary) searches
+ * arrays, buffers, channels, and files with the Boyer-Moore-Horspool algorithm
+ * instead, which compares the last byte of each window of the input with that
+ * of the pattern, and skips ahead by up to the length of the pattern on a
+ * mismatch, such that most bytes of the input are not examined at all.
  *
  * @see <a href=
  *      "http://www.inf.fh-flensburg.de/lang/algorithmen/pattern/kmpen.htm">Knuth-Morris-Pratt
  *      algorithm</a>
  */
 public final class StreamSearcher {
+  /**
+   * The result of a search, which identifies the pattern that matched, and
+   * the offsets of the match relative to the position of the input at which
+   * the search started. A {@link Match} can be reused for subsequent searches.
+   */
+  public static final class Match {
+    private int pattern = -1;
+    private long start = -1;
+    private long end = -1;
+
+    void set(final int pattern, final long start, final long end) {
+      this.pattern = pattern;
+      this.start = start;
+      this.end = end;
+    }
+
+    void clear() {
+      set(-1, -1, -1);
+    }
+
+    /**
+     * Returns whether the search found a match.
+     *
+     * @return Whether the search found a match.
+     */
+    public boolean isFound() {
+      return pattern != -1;
+    }
+
+    /**
+     * Returns the index of the pattern that matched, or {@code -1} if the search
+     * did not find a match.
+     *
+     * @return The index of the pattern that matched, or {@code -1} if the search
+     *         did not find a match.
+     */
+    public int getPattern() {
+      return pattern;
+    }
+
+    /**
+     * Returns the offset of the first character of the match, or {@code -1} if
+     * the search did not find a match.
+     *
+     * @return The offset of the first character of the match, or {@code -1} if
+     *         the search did not find a match.
+     */
+    public long getStart() {
+      return start;
+    }
+
+    /**
+     * Returns the offset of the character after the last character of the
+     * match, or {@code -1} if the search did not find a match.
+     *
+     * @return The offset of the character after the last character of the
+     *         match, or {@code -1} if the search did not find a match.
+     */
+    public long getEnd() {
+      return end;
+    }
+
+    @Override
+    public String toString() {
+      return pattern == -1 ? "{}" : "{pattern: " + pattern + ", start: " + start + ", end: " + end + "}";
+    }
+  }
+
+  /**
+   * The minimum length of the single pattern of a {@link Byte} searcher for
+   * which the Boyer-Moore-Horspool algorithm is used.
+   */
+  static final int MIN_SKIP_LENGTH = 8;
+
+  /** The maximum length of a region of a file that is mapped at a time. */
+  private static final long MAX_MAP_LENGTH = 1 << 30;
+
+  /** A source of the bulk reads of a buffered search. */
+  @FunctionalInterface
+  private interface Source<B> {
+    int read(B buffer) throws IOException;
+  }
+
+  /**
+   * Sets the result of a search into the specified {@link Match}, if not null,
+   * and returns the number of characters the input is advanced.
+   */
+  private static long report(final AhoCorasick automaton, final int[] lengths, final int state, final long advanced, final Match match) {
+    if (match != null) {
+      final int p = automaton.match(state);
+      if (p != -1)
+        match.set(p, advanced - lengths[p], advanced);
+      else
+        match.clear();
+    }
+
+    return advanced;
+  }
+
+  private static void assertBuffer(final Buffer buffer) {
+    if (buffer.capacity() == 0)
+      throw new IllegalArgumentException("buffer.capacity() == 0");
+  }
+
   /**
    * The Knuth-Morris-Pratt algorithm applied to {@code char} streams.
    */
   public static class Char {
     protected final char[][] patterns;
     protected final int[][] borders;
+    private final AhoCorasick automaton;
+    private final int[] lengths;
 
     /**
      * Creates a new {@link Char} instance with the specified {@code char[]}
      * vararg array representing the search patterns.
      *
      * @param patterns The vararg array representing the search patterns.
+     * @throws IllegalArgumentException If {@code patterns} or a pattern is
+     *           empty.
+     * @throws NullPointerException If {@code patterns} or a pattern is null.
      */
     public Char(final char[] ... patterns) {
+      this.automaton = new AhoCorasick(patterns);
       this.patterns = patterns;
-      this.borders = new int[patterns.length][patterns[0].length + 1];
+      this.lengths = new int[patterns.length];
+      this.borders = new int[patterns.length][];
       for (int p = 0; p < patterns.length; ++p) {
+        lengths[p] = patterns[p].length;
+        borders[p] = new int[patterns[p].length + 1];
         int i = 0;
         int j = -1;
         borders[p][i] = j;
-        while (i < patterns[0].length) {
+        while (i < patterns[p].length) {
           while (j >= 0 && patterns[p][i] != patterns[p][j])
             j = borders[p][j];
 
@@ -100,34 +236,147 @@ public final class StreamSearcher {
      * @throws NullPointerException If {@code in} is null.
      */
     public int search(final Reader in, final char[] buffer, final int offset) throws IOException {
+      return search(in, buffer, offset, null);
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the stream, starting
+     * from the current stream position, as per
+     * {@link #search(Reader,char[],int)}. If {@code match} is not null, the
+     * pattern that matched and the offsets of the match are set into
+     * {@code match}.
+     *
+     * @param in The {@link Reader}.
+     * @param buffer Buffer into which read bytes are written.
+     * @param offset Offset in buffer where bytes are written.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null).
+     * @return Number of bytes the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the given {@code offset} is out of
+     *           range.
+     * @throws NullPointerException If {@code in} is null.
+     */
+    public int search(final Reader in, final char[] buffer, final int offset, final Match match) throws IOException {
       if (buffer != null)
         Assertions.assertRangeArray(offset, buffer.length);
 
-      final int[] j = new int[patterns.length];
+      int state = AhoCorasick.ROOT;
       int i = 0;
       for (int b; (b = in.read()) != -1;) {
         if (buffer != null)
           buffer[offset + i] = (char)b;
 
         ++i;
-        for (int p = 0; p < patterns.length; ++p) {
-          while (j[p] >= 0 && (char)b != patterns[p][j[p]])
-            j[p] = borders[p][j[p]];
+        state = automaton.next(state, b);
+        final int p = automaton.match(state);
 
-          // Move to the next character in the pattern.
-          ++j[p];
+        // If a pattern ends at this character, we found it. Return, which will
+        // automatically save our position in the stream at the point
+        // immediately following the pattern match.
+        if (p != -1) {
+          if (match != null)
+            match.set(p, i - patterns[p].length, i);
 
-          // If we've matched up to the full pattern length, we found it. Return,
-          // which will automatically save our position in the InputStream at the
-          // point immediately following the pattern match.
-          if (j[p] == patterns[p].length)
-            return i;
+          return i;
         }
       }
 
-      // Not found, return false. Note that the stream is now completely consumed.
+      // Not found. Note that the stream is now completely consumed.
+      if (match != null)
+        match.clear();
+
       return i;
     }
+
+    /**
+     * Scans the specified buffer from its position, and returns the state of
+     * the automaton after the first match, or after the limit of the buffer if
+     * there is no match. The position of the buffer is set to the character
+     * after the match, or to its limit if there is no match.
+     */
+    private int scan(final CharBuffer buffer, int state) {
+      final AhoCorasick automaton = this.automaton;
+      final int limit = buffer.limit();
+      int i = buffer.position();
+      if (buffer.hasArray()) {
+        final char[] array = buffer.array();
+        final int offset = buffer.arrayOffset();
+        while (i < limit && automaton.match(state = automaton.next(state, array[offset + i++])) == -1);
+      }
+      else {
+        while (i < limit && automaton.match(state = automaton.next(state, buffer.get(i++))) == -1);
+      }
+
+      buffer.position(i);
+      return state;
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the specified
+     * {@link CharBuffer}, starting from its position. If a match is found, the
+     * position of the buffer is set to the character after the match. Else,
+     * the position of the buffer is set to its limit.
+     *
+     * @param buffer The {@link CharBuffer}.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null).
+     * @return Number of characters the buffer is advanced.
+     * @throws NullPointerException If {@code buffer} is null.
+     */
+    public int search(final CharBuffer buffer, final Match match) {
+      final int start = buffer.position();
+      final int state = scan(buffer, AhoCorasick.ROOT);
+      return (int)report(automaton, lengths, state, buffer.position() - start, match);
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the remaining
+     * characters of the specified buffer, followed by the characters of the
+     * specified {@link Reader}, which are read into the buffer in bulk.
+     * <p>
+     * The buffer must be ready to be read (i.e. flipped), and its remaining
+     * characters are the characters that precede those of the {@link Reader}.
+     * Upon return, the remaining characters of the buffer are the characters
+     * that were read from the {@link Reader} beyond the match (i.e. the
+     * unconsumed tail), which are to precede the {@link Reader} in a
+     * subsequent search. If a match is not found, the {@link Reader} is
+     * entirely consumed.
+     *
+     * @param in The {@link Reader}.
+     * @param buffer The buffer.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null).
+     * @return Number of characters the buffer and {@link Reader} are advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the capacity of {@code buffer} is 0.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     */
+    public long search(final Reader in, final CharBuffer buffer, final Match match) throws IOException {
+      assertBuffer(buffer);
+      return search(in::read, buffer, match);
+    }
+
+    private long search(final Source<CharBuffer> in, final CharBuffer buffer, final Match match) throws IOException {
+      int state = AhoCorasick.ROOT;
+      long advanced = 0;
+      while (true) {
+        final int from = buffer.position();
+        state = scan(buffer, state);
+        advanced += buffer.position() - from;
+        if (automaton.match(state) != -1)
+          break;
+
+        buffer.clear();
+        int n;
+        while ((n = in.read(buffer)) == 0);
+        buffer.flip();
+        if (n == -1)
+          break;
+      }
+
+      return report(automaton, lengths, state, advanced, match);
+    }
   }
 
   /**
@@ -136,27 +385,123 @@ public final class StreamSearcher {
   public static class Byte {
     protected final byte[][] patterns;
     protected final int[][] borders;
+    private final AhoCorasick automaton;
+    private final int[] lengths;
+    private final byte[] skipPattern;
+    private final int[] skips;
 
     /**
      * Creates a new {@link Byte} instance with the specified {@code byte[]}
      * vararg array representing the search patterns.
      *
      * @param patterns The vararg array representing the search patterns.
+     * @throws IllegalArgumentException If {@code patterns} or a pattern is
+     *           empty.
+     * @throws NullPointerException If {@code patterns} or a pattern is null.
      */
     public Byte(final byte[] ... patterns) {
+      this.automaton = new AhoCorasick(patterns);
       this.patterns = patterns;
-      this.borders = new int[patterns.length][patterns[0].length + 1];
+      this.lengths = new int[patterns.length];
+      this.borders = new int[patterns.length][];
       for (int p = 0; p < patterns.length; ++p) {
+        lengths[p] = patterns[p].length;
+        borders[p] = new int[patterns[p].length + 1];
         int i = 0;
         int j = -1;
         borders[p][i] = j;
-        while (i < patterns[0].length) {
+        while (i < patterns[p].length) {
           while (j >= 0 && patterns[p][i] != patterns[p][j])
             j = borders[p][j];
 
           borders[p][++i] = ++j;
         }
       }
+
+      if (patterns.length == 1 && patterns[0].length >= MIN_SKIP_LENGTH) {
+        // The bad character table: the distance from the last occurrence of each byte (not counting the last byte) to the end of the pattern
+        final byte[] pattern = this.skipPattern = patterns[0];
+        final int m1 = pattern.length - 1;
+        this.skips = new int[256];
+        Arrays.fill(skips, pattern.length);
+        for (int i = 0; i < m1; ++i)
+          skips[pattern[i] & 0xFF] = m1 - i;
+      }
+      else {
+        this.skipPattern = null;
+        this.skips = null;
+      }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the single pattern in the
+     * specified range of the specified array, or {@code -1} if there is none,
+     * with the Boyer-Moore-Horspool algorithm.
+     */
+    private int indexOf(final byte[] array, final int fromIndex, final int toIndex) {
+      final byte[] pattern = skipPattern;
+      final int[] skips = this.skips;
+      final int m1 = pattern.length - 1;
+      final byte last = pattern[m1];
+      for (int i = fromIndex, end = toIndex - m1; i < end;) {
+        final byte b = array[i + m1];
+        if (b == last) {
+          int j = 0;
+          while (j < m1 && array[i + j] == pattern[j])
+            ++j;
+
+          if (j == m1)
+            return i;
+        }
+
+        i += skips[b & 0xFF];
+      }
+
+      return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the single pattern between
+     * the specified indexes of the specified buffer, or {@code -1} if there is
+     * none, with the Boyer-Moore-Horspool algorithm.
+     */
+    private int indexOf(final ByteBuffer buffer, final int fromIndex, final int toIndex) {
+      if (buffer.hasArray()) {
+        final int offset = buffer.arrayOffset();
+        final int i = indexOf(buffer.array(), offset + fromIndex, offset + toIndex);
+        return i == -1 ? -1 : i - offset;
+      }
+
+      final byte[] pattern = skipPattern;
+      final int[] skips = this.skips;
+      final int m1 = pattern.length - 1;
+      final byte last = pattern[m1];
+      for (int i = fromIndex, end = toIndex - m1; i < end;) {
+        final byte b = buffer.get(i + m1);
+        if (b == last) {
+          int j = 0;
+          while (j < m1 && buffer.get(i + j) == pattern[j])
+            ++j;
+
+          if (j == m1)
+            return i;
+        }
+
+        i += skips[b & 0xFF];
+      }
+
+      return -1;
+    }
+
+    private long reportSkip(final boolean found, final long advanced, final Match match) {
+      if (match != null) {
+        if (found)
+          match.set(0, advanced - skipPattern.length, advanced);
+        else
+          match.clear();
+      }
+
+      return advanced;
     }
 
     /**
@@ -192,34 +537,293 @@ public final class StreamSearcher {
      * @throws IOException If an I/O error has occurred.
      */
     public int search(final InputStream in, final byte[] buffer, final int offset) throws IOException {
+      return search(in, buffer, offset, null);
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the stream, starting
+     * from the current stream position, as per
+     * {@link #search(InputStream,byte[],int)}. If {@code match} is not null, the
+     * pattern that matched and the offsets of the match are set into
+     * {@code match}.
+     *
+     * @param in The {@link InputStream}.
+     * @param buffer Buffer into which read bytes are written.
+     * @param offset Offset in buffer where bytes are written.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null).
+     * @return Number of bytes the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the given {@code offset} is out of
+     *           range.
+     * @throws NullPointerException If {@code in} is null.
+     */
+    public int search(final InputStream in, final byte[] buffer, final int offset, final Match match) throws IOException {
       if (buffer != null)
         Assertions.assertRangeArray(offset, buffer.length);
 
-      final int[] j = new int[patterns.length];
+      int state = AhoCorasick.ROOT;
       int i = 0;
       for (int b; (b = in.read()) != -1;) {
         if (buffer != null)
           buffer[offset + i] = (byte)b;
 
         ++i;
-        for (int p = 0; p < patterns.length; ++p) {
-          while (j[p] >= 0 && (byte)b != patterns[p][j[p]])
-            j[p] = borders[p][j[p]];
+        state = automaton.next(state, b);
+        final int p = automaton.match(state);
 
-          // Move to the next character in the pattern.
-          ++j[p];
+        // If a pattern ends at this character, we found it. Return, which will
+        // automatically save our position in the stream at the point
+        // immediately following the pattern match.
+        if (p != -1) {
+          if (match != null)
+            match.set(p, i - patterns[p].length, i);
 
-          // If we've matched up to the full pattern length, we found it. Return,
-          // which will automatically save our position in the InputStream at the
-          // point immediately following the pattern match.
-          if (j[p] == patterns[p].length)
-            return i;
+          return i;
         }
       }
 
-      // Not found, return false. Note that the stream is now completely consumed.
+      // Not found. Note that the stream is now completely consumed.
+      if (match != null)
+        match.clear();
+
       return i;
     }
+
+    /**
+     * Scans the specified buffer from its position, and returns the state of
+     * the automaton after the first match, or after the limit of the buffer if
+     * there is no match. The position of the buffer is set to the byte after
+     * the match, or to its limit if there is no match.
+     */
+    private int scan(final ByteBuffer buffer, int state) {
+      final AhoCorasick automaton = this.automaton;
+      final int limit = buffer.limit();
+      int i = buffer.position();
+      if (buffer.hasArray()) {
+        final byte[] array = buffer.array();
+        final int offset = buffer.arrayOffset();
+        while (i < limit && automaton.match(state = automaton.next(state, array[offset + i++] & 0xFF)) == -1);
+      }
+      else {
+        while (i < limit && automaton.match(state = automaton.next(state, buffer.get(i++) & 0xFF)) == -1);
+      }
+
+      buffer.position(i);
+      return state;
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the specified range of
+     * the specified array.
+     *
+     * @param array The array.
+     * @param fromIndex The index of the first byte, inclusive, to be searched.
+     * @param toIndex The index of the last byte, exclusive, to be searched.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null), with offsets relative to {@code fromIndex}.
+     * @return Number of bytes from {@code fromIndex} to the end of the match, or
+     *         {@code toIndex - fromIndex} if there is no match.
+     * @throws ArrayIndexOutOfBoundsException If
+     *           {@code fromIndex < 0 or toIndex > array.length}.
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+     * @throws NullPointerException If {@code array} is null.
+     */
+    public int search(final byte[] array, final int fromIndex, final int toIndex, final Match match) {
+      Assertions.assertRangeArray(fromIndex, toIndex, array.length);
+      if (skipPattern == null)
+        return search(ByteBuffer.wrap(array, fromIndex, toIndex - fromIndex), match);
+
+      final int i = indexOf(array, fromIndex, toIndex);
+      return (int)reportSkip(i != -1, i == -1 ? toIndex - fromIndex : i + skipPattern.length - fromIndex, match);
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the specified
+     * {@link ByteBuffer}, starting from its position. If a match is found, the
+     * position of the buffer is set to the byte after the match. Else, the
+     * position of the buffer is set to its limit.
+     *
+     * @param buffer The {@link ByteBuffer}.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null).
+     * @return Number of bytes the buffer is advanced.
+     * @throws NullPointerException If {@code buffer} is null.
+     */
+    public int search(final ByteBuffer buffer, final Match match) {
+      final int start = buffer.position();
+      if (skipPattern != null) {
+        final int i = indexOf(buffer, start, buffer.limit());
+        buffer.position(i == -1 ? buffer.limit() : i + skipPattern.length);
+        return (int)reportSkip(i != -1, buffer.position() - start, match);
+      }
+
+      final int state = scan(buffer, AhoCorasick.ROOT);
+      return (int)report(automaton, lengths, state, buffer.position() - start, match);
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the remaining bytes
+     * of the specified buffer, followed by the bytes of the specified
+     * {@link ReadableByteChannel}, which are read into the buffer in bulk. The
+     * channel must be in blocking mode.
+     * <p>
+     * The buffer must be ready to be read (i.e. flipped), and its remaining
+     * bytes are the bytes that precede those of the channel. Upon return, the
+     * remaining bytes of the buffer are the bytes that were read from the
+     * channel beyond the match (i.e. the unconsumed tail), which are to precede
+     * the channel in a subsequent search. If a match is not found, the channel
+     * is entirely consumed.
+     * <p>
+     * If the single pattern of this searcher is searched for with the
+     * Boyer-Moore-Horspool algorithm, the buffer must have a capacity of at
+     * least the length of the pattern for the algorithm to be used, as the
+     * bytes of a window that may be the prefix of a match are retained in the
+     * buffer while the next bytes are read.
+     *
+     * @param in The {@link ReadableByteChannel}.
+     * @param buffer The buffer.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null).
+     * @return Number of bytes the buffer and channel are advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the capacity of {@code buffer} is 0.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     */
+    public long search(final ReadableByteChannel in, final ByteBuffer buffer, final Match match) throws IOException {
+      assertBuffer(buffer);
+      return search(in::read, buffer, match);
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the remaining bytes
+     * of the specified buffer, followed by the bytes of the specified
+     * {@link InputStream}, which are read into the buffer in bulk, as per
+     * {@link #search(ReadableByteChannel,ByteBuffer,Match)}.
+     *
+     * @param in The {@link InputStream}.
+     * @param buffer The buffer.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null).
+     * @return Number of bytes the buffer and stream are advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the capacity of {@code buffer} is 0.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     */
+    public long search(final InputStream in, final ByteBuffer buffer, final Match match) throws IOException {
+      assertBuffer(buffer);
+      if (!buffer.hasArray())
+        return search(Channels.newChannel(in)::read, buffer, match);
+
+      return search(b -> {
+        final int n = in.read(b.array(), b.arrayOffset() + b.position(), b.remaining());
+        if (n > 0)
+          b.position(b.position() + n);
+
+        return n;
+      }, buffer, match);
+    }
+
+    private long search(final Source<ByteBuffer> in, final ByteBuffer buffer, final Match match) throws IOException {
+      if (skipPattern != null && buffer.capacity() >= skipPattern.length)
+        return skipSearch(in, buffer, match);
+
+      int state = AhoCorasick.ROOT;
+      long advanced = 0;
+      while (true) {
+        final int from = buffer.position();
+        state = scan(buffer, state);
+        advanced += buffer.position() - from;
+        if (automaton.match(state) != -1)
+          break;
+
+        buffer.clear();
+        int n;
+        while ((n = in.read(buffer)) == 0);
+        buffer.flip();
+        if (n == -1)
+          break;
+      }
+
+      return report(automaton, lengths, state, advanced, match);
+    }
+
+    private long skipSearch(final Source<ByteBuffer> in, final ByteBuffer buffer, final Match match) throws IOException {
+      final int m = skipPattern.length;
+      long advanced = 0;
+      while (true) {
+        final int from = buffer.position();
+        final int limit = buffer.limit();
+        final int i = indexOf(buffer, from, limit);
+        if (i != -1) {
+          buffer.position(i + m);
+          return reportSkip(true, advanced + i + m - from, match);
+        }
+
+        // Retain the last m - 1 bytes, which may be the prefix of a match that ends in the bytes yet to be read
+        final int keep = Math.min(m - 1, limit - from);
+        advanced += limit - from - keep;
+        buffer.position(limit - keep);
+        buffer.compact();
+        int n;
+        while ((n = in.read(buffer)) == 0);
+        buffer.flip();
+        if (n == -1) {
+          advanced += buffer.remaining();
+          buffer.position(buffer.limit());
+          return reportSkip(false, advanced, match);
+        }
+      }
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the specified
+     * {@link FileChannel}, starting from the specified position, by mapping
+     * the file into memory in regions of up to 1GB. The position of the
+     * channel is not changed.
+     *
+     * @param channel The {@link FileChannel}.
+     * @param position The position in the file at which to start the search.
+     * @param match The {@link Match} into which the result is set (can be
+     *          null).
+     * @return Number of bytes from {@code position} to the end of the match, or
+     *         to the end of the file if there is no match.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If {@code position} is negative.
+     * @throws NullPointerException If {@code channel} is null.
+     */
+    public long search(final FileChannel channel, final long position, final Match match) throws IOException {
+      if (position < 0)
+        throw new IllegalArgumentException("position [" + position + "] must be non-negative");
+
+      final long size = channel.size();
+      if (skipPattern != null) {
+        // Consecutive regions overlap by m - 1 bytes, such that a match that spans their boundary is found
+        final int m = skipPattern.length;
+        for (long from = position; size - from >= m; from += MAX_MAP_LENGTH - m + 1) {
+          final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(MAX_MAP_LENGTH, size - from));
+          final int i = indexOf(buffer, 0, buffer.limit());
+          if (i != -1)
+            return reportSkip(true, from - position + i + m, match);
+
+          if (from + buffer.limit() == size)
+            break;
+        }
+
+        return reportSkip(false, Math.max(0, size - position), match);
+      }
+
+      int state = AhoCorasick.ROOT;
+      long advanced = 0;
+      for (long from = position; from < size && automaton.match(state) == -1;) {
+        final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(MAX_MAP_LENGTH, size - from));
+        state = scan(buffer, state);
+        advanced += buffer.position();
+        from += buffer.position();
+      }
+
+      return report(automaton, lengths, state, advanced, match);
+    }
   }
 
   private StreamSearcher() {
@@ -0,0 +1,146 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Utility functions for the allocation, typed viewing, and explicit release of
+ * direct (off-heap) {@link ByteBuffer}s backing the {@code Direct<X>List}
+ * classes.
+ */
+final class DirectBuffers {
+  /** {@code sun.misc.Unsafe#invokeCleaner(ByteBuffer)} (JDK 9+). */
+  private static final Method invokeCleaner;
+  private static final Object unsafe;
+
+  /** {@code sun.nio.ch.DirectBuffer#cleaner()} and {@code sun.misc.Cleaner#clean()} (JDK 8). */
+  private static final Method cleaner;
+  private static final Method clean;
+
+  static {
+    Method invokeCleanerMethod = null;
+    Object theUnsafe = null;
+    Method cleanerMethod = null;
+    Method cleanMethod = null;
+    try {
+      final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      invokeCleanerMethod = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      final Field field = unsafeClass.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      theUnsafe = field.get(null);
+    }
+    catch (final Exception e) {
+      invokeCleanerMethod = null;
+      try {
+        cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+        cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      }
+      catch (final Exception e1) {
+        cleanerMethod = null;
+        cleanMethod = null;
+      }
+    }
+
+    invokeCleaner = invokeCleanerMethod;
+    unsafe = theUnsafe;
+    cleaner = cleanerMethod;
+    clean = cleanMethod;
+  }
+
+  /**
+   * Returns a new direct {@link ByteBuffer} of the specified capacity in bytes,
+   * with {@linkplain ByteOrder#nativeOrder() native} byte order.
+   *
+   * @param capacity The capacity of the buffer, in bytes.
+   * @return A new direct {@link ByteBuffer} of the specified capacity in bytes,
+   *         with native byte order.
+   * @throws IllegalArgumentException If {@code capacity} is negative.
+   */
+  static ByteBuffer allocate(final int capacity) {
+    return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Releases the native memory of the specified direct (or mapped)
+   * {@link ByteBuffer} without waiting for it to be garbage collected. If the
+   * running JVM does not provide a means to do so, this method does nothing,
+   * and the memory is released when the buffer is collected.
+   * <p>
+   * <b>Note:</b> The specified buffer, and any view of it, must not be accessed
+   * after this method returns.
+   *
+   * @param buffer The buffer to release.
+   */
+  static void free(final ByteBuffer buffer) {
+    if (buffer == null || !buffer.isDirect())
+      return;
+
+    try {
+      if (invokeCleaner != null) {
+        invokeCleaner.invoke(unsafe, buffer);
+      }
+      else if (cleaner != null) {
+        final Object c = cleaner.invoke(buffer);
+        if (c != null)
+          clean.invoke(c);
+      }
+    }
+    catch (final Exception e) {
+    }
+  }
+
+  static ByteBuffer asByteBuffer(final ByteBuffer buffer) {
+    return buffer;
+  }
+
+  static CharBuffer asCharBuffer(final ByteBuffer buffer) {
+    return buffer.asCharBuffer();
+  }
+
+  static ShortBuffer asShortBuffer(final ByteBuffer buffer) {
+    return buffer.asShortBuffer();
+  }
+
+  static IntBuffer asIntBuffer(final ByteBuffer buffer) {
+    return buffer.asIntBuffer();
+  }
+
+  static LongBuffer asLongBuffer(final ByteBuffer buffer) {
+    return buffer.asLongBuffer();
+  }
+
+  static FloatBuffer asFloatBuffer(final ByteBuffer buffer) {
+    return buffer.asFloatBuffer();
+  }
+
+  static DoubleBuffer asDoubleBuffer(final ByteBuffer buffer) {
+    return buffer.asDoubleBuffer();
+  }
+
+  private DirectBuffers() {
+  }
+}
\ No newline at end of file
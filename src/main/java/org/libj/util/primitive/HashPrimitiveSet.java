@@ -33,13 +33,67 @@ public abstract class HashPrimitiveSet implements Serializable {
 
   /**
    * Returns the hash for the specified value and mask.
+   * <p>
+   * The value is mixed with the 32-bit finalizer of
+   * <a href="https://github.com/aappleby/smhasher/wiki/MurmurHash3">MurmurHash3</a>,
+   * so that every bit of the value affects the bits selected by the mask.
+   * This prevents sequential or strided values from clustering in the table.
    *
    * @param value The value to be hashed.
    * @param mask The mask to be applied (must be a power of 2, minus 1).
    * @return The hash of the specified value.
    */
   protected static int hash(final int value, final int mask) {
-    return (value * 31) & mask;
+    int h = value ^ (value >>> 16);
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return h & mask;
+  }
+
+  /**
+   * Returns the hash for the specified value and mask.
+   * <p>
+   * The value is mixed with the 64-bit finalizer of
+   * <a href="https://github.com/aappleby/smhasher/wiki/MurmurHash3">MurmurHash3</a>,
+   * so that every bit of the value affects the bits selected by the mask.
+   *
+   * @param value The value to be hashed.
+   * @param mask The mask to be applied (must be a power of 2, minus 1).
+   * @return The hash of the specified value.
+   */
+  protected static int hash(final long value, final int mask) {
+    long h = value ^ (value >>> 33);
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return (int)h & mask;
+  }
+
+  /**
+   * Returns the hash for the specified value and mask.
+   *
+   * @param value The value to be hashed.
+   * @param mask The mask to be applied (must be a power of 2, minus 1).
+   * @return The hash of the specified value.
+   * @see #hash(int,int)
+   */
+  protected static int hash(final float value, final int mask) {
+    return hash(Float.floatToIntBits(value), mask);
+  }
+
+  /**
+   * Returns the hash for the specified value and mask.
+   *
+   * @param value The value to be hashed.
+   * @param mask The mask to be applied (must be a power of 2, minus 1).
+   * @return The hash of the specified value.
+   * @see #hash(long,int)
+   */
+  protected static int hash(final double value, final int mask) {
+    return hash(Double.doubleToLongBits(value), mask);
   }
 
   /**
@@ -53,6 +107,20 @@ public abstract class HashPrimitiveSet implements Serializable {
     return (index + 1) & mask;
   }
 
+  /**
+   * Returns the distance of the specified index from the specified hash, which
+   * is the number of slots a value whose home slot is {@code hash} has been
+   * displaced by linear-probing.
+   *
+   * @param hash The hash (home slot) of the value.
+   * @param index The index at which the value resides.
+   * @param mask The mask to be applied (must be a power of 2, minus 1).
+   * @return The distance of the specified index from the specified hash.
+   */
+  protected static int probeDistance(final int hash, final int index, final int mask) {
+    return (index - hash) & mask;
+  }
+
   /**
    * Returns the next power of 2 for the value that is greater than or equal to
    * the specified value.
@@ -0,0 +1,309 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+/**
+ * Stable least-significant-digit radix sort of {@code int}, {@code long},
+ * {@code float}, and {@code double} arrays into ascending natural order,
+ * optionally moving the values of a paired {@code Object[]} in tandem.
+ * <p>
+ * Values are sorted by 8-bit digits of an unsigned key that preserves their
+ * natural order: the sign bit of integers is flipped, and the bits of
+ * floating-point values are flipped as per IEEE-754 such that {@code -0.0}
+ * precedes {@code 0.0}, and {@code NaN} follows positive infinity, as per
+ * {@link Double#compare(double,double)}. The histograms of all digits are
+ * computed in a single pass, and passes in which all values share the same
+ * digit are skipped.
+ */
+final class PrimitiveRadixSort {
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+  private static final int RADIX_MASK = RADIX - 1;
+
+  private static int key(final float value) {
+    final int bits = Float.floatToIntBits(value);
+    return bits ^ (bits >> 31 | Integer.MIN_VALUE);
+  }
+
+  private static long key(final double value) {
+    final long bits = Double.doubleToLongBits(value);
+    return bits ^ (bits >> 63 | Long.MIN_VALUE);
+  }
+
+  /**
+   * Converts the counts of each digit of the specified pass to the starting
+   * positions of the digit in the output, and returns whether the pass is
+   * trivial (i.e. all values share the same digit).
+   *
+   * @param counts The histograms of all passes.
+   * @param base The offset of the histogram of the pass in {@code counts}.
+   * @param len The number of values being sorted.
+   * @return Whether the pass is trivial.
+   */
+  private static boolean toOffsets(final int[] counts, final int base, final int len) {
+    int sum = 0;
+    for (int d = base, end = base + RADIX; d < end; ++d) {
+      final int count = counts[d];
+      if (count == len)
+        return true;
+
+      counts[d] = sum;
+      sum += count;
+    }
+
+    return false;
+  }
+
+  /**
+   * Sorts the specified range of the specified array into ascending numerical
+   * order, moving the values of the paired array in tandem, if not null.
+   *
+   * @param a The array to be sorted.
+   * @param fromIndex The index of the first value, inclusive, to be sorted.
+   * @param toIndex The index of the last value, exclusive, to be sorted.
+   * @param data The paired array, or {@code null}.
+   */
+  static void sort(final int[] a, final int fromIndex, final int toIndex, final Object[] data) {
+    final int len = toIndex - fromIndex;
+    final int passes = Integer.SIZE / RADIX_BITS;
+    final int[] counts = new int[passes * RADIX];
+    for (int i = fromIndex; i < toIndex; ++i) {
+      final int key = a[i] ^ Integer.MIN_VALUE;
+      for (int p = 0; p < passes; ++p)
+        ++counts[p * RADIX + (key >>> p * RADIX_BITS & RADIX_MASK)];
+    }
+
+    int[] src = a;
+    int[] dest = null;
+    Object[] srcData = data;
+    Object[] destData = null;
+    for (int p = 0; p < passes; ++p) {
+      final int base = p * RADIX;
+      if (toOffsets(counts, base, len))
+        continue;
+
+      if (dest == null) {
+        dest = new int[len];
+        destData = data == null ? null : new Object[len];
+      }
+
+      final int srcFrom = src == a ? fromIndex : 0;
+      final int destFrom = dest == a ? fromIndex : 0;
+      final int shift = p * RADIX_BITS;
+      for (int i = 0; i < len; ++i) {
+        final int value = src[srcFrom + i];
+        final int j = destFrom + counts[base + ((value ^ Integer.MIN_VALUE) >>> shift & RADIX_MASK)]++;
+        dest[j] = value;
+        if (data != null)
+          destData[j] = srcData[srcFrom + i];
+      }
+
+      final int[] tmp = src;
+      src = dest;
+      dest = tmp;
+      final Object[] tmpData = srcData;
+      srcData = destData;
+      destData = tmpData;
+    }
+
+    if (src != a) {
+      System.arraycopy(src, 0, a, fromIndex, len);
+      if (data != null)
+        System.arraycopy(srcData, 0, data, fromIndex, len);
+    }
+  }
+
+  /**
+   * Sorts the specified range of the specified array into ascending numerical
+   * order, moving the values of the paired array in tandem, if not null.
+   *
+   * @param a The array to be sorted.
+   * @param fromIndex The index of the first value, inclusive, to be sorted.
+   * @param toIndex The index of the last value, exclusive, to be sorted.
+   * @param data The paired array, or {@code null}.
+   */
+  static void sort(final long[] a, final int fromIndex, final int toIndex, final Object[] data) {
+    final int len = toIndex - fromIndex;
+    final int passes = Long.SIZE / RADIX_BITS;
+    final int[] counts = new int[passes * RADIX];
+    for (int i = fromIndex; i < toIndex; ++i) {
+      final long key = a[i] ^ Long.MIN_VALUE;
+      for (int p = 0; p < passes; ++p)
+        ++counts[p * RADIX + (int)(key >>> p * RADIX_BITS & RADIX_MASK)];
+    }
+
+    long[] src = a;
+    long[] dest = null;
+    Object[] srcData = data;
+    Object[] destData = null;
+    for (int p = 0; p < passes; ++p) {
+      final int base = p * RADIX;
+      if (toOffsets(counts, base, len))
+        continue;
+
+      if (dest == null) {
+        dest = new long[len];
+        destData = data == null ? null : new Object[len];
+      }
+
+      final int srcFrom = src == a ? fromIndex : 0;
+      final int destFrom = dest == a ? fromIndex : 0;
+      final int shift = p * RADIX_BITS;
+      for (int i = 0; i < len; ++i) {
+        final long value = src[srcFrom + i];
+        final int j = destFrom + counts[base + (int)((value ^ Long.MIN_VALUE) >>> shift & RADIX_MASK)]++;
+        dest[j] = value;
+        if (data != null)
+          destData[j] = srcData[srcFrom + i];
+      }
+
+      final long[] tmp = src;
+      src = dest;
+      dest = tmp;
+      final Object[] tmpData = srcData;
+      srcData = destData;
+      destData = tmpData;
+    }
+
+    if (src != a) {
+      System.arraycopy(src, 0, a, fromIndex, len);
+      if (data != null)
+        System.arraycopy(srcData, 0, data, fromIndex, len);
+    }
+  }
+
+  /**
+   * Sorts the specified range of the specified array into ascending numerical
+   * order, moving the values of the paired array in tandem, if not null.
+   *
+   * @param a The array to be sorted.
+   * @param fromIndex The index of the first value, inclusive, to be sorted.
+   * @param toIndex The index of the last value, exclusive, to be sorted.
+   * @param data The paired array, or {@code null}.
+   */
+  static void sort(final float[] a, final int fromIndex, final int toIndex, final Object[] data) {
+    final int len = toIndex - fromIndex;
+    final int passes = Integer.SIZE / RADIX_BITS;
+    final int[] counts = new int[passes * RADIX];
+    for (int i = fromIndex; i < toIndex; ++i) {
+      final int key = key(a[i]);
+      for (int p = 0; p < passes; ++p)
+        ++counts[p * RADIX + (key >>> p * RADIX_BITS & RADIX_MASK)];
+    }
+
+    float[] src = a;
+    float[] dest = null;
+    Object[] srcData = data;
+    Object[] destData = null;
+    for (int p = 0; p < passes; ++p) {
+      final int base = p * RADIX;
+      if (toOffsets(counts, base, len))
+        continue;
+
+      if (dest == null) {
+        dest = new float[len];
+        destData = data == null ? null : new Object[len];
+      }
+
+      final int srcFrom = src == a ? fromIndex : 0;
+      final int destFrom = dest == a ? fromIndex : 0;
+      final int shift = p * RADIX_BITS;
+      for (int i = 0; i < len; ++i) {
+        final float value = src[srcFrom + i];
+        final int j = destFrom + counts[base + (key(value) >>> shift & RADIX_MASK)]++;
+        dest[j] = value;
+        if (data != null)
+          destData[j] = srcData[srcFrom + i];
+      }
+
+      final float[] tmp = src;
+      src = dest;
+      dest = tmp;
+      final Object[] tmpData = srcData;
+      srcData = destData;
+      destData = tmpData;
+    }
+
+    if (src != a) {
+      System.arraycopy(src, 0, a, fromIndex, len);
+      if (data != null)
+        System.arraycopy(srcData, 0, data, fromIndex, len);
+    }
+  }
+
+  /**
+   * Sorts the specified range of the specified array into ascending numerical
+   * order, moving the values of the paired array in tandem, if not null.
+   *
+   * @param a The array to be sorted.
+   * @param fromIndex The index of the first value, inclusive, to be sorted.
+   * @param toIndex The index of the last value, exclusive, to be sorted.
+   * @param data The paired array, or {@code null}.
+   */
+  static void sort(final double[] a, final int fromIndex, final int toIndex, final Object[] data) {
+    final int len = toIndex - fromIndex;
+    final int passes = Long.SIZE / RADIX_BITS;
+    final int[] counts = new int[passes * RADIX];
+    for (int i = fromIndex; i < toIndex; ++i) {
+      final long key = key(a[i]);
+      for (int p = 0; p < passes; ++p)
+        ++counts[p * RADIX + (int)(key >>> p * RADIX_BITS & RADIX_MASK)];
+    }
+
+    double[] src = a;
+    double[] dest = null;
+    Object[] srcData = data;
+    Object[] destData = null;
+    for (int p = 0; p < passes; ++p) {
+      final int base = p * RADIX;
+      if (toOffsets(counts, base, len))
+        continue;
+
+      if (dest == null) {
+        dest = new double[len];
+        destData = data == null ? null : new Object[len];
+      }
+
+      final int srcFrom = src == a ? fromIndex : 0;
+      final int destFrom = dest == a ? fromIndex : 0;
+      final int shift = p * RADIX_BITS;
+      for (int i = 0; i < len; ++i) {
+        final double value = src[srcFrom + i];
+        final int j = destFrom + counts[base + (int)(key(value) >>> shift & RADIX_MASK)]++;
+        dest[j] = value;
+        if (data != null)
+          destData[j] = srcData[srcFrom + i];
+      }
+
+      final double[] tmp = src;
+      src = dest;
+      dest = tmp;
+      final Object[] tmpData = srcData;
+      srcData = destData;
+      destData = tmpData;
+    }
+
+    if (src != a) {
+      System.arraycopy(src, 0, a, fromIndex, len);
+      if (data != null)
+        System.arraycopy(srcData, 0, data, fromIndex, len);
+    }
+  }
+
+  private PrimitiveRadixSort() {
+  }
+}
\ No newline at end of file
@@ -17,6 +17,7 @@
 package org.libj.util.primitive;
 
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * Utility class providing algorithms for sorting paired lists and arrays.
@@ -25,6 +26,13 @@ public abstract class PrimitiveSort {
   /** Maximum length a list or array can be for recursive swaps. */
   private static final int MAX_RECURSIONS = 5000;
 
+  /**
+   * Minimum length of a range of {@code int}, {@code long}, {@code float}, or
+   * {@code double} values for which sorting in natural order is performed with
+   * an LSD radix sort instead of a comparison sort.
+   */
+  protected static final int RADIX_SORT_THRESHOLD = 1 << 12;
+
   protected static int[] buildIndex(final int len) {
     final int[] idx = new int[len];
     for (int i = 0; i < len; ++i)
@@ -70,6 +78,15 @@ public abstract class PrimitiveSort {
     data.set(i, obj);
   }
 
+  @SuppressWarnings("unchecked")
+  private static <T>void set(final List<T> data, final Object[] values) {
+    final ListIterator<T> iterator = data.listIterator();
+    for (int i = 0; i < values.length; ++i) {
+      iterator.next();
+      iterator.set((T)values[i]);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private static <T>void swap(final List<T> data, final int[] idx) {
     final int len = idx.length;
@@ -142,7 +159,24 @@ public abstract class PrimitiveSort {
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
   protected static void sort(final int[] a, final int fromIndex, final int toIndex, final IntComparator c) {
-    IntTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+    if (c == IntComparator.NATURAL && toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      radixSort(a, fromIndex, toIndex);
+    else
+      IntTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  }
+
+  /**
+   * Sorts the specified range of the specified array of {@code int}s into
+   * ascending natural order with a stable LSD radix sort. The order of values
+   * is that of {@link IntComparator#NATURAL}.
+   *
+   * @param a The array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final int[] a, final int fromIndex, final int toIndex) {
+    PrimitiveRadixSort.sort(a, fromIndex, toIndex, null);
   }
 
   /**
@@ -156,7 +190,24 @@ public abstract class PrimitiveSort {
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
   protected static void sort(final long[] a, final int fromIndex, final int toIndex, final LongComparator c) {
-    LongTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+    if (c == LongComparator.NATURAL && toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      radixSort(a, fromIndex, toIndex);
+    else
+      LongTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  }
+
+  /**
+   * Sorts the specified range of the specified array of {@code long}s into
+   * ascending natural order with a stable LSD radix sort. The order of values
+   * is that of {@link LongComparator#NATURAL}.
+   *
+   * @param a The array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final long[] a, final int fromIndex, final int toIndex) {
+    PrimitiveRadixSort.sort(a, fromIndex, toIndex, null);
   }
 
   /**
@@ -170,7 +221,24 @@ public abstract class PrimitiveSort {
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
   protected static void sort(final float[] a, final int fromIndex, final int toIndex, final FloatComparator c) {
-    FloatTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+    if (c == FloatComparator.NATURAL && toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      radixSort(a, fromIndex, toIndex);
+    else
+      FloatTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  }
+
+  /**
+   * Sorts the specified range of the specified array of {@code float}s into
+   * ascending natural order with a stable LSD radix sort. The order of values
+   * is that of {@link FloatComparator#NATURAL}.
+   *
+   * @param a The array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final float[] a, final int fromIndex, final int toIndex) {
+    PrimitiveRadixSort.sort(a, fromIndex, toIndex, null);
   }
 
   /**
@@ -184,7 +252,24 @@ public abstract class PrimitiveSort {
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
   protected static void sort(final double[] a, final int fromIndex, final int toIndex, final DoubleComparator c) {
-    DoubleTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+    if (c == DoubleComparator.NATURAL && toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      radixSort(a, fromIndex, toIndex);
+    else
+      DoubleTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  }
+
+  /**
+   * Sorts the specified range of the specified array of {@code double}s into
+   * ascending natural order with a stable LSD radix sort. The order of values
+   * is that of {@link DoubleComparator#NATURAL}.
+   *
+   * @param a The array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final double[] a, final int fromIndex, final int toIndex) {
+    PrimitiveRadixSort.sort(a, fromIndex, toIndex, null);
   }
 
   protected static void sortIndexed(final Object[] data, final int[] idx, final IntComparator c) {
@@ -210,19 +295,469 @@ public abstract class PrimitiveSort {
   }
 
   protected static void sortPaired(final Object[] data, final int[] order, final int fromIndex, final int toIndex, final IntComparator comparator) {
-    IntPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+    if (comparator == IntComparator.NATURAL && toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      PrimitiveRadixSort.sort(order, fromIndex, toIndex, data);
+    else
+      IntPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  }
+
+  /**
+   * Sorts the specified list matching the ascending natural order of the
+   * specified array of {@code int}s with a stable LSD radix sort. The array
+   * itself is not modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   */
+  protected static void radixSortPaired(final List<?> data, final int[] order) {
+    final Object[] array = data.toArray();
+    PrimitiveRadixSort.sort(order.clone(), 0, order.length, array);
+    set(data, array);
   }
 
   protected static void sortPaired(final Object[] data, final long[] order, final int fromIndex, final int toIndex, final LongComparator comparator) {
-    LongPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+    if (comparator == LongComparator.NATURAL && toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      PrimitiveRadixSort.sort(order, fromIndex, toIndex, data);
+    else
+      LongPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  }
+
+  /**
+   * Sorts the specified list matching the ascending natural order of the
+   * specified array of {@code long}s with a stable LSD radix sort. The array
+   * itself is not modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   */
+  protected static void radixSortPaired(final List<?> data, final long[] order) {
+    final Object[] array = data.toArray();
+    PrimitiveRadixSort.sort(order.clone(), 0, order.length, array);
+    set(data, array);
   }
 
   protected static void sortPaired(final Object[] data, final float[] order, final int fromIndex, final int toIndex, final FloatComparator comparator) {
-    FloatPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+    if (comparator == FloatComparator.NATURAL && toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      PrimitiveRadixSort.sort(order, fromIndex, toIndex, data);
+    else
+      FloatPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  }
+
+  /**
+   * Sorts the specified list matching the ascending natural order of the
+   * specified array of {@code float}s with a stable LSD radix sort. The array
+   * itself is not modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   */
+  protected static void radixSortPaired(final List<?> data, final float[] order) {
+    final Object[] array = data.toArray();
+    PrimitiveRadixSort.sort(order.clone(), 0, order.length, array);
+    set(data, array);
   }
 
   protected static void sortPaired(final Object[] data, final double[] order, final int fromIndex, final int toIndex, final DoubleComparator comparator) {
-    DoublePairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+    if (comparator == DoubleComparator.NATURAL && toIndex - fromIndex >= RADIX_SORT_THRESHOLD)
+      PrimitiveRadixSort.sort(order, fromIndex, toIndex, data);
+    else
+      DoublePairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  }
+
+  /**
+   * Sorts the specified list matching the ascending natural order of the
+   * specified array of {@code double}s with a stable LSD radix sort. The array
+   * itself is not modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   */
+  protected static void radixSortPaired(final List<?> data, final double[] order) {
+    final Object[] array = data.toArray();
+    PrimitiveRadixSort.sort(order.clone(), 0, order.length, array);
+    set(data, array);
+  }
+
+  /**
+   * Sorts the specified list matching the order of the specified array of
+   * {@code byte}s with a stable, parallel merge sort in the common
+   * {@link java.util.concurrent.ForkJoinPool}. The array itself is not
+   * modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   */
+  protected static void parallelSortPaired(final List<?> data, final byte[] order, final ByteComparator comparator) {
+    final Object[] array = data.toArray();
+    BytePairedParallelSort.sort(order.clone(), array, 0, order.length, comparator);
+    set(data, array);
+  }
+
+  /**
+   * Sorts the specified list matching the order of the specified array of
+   * {@code char}s with a stable, parallel merge sort in the common
+   * {@link java.util.concurrent.ForkJoinPool}. The array itself is not
+   * modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   */
+  protected static void parallelSortPaired(final List<?> data, final char[] order, final CharComparator comparator) {
+    final Object[] array = data.toArray();
+    CharPairedParallelSort.sort(order.clone(), array, 0, order.length, comparator);
+    set(data, array);
+  }
+
+  /**
+   * Sorts the specified list matching the order of the specified array of
+   * {@code short}s with a stable, parallel merge sort in the common
+   * {@link java.util.concurrent.ForkJoinPool}. The array itself is not
+   * modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   */
+  protected static void parallelSortPaired(final List<?> data, final short[] order, final ShortComparator comparator) {
+    final Object[] array = data.toArray();
+    ShortPairedParallelSort.sort(order.clone(), array, 0, order.length, comparator);
+    set(data, array);
+  }
+
+  /**
+   * Sorts the specified list matching the order of the specified array of
+   * {@code int}s with a stable, parallel merge sort in the common
+   * {@link java.util.concurrent.ForkJoinPool}. The array itself is not
+   * modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   */
+  protected static void parallelSortPaired(final List<?> data, final int[] order, final IntComparator comparator) {
+    final Object[] array = data.toArray();
+    IntPairedParallelSort.sort(order.clone(), array, 0, order.length, comparator);
+    set(data, array);
+  }
+
+  /**
+   * Sorts the specified list matching the order of the specified array of
+   * {@code long}s with a stable, parallel merge sort in the common
+   * {@link java.util.concurrent.ForkJoinPool}. The array itself is not
+   * modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   */
+  protected static void parallelSortPaired(final List<?> data, final long[] order, final LongComparator comparator) {
+    final Object[] array = data.toArray();
+    LongPairedParallelSort.sort(order.clone(), array, 0, order.length, comparator);
+    set(data, array);
+  }
+
+  /**
+   * Sorts the specified list matching the order of the specified array of
+   * {@code float}s with a stable, parallel merge sort in the common
+   * {@link java.util.concurrent.ForkJoinPool}. The array itself is not
+   * modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   */
+  protected static void parallelSortPaired(final List<?> data, final float[] order, final FloatComparator comparator) {
+    final Object[] array = data.toArray();
+    FloatPairedParallelSort.sort(order.clone(), array, 0, order.length, comparator);
+    set(data, array);
+  }
+
+  /**
+   * Sorts the specified list matching the order of the specified array of
+   * {@code double}s with a stable, parallel merge sort in the common
+   * {@link java.util.concurrent.ForkJoinPool}. The array itself is not
+   * modified.
+   *
+   * @param data The list to be sorted.
+   * @param order The array providing the order of {@code data}.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or
+   *           {@code comparator} is null.
+   */
+  protected static void parallelSortPaired(final List<?> data, final double[] order, final DoubleComparator comparator) {
+    final Object[] array = data.toArray();
+    DoublePairedParallelSort.sort(order.clone(), array, 0, order.length, comparator);
+    set(data, array);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code byte}s, moving the
+   * values of the paired array in tandem if it is not null, such that the value
+   * at index {@code k} is the value that would be at that index if the range
+   * were sorted according to the provided {@link ByteComparator}.
+   *
+   * @param a The array of {@code byte}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final byte[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final ByteComparator c) {
+    ByteSelect.select(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code byte}s, moving the
+   * values of the paired array in tandem if it is not null, such that the first
+   * {@code k} values of the range are its {@code k} least values according to
+   * the provided {@link ByteComparator}, in sorted order.
+   *
+   * @param a The array of {@code byte}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void partialSort(final byte[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final ByteComparator c) {
+    ByteSelect.partialSort(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code char}s, moving the
+   * values of the paired array in tandem if it is not null, such that the value
+   * at index {@code k} is the value that would be at that index if the range
+   * were sorted according to the provided {@link CharComparator}.
+   *
+   * @param a The array of {@code char}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final char[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final CharComparator c) {
+    CharSelect.select(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code char}s, moving the
+   * values of the paired array in tandem if it is not null, such that the first
+   * {@code k} values of the range are its {@code k} least values according to
+   * the provided {@link CharComparator}, in sorted order.
+   *
+   * @param a The array of {@code char}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void partialSort(final char[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final CharComparator c) {
+    CharSelect.partialSort(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code short}s, moving the
+   * values of the paired array in tandem if it is not null, such that the value
+   * at index {@code k} is the value that would be at that index if the range
+   * were sorted according to the provided {@link ShortComparator}.
+   *
+   * @param a The array of {@code short}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final short[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final ShortComparator c) {
+    ShortSelect.select(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code short}s, moving the
+   * values of the paired array in tandem if it is not null, such that the first
+   * {@code k} values of the range are its {@code k} least values according to
+   * the provided {@link ShortComparator}, in sorted order.
+   *
+   * @param a The array of {@code short}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void partialSort(final short[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final ShortComparator c) {
+    ShortSelect.partialSort(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code int}s, moving the
+   * values of the paired array in tandem if it is not null, such that the value
+   * at index {@code k} is the value that would be at that index if the range
+   * were sorted according to the provided {@link IntComparator}.
+   *
+   * @param a The array of {@code int}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final int[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final IntComparator c) {
+    IntSelect.select(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code int}s, moving the
+   * values of the paired array in tandem if it is not null, such that the first
+   * {@code k} values of the range are its {@code k} least values according to
+   * the provided {@link IntComparator}, in sorted order.
+   *
+   * @param a The array of {@code int}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void partialSort(final int[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final IntComparator c) {
+    IntSelect.partialSort(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code long}s, moving the
+   * values of the paired array in tandem if it is not null, such that the value
+   * at index {@code k} is the value that would be at that index if the range
+   * were sorted according to the provided {@link LongComparator}.
+   *
+   * @param a The array of {@code long}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final long[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final LongComparator c) {
+    LongSelect.select(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code long}s, moving the
+   * values of the paired array in tandem if it is not null, such that the first
+   * {@code k} values of the range are its {@code k} least values according to
+   * the provided {@link LongComparator}, in sorted order.
+   *
+   * @param a The array of {@code long}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void partialSort(final long[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final LongComparator c) {
+    LongSelect.partialSort(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code float}s, moving the
+   * values of the paired array in tandem if it is not null, such that the value
+   * at index {@code k} is the value that would be at that index if the range
+   * were sorted according to the provided {@link FloatComparator}.
+   *
+   * @param a The array of {@code float}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final float[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final FloatComparator c) {
+    FloatSelect.select(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code float}s, moving the
+   * values of the paired array in tandem if it is not null, such that the first
+   * {@code k} values of the range are its {@code k} least values according to
+   * the provided {@link FloatComparator}, in sorted order.
+   *
+   * @param a The array of {@code float}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void partialSort(final float[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final FloatComparator c) {
+    FloatSelect.partialSort(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code double}s, moving the
+   * values of the paired array in tandem if it is not null, such that the value
+   * at index {@code k} is the value that would be at that index if the range
+   * were sorted according to the provided {@link DoubleComparator}.
+   *
+   * @param a The array of {@code double}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final double[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final DoubleComparator c) {
+    DoubleSelect.select(a, v, fromIndex, toIndex, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code double}s, moving the
+   * values of the paired array in tandem if it is not null, such that the first
+   * {@code k} values of the range are its {@code k} least values according to
+   * the provided {@link DoubleComparator}, in sorted order.
+   *
+   * @param a The array of {@code double}s.
+   * @param v The paired array, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void partialSort(final double[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final DoubleComparator c) {
+    DoubleSelect.partialSort(a, v, fromIndex, toIndex, k, c);
   }
 
   protected PrimitiveSort() {
@@ -0,0 +1,291 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.zip;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Checksum;
+
+/**
+ * Fast algorithm to compute the CRC32C (Castagnoli) of a data stream, as
+ * specified by RFC 3720, and as computed by {@code java.util.zip.CRC32C} in
+ * Java 9+.
+ * <p>
+ * Arrays and buffers are processed 8 bytes at a time with the "slicing-by-8"
+ * algorithm, which looks up each of the 8 bytes in a separate table, such that
+ * the lookups are independent of each other.
+ */
+public class CRC32C implements Checksum {
+  /**
+   * CRC-32C (Castagnoli) from iSCSI (RFC 3720), SCTP, and ext4
+   *
+   * <pre>
+   * The polynomial code used is 0x1EDC6F41 (CRC32C)
+   * x32+x28+x27+x26+x25+x23+x22+x20+x19+x18+x14+x13+x11+x10+x9+x8+x6+1
+   * </pre>
+   *
+   * poly=0x1edc6f41 init=0xffffffff refin=true refout=true xorout=0xffffffff
+   *
+   * @see <a href="http://en.wikipedia.org/wiki/Cyclic_redundancy_check">Cyclic
+   *      redundancy check</a>
+   * @see <a href="http://reveng.sourceforge.net/crc-catalogue/17plus.htm">CRC
+   *      RevEng</a>
+   */
+  private static final int[] CRC_TABLE = new int[256];
+
+  /** The reflected polynomial {@code 0x1EDC6F41}. */
+  private static final int POLY = 0x82F63B78;
+
+  /**
+   * The tables for the slicing-by-8 algorithm, where {@code SLICING_TABLES[k][i]}
+   * is the CRC of byte {@code i} followed by {@code k} zero bytes.
+   */
+  private static final int[][] SLICING_TABLES = new int[8][];
+
+  static {
+    for (int i = 0; i < 256; ++i) {
+      int crc = i;
+      for (int j = 0; j < 8; ++j)
+        crc = (crc >>> 1) ^ (POLY & -(crc & 1));
+
+      CRC_TABLE[i] = crc;
+    }
+
+    SLICING_TABLES[0] = CRC_TABLE;
+    for (int k = 1; k < SLICING_TABLES.length; ++k) {
+      final int[] prev = SLICING_TABLES[k - 1];
+      final int[] table = SLICING_TABLES[k] = new int[256];
+      for (int i = 0; i < 256; ++i)
+        table[i] = (prev[i] >>> 8) ^ CRC_TABLE[prev[i] & 0xFF];
+    }
+  }
+
+  /**
+   * Returns the CRC-32C of the concatenation of two sequences of bytes, given
+   * the CRC-32C of each sequence, and the length of the second.
+   * <p>
+   * The CRC of the first sequence is shifted by {@code lengthB} zero bytes
+   * with a matrix over GF(2) that is repeatedly squared, as per
+   * {@code crc32_combine()} of zlib, which runs in {@code O(log(lengthB))}
+   * time.
+   *
+   * @param crcA The CRC-32C of the first sequence.
+   * @param crcB The CRC-32C of the second sequence.
+   * @param lengthB The length of the second sequence.
+   * @return The CRC-32C of the concatenation of the two sequences.
+   * @throws IllegalArgumentException If {@code lengthB} is negative.
+   */
+  public static long combine(final long crcA, final long crcB, final long lengthB) {
+    return CRC32Combiner.combine(POLY, crcA, crcB, lengthB);
+  }
+
+  /**
+   * Returns the CRC-32C of the remaining bytes of the specified buffer,
+   * computed in parallel in the {@linkplain ForkJoinPool#commonPool() common
+   * pool}. The position of the buffer is not changed.
+   *
+   * @param buffer The buffer.
+   * @return The CRC-32C of the remaining bytes of the specified buffer.
+   * @throws NullPointerException If {@code buffer} is null.
+   */
+  public static long parallelChecksum(final ByteBuffer buffer) {
+    return parallelChecksum(buffer, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Returns the CRC-32C of the remaining bytes of the specified buffer,
+   * computed in parallel in the specified {@link ForkJoinPool}. The buffer is
+   * split into ranges of at least 1MB, whose CRCs are computed in parallel and
+   * combined with {@link #combine(long,long,long)}. The position of the
+   * buffer is not changed.
+   *
+   * @param buffer The buffer.
+   * @param pool The {@link ForkJoinPool}.
+   * @return The CRC-32C of the remaining bytes of the specified buffer.
+   * @throws NullPointerException If {@code buffer} or {@code pool} is null.
+   */
+  public static long parallelChecksum(final ByteBuffer buffer, final ForkJoinPool pool) {
+    return ParallelChecksum.checksum(buffer, pool, CRC32C::new, CRC32C::combine);
+  }
+
+  /**
+   * Returns the CRC-32C of the content of the specified channel, computed in
+   * parallel in the {@linkplain ForkJoinPool#commonPool() common pool}. The
+   * position of the channel is not changed.
+   *
+   * @param channel The channel.
+   * @return The CRC-32C of the content of the specified channel.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code channel} is null.
+   */
+  public static long parallelChecksum(final FileChannel channel) throws IOException {
+    return parallelChecksum(channel, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Returns the CRC-32C of the content of the specified channel, computed in
+   * parallel in the specified {@link ForkJoinPool}. The content is split into
+   * ranges of at least 1MB, which are read with positional reads, and whose
+   * CRCs are computed in parallel and combined with
+   * {@link #combine(long,long,long)}. The position of the channel is not
+   * changed.
+   *
+   * @param channel The channel.
+   * @param pool The {@link ForkJoinPool}.
+   * @return The CRC-32C of the content of the specified channel.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code channel} or {@code pool} is null.
+   */
+  public static long parallelChecksum(final FileChannel channel, final ForkJoinPool pool) throws IOException {
+    return ParallelChecksum.checksum(channel, pool, CRC32C::new, CRC32C::combine);
+  }
+
+  private int crc = ~0;
+
+  /**
+   * Updates the CRC-32C checksum with the specified byte (the low eight bits of
+   * the argument b).
+   *
+   * @param b The byte to update the checksum with.
+   */
+  @Override
+  public void update(final int b) {
+    crc = ((crc >>> 8) ^ CRC_TABLE[(crc ^ (b & 0xFF)) & 0xFF]);
+  }
+
+  /**
+   * Updates the CRC-32C checksum with the specified array of bytes.
+   *
+   * @throws ArrayIndexOutOfBoundsException If {@code off} is negative, or
+   *           {@code len} is negative, or {@code off+len} is greater than the
+   *           length of the array {@code b}.
+   */
+  @Override
+  public void update(final byte[] b, int off, final int len) {
+    if (off < 0 || len < 0 || off > b.length - len)
+      throw new ArrayIndexOutOfBoundsException("off=" + off + ", len=" + len + ", b.length=" + b.length);
+
+    final int[] t0 = CRC_TABLE;
+    final int[] t1 = SLICING_TABLES[1];
+    final int[] t2 = SLICING_TABLES[2];
+    final int[] t3 = SLICING_TABLES[3];
+    final int[] t4 = SLICING_TABLES[4];
+    final int[] t5 = SLICING_TABLES[5];
+    final int[] t6 = SLICING_TABLES[6];
+    final int[] t7 = SLICING_TABLES[7];
+    int c = crc;
+    final int end = off + len;
+    for (final int end8 = end - 7; off < end8; off += 8) {
+      c = t7[(c ^ b[off]) & 0xFF]
+        ^ t6[((c >>> 8) ^ b[off + 1]) & 0xFF]
+        ^ t5[((c >>> 16) ^ b[off + 2]) & 0xFF]
+        ^ t4[((c >>> 24) ^ b[off + 3]) & 0xFF]
+        ^ t3[b[off + 4] & 0xFF]
+        ^ t2[b[off + 5] & 0xFF]
+        ^ t1[b[off + 6] & 0xFF]
+        ^ t0[b[off + 7] & 0xFF];
+    }
+
+    for (; off < end; ++off)
+      c = (c >>> 8) ^ t0[(c ^ b[off]) & 0xFF];
+
+    crc = c;
+  }
+
+  /**
+   * Updates the CRC-32C checksum with the bytes from the specified buffer. The
+   * checksum is updated with the remaining bytes in the buffer, starting at
+   * the buffer's position. Upon return, the buffer's position will be updated
+   * to its limit; its limit will not have been changed.
+   * <p>
+   * The bytes of a direct buffer are read 8 at a time from the buffer itself,
+   * without being copied to an array.
+   *
+   * @param buffer The buffer to update the checksum with.
+   * @throws NullPointerException If {@code buffer} is null.
+   */
+  public void update(final ByteBuffer buffer) {
+    int pos = buffer.position();
+    final int limit = buffer.limit();
+    if (pos >= limit)
+      return;
+
+    if (buffer.hasArray()) {
+      update(buffer.array(), buffer.arrayOffset() + pos, limit - pos);
+    }
+    else {
+      final int[] t0 = CRC_TABLE;
+      final int[] t1 = SLICING_TABLES[1];
+      final int[] t2 = SLICING_TABLES[2];
+      final int[] t3 = SLICING_TABLES[3];
+      final int[] t4 = SLICING_TABLES[4];
+      final int[] t5 = SLICING_TABLES[5];
+      final int[] t6 = SLICING_TABLES[6];
+      final int[] t7 = SLICING_TABLES[7];
+      final boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+      int c = crc;
+      for (final int limit8 = limit - 7; pos < limit8; pos += 8) {
+        final long word = bigEndian ? Long.reverseBytes(buffer.getLong(pos)) : buffer.getLong(pos);
+        final int lo = c ^ (int)word;
+        final int hi = (int)(word >>> 32);
+        c = t7[lo & 0xFF]
+          ^ t6[(lo >>> 8) & 0xFF]
+          ^ t5[(lo >>> 16) & 0xFF]
+          ^ t4[lo >>> 24]
+          ^ t3[hi & 0xFF]
+          ^ t2[(hi >>> 8) & 0xFF]
+          ^ t1[(hi >>> 16) & 0xFF]
+          ^ t0[hi >>> 24];
+      }
+
+      for (; pos < limit; ++pos)
+        c = (c >>> 8) ^ t0[(c ^ buffer.get(pos)) & 0xFF];
+
+      crc = c;
+    }
+
+    buffer.position(limit);
+  }
+
+  /**
+   * Updates the CRC-32C checksum with the specified array of bytes.
+   *
+   * @param b The array of bytes to update the checksum with.
+   */
+  public void update(final byte[] b) {
+    update(b, 0, b.length);
+  }
+
+  /**
+   * Resets CRC-32C to initial value.
+   */
+  @Override
+  public void reset() {
+    crc = ~0;
+  }
+
+  /**
+   * Returns CRC-32C value.
+   */
+  @Override
+  public long getValue() {
+    return (crc ^ 0xFFFFFFFF) & 0xFFFFFFFFL;
+  }
+}
\ No newline at end of file
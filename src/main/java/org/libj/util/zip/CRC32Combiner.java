@@ -0,0 +1,107 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+
+package org.libj.util.zip;
+
+/**
+ * Combination of the CRCs of two sequences of bytes into the CRC of their
+ * concatenation, for the reflected 32-bit CRCs {@link CRC32} and
+ * {@link CRC32C}, which differ only in their polynomial.
+ */
+final class CRC32Combiner {
+  /**
+   * Returns the result of multiplying the specified 32x32 matrix over
+   * GF(2) by the specified vector.
+   */
+  private static int times(final int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; ++i, vector >>>= 1)
+      if ((vector & 1) != 0)
+        sum ^= matrix[i];
+
+    return sum;
+  }
+
+  /**
+   * Sets the specified 32x32 matrix over GF(2) to the square of the
+   * other.
+   */
+  private static void square(final int[] square, final int[] matrix) {
+    for (int i = 0; i < 32; ++i)
+      square[i] = times(matrix, matrix[i]);
+  }
+
+  /**
+   * Returns the CRC of the concatenation of two sequences of bytes, given the
+   * CRC of each sequence with the specified reflected polynomial, and the
+   * length of the second.
+   * <p>
+   * The CRC of the first sequence is shifted by {@code lengthB} zero bytes
+   * with a matrix over GF(2) that is repeatedly squared, as per
+   * {@code crc32_combine()} of zlib, which runs in {@code O(log(lengthB))}
+   * time.
+   *
+   * @param poly The reflected polynomial of the CRC.
+   * @param crcA The CRC of the first sequence.
+   * @param crcB The CRC of the second sequence.
+   * @param lengthB The length of the second sequence.
+   * @return The CRC of the concatenation of the two sequences.
+   * @throws IllegalArgumentException If {@code lengthB} is negative.
+   */
+  static long combine(final int poly, final long crcA, final long crcB, long lengthB) {
+    if (lengthB < 0)
+      throw new IllegalArgumentException("lengthB (" + lengthB + ") must be non-negative");
+
+    if (lengthB == 0)
+      return crcA;
+
+    // The operator for a single zero bit
+    final int[] odd = new int[32];
+    odd[0] = poly;
+    for (int i = 1; i < 32; ++i)
+      odd[i] = 1 << (i - 1);
+
+    // The operators for 2 and 4 zero bits
+    final int[] even = new int[32];
+    square(even, odd);
+    square(odd, even);
+
+    // Apply the operators for 8, 16, 32, ... zero bits for each set bit of lengthB
+    int crc = (int)crcA;
+    do {
+      square(even, odd);
+      if ((lengthB & 1) != 0)
+        crc = times(even, crc);
+
+      lengthB >>>= 1;
+      if (lengthB == 0)
+        break;
+
+      square(odd, even);
+      if ((lengthB & 1) != 0)
+        crc = times(odd, crc);
+
+      lengthB >>>= 1;
+    }
+    while (lengthB != 0);
+
+    return (crc ^ (int)crcB) & 0xFFFFFFFFL;
+  }
+
+  private CRC32Combiner() {
+  }
+}
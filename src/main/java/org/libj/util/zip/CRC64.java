@@ -16,10 +16,19 @@
 
 package org.libj.util.zip;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.Checksum;
 
 /**
  * Fast algorithm to compute the CRC64-ECMA-182 of a data stream.
+ * <p>
+ * Arrays and buffers are processed 8 bytes at a time with the "slicing-by-8"
+ * algorithm, which looks up each of the 8 bytes in a separate table, such that
+ * the lookups are independent of each other.
  *
  * @see Checksum
  */
@@ -129,6 +138,164 @@ public class CRC64 implements Checksum {
     0x1F1D25F19D51D821L, 0xD80C07CD676F8394L, 0x9AFCE626CE85B507L
   };
 
+  /**
+   * The tables for the slicing-by-8 algorithm, where {@code SLICING_TABLES[k][i]}
+   * is the CRC of byte {@code i} followed by {@code k} zero bytes.
+   */
+  private static final long[][] SLICING_TABLES = new long[8][];
+
+  static {
+    SLICING_TABLES[0] = CRC_TABLE;
+    for (int k = 1; k < SLICING_TABLES.length; ++k) {
+      final long[] prev = SLICING_TABLES[k - 1];
+      final long[] table = SLICING_TABLES[k] = new long[256];
+      for (int i = 0; i < 256; ++i)
+        table[i] = (prev[i] << 8) ^ CRC_TABLE[(int)(prev[i] >>> 56)];
+    }
+  }
+
+  /** The polynomial {@code 0x42F0E1EBA9EA3693}. */
+  private static final long POLY = 0x42F0E1EBA9EA3693L;
+
+  /**
+   * Returns the result of multiplying the specified 64x64 matrix over
+   * GF(2) by the specified vector.
+   */
+  private static long times(final long[] matrix, long vector) {
+    long sum = 0;
+    for (int i = 0; vector != 0; ++i, vector >>>= 1)
+      if ((vector & 1) != 0)
+        sum ^= matrix[i];
+
+    return sum;
+  }
+
+  /**
+   * Sets the specified 64x64 matrix over GF(2) to the square of the
+   * other.
+   */
+  private static void square(final long[] square, final long[] matrix) {
+    for (int i = 0; i < 64; ++i)
+      square[i] = times(matrix, matrix[i]);
+  }
+
+  /**
+   * Returns the CRC-64 of the concatenation of two sequences of bytes, given
+   * the CRC-64 of each sequence, and the length of the second.
+   * <p>
+   * The CRC of the first sequence is shifted by {@code lengthB} zero bytes
+   * with a matrix over GF(2) that is repeatedly squared, as per
+   * {@code crc32_combine()} of zlib, which runs in {@code O(log(lengthB))}
+   * time.
+   *
+   * @param crcA The CRC-64 of the first sequence.
+   * @param crcB The CRC-64 of the second sequence.
+   * @param lengthB The length of the second sequence.
+   * @return The CRC-64 of the concatenation of the two sequences.
+   * @throws IllegalArgumentException If {@code lengthB} is negative.
+   */
+  public static long combine(final long crcA, final long crcB, long lengthB) {
+    if (lengthB < 0)
+      throw new IllegalArgumentException("lengthB (" + lengthB + ") must be non-negative");
+
+    if (lengthB == 0)
+      return crcA;
+
+    // The operator for a single zero bit
+    final long[] odd = new long[64];
+    for (int i = 0; i < 63; ++i)
+      odd[i] = 1L << (i + 1);
+
+    odd[63] = POLY;
+
+    // The operators for 2 and 4 zero bits
+    final long[] even = new long[64];
+    square(even, odd);
+    square(odd, even);
+
+    // Apply the operators for 8, 16, 32, ... zero bits for each set bit of lengthB
+    long crc = crcA;
+    do {
+      square(even, odd);
+      if ((lengthB & 1) != 0)
+        crc = times(even, crc);
+
+      lengthB >>>= 1;
+      if (lengthB == 0)
+        break;
+
+      square(odd, even);
+      if ((lengthB & 1) != 0)
+        crc = times(odd, crc);
+
+      lengthB >>>= 1;
+    }
+    while (lengthB != 0);
+
+    return crc ^ crcB;
+  }
+
+  /**
+   * Returns the CRC-64 of the remaining bytes of the specified buffer,
+   * computed in parallel in the {@linkplain ForkJoinPool#commonPool() common
+   * pool}. The position of the buffer is not changed.
+   *
+   * @param buffer The buffer.
+   * @return The CRC-64 of the remaining bytes of the specified buffer.
+   * @throws NullPointerException If {@code buffer} is null.
+   */
+  public static long parallelChecksum(final ByteBuffer buffer) {
+    return parallelChecksum(buffer, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Returns the CRC-64 of the remaining bytes of the specified buffer,
+   * computed in parallel in the specified {@link ForkJoinPool}. The buffer is
+   * split into ranges of at least 1MB, whose CRCs are computed in parallel and
+   * combined with {@link #combine(long,long,long)}. The position of the
+   * buffer is not changed.
+   *
+   * @param buffer The buffer.
+   * @param pool The {@link ForkJoinPool}.
+   * @return The CRC-64 of the remaining bytes of the specified buffer.
+   * @throws NullPointerException If {@code buffer} or {@code pool} is null.
+   */
+  public static long parallelChecksum(final ByteBuffer buffer, final ForkJoinPool pool) {
+    return ParallelChecksum.checksum(buffer, pool, CRC64::new, CRC64::combine);
+  }
+
+  /**
+   * Returns the CRC-64 of the content of the specified channel, computed in
+   * parallel in the {@linkplain ForkJoinPool#commonPool() common pool}. The
+   * position of the channel is not changed.
+   *
+   * @param channel The channel.
+   * @return The CRC-64 of the content of the specified channel.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code channel} is null.
+   */
+  public static long parallelChecksum(final FileChannel channel) throws IOException {
+    return parallelChecksum(channel, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Returns the CRC-64 of the content of the specified channel, computed in
+   * parallel in the specified {@link ForkJoinPool}. The content is split into
+   * ranges of at least 1MB, which are read with positional reads, and whose
+   * CRCs are computed in parallel and combined with
+   * {@link #combine(long,long,long)}. The position of the channel is not
+   * changed.
+   *
+   * @param channel The channel.
+   * @param pool The {@link ForkJoinPool}.
+   * @return The CRC-64 of the content of the specified channel.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code channel} or {@code pool} is null.
+   */
+  public static long parallelChecksum(final FileChannel channel, final ForkJoinPool pool) throws IOException {
+    return ParallelChecksum.checksum(channel, pool, CRC64::new, CRC64::combine);
+  }
+
   private long crc;
 
   /**
@@ -160,9 +327,35 @@ public class CRC64 implements Checksum {
    *           length of the array {@code b}.
    */
   @Override
-  public void update(final byte[] b, final int off, int len) {
-    for (int i = off; len > 0; --len)
-      update(b[i++]);
+  public void update(final byte[] b, int off, final int len) {
+    if (off < 0 || len < 0 || off > b.length - len)
+      throw new ArrayIndexOutOfBoundsException("off=" + off + ", len=" + len + ", b.length=" + b.length);
+
+    final long[] t0 = CRC_TABLE;
+    final long[] t1 = SLICING_TABLES[1];
+    final long[] t2 = SLICING_TABLES[2];
+    final long[] t3 = SLICING_TABLES[3];
+    final long[] t4 = SLICING_TABLES[4];
+    final long[] t5 = SLICING_TABLES[5];
+    final long[] t6 = SLICING_TABLES[6];
+    final long[] t7 = SLICING_TABLES[7];
+    long c = crc;
+    final int end = off + len;
+    for (final int end8 = end - 7; off < end8; off += 8) {
+      c = t7[((int)(c >>> 56) ^ b[off]) & 0xFF]
+        ^ t6[((int)(c >>> 48) ^ b[off + 1]) & 0xFF]
+        ^ t5[((int)(c >>> 40) ^ b[off + 2]) & 0xFF]
+        ^ t4[((int)(c >>> 32) ^ b[off + 3]) & 0xFF]
+        ^ t3[((int)(c >>> 24) ^ b[off + 4]) & 0xFF]
+        ^ t2[((int)(c >>> 16) ^ b[off + 5]) & 0xFF]
+        ^ t1[((int)(c >>> 8) ^ b[off + 6]) & 0xFF]
+        ^ t0[((int)c ^ b[off + 7]) & 0xFF];
+    }
+
+    for (; off < end; ++off)
+      c = t0[((int)(c >>> 56) ^ b[off]) & 0xFF] ^ (c << 8);
+
+    crc = c;
   }
 
   /**
@@ -171,8 +364,60 @@ public class CRC64 implements Checksum {
    * @param b The array of bytes to update the checksum with.
    */
   public void update(final byte[] b) {
-    for (int i = 0; i < b.length; ++i)
-      update(b[i]);
+    update(b, 0, b.length);
+  }
+
+  /**
+   * Updates the CRC-64 checksum with the bytes from the specified buffer. The
+   * checksum is updated with the remaining bytes in the buffer, starting at
+   * the buffer's position. Upon return, the buffer's position will be updated
+   * to its limit; its limit will not have been changed.
+   * <p>
+   * The bytes of a direct (or mapped) buffer are read 8 at a time from the
+   * buffer itself, without being copied to an array.
+   *
+   * @param buffer The buffer to update the checksum with.
+   * @throws NullPointerException If {@code buffer} is null.
+   */
+  public void update(final ByteBuffer buffer) {
+    int pos = buffer.position();
+    final int limit = buffer.limit();
+    if (pos >= limit)
+      return;
+
+    if (buffer.hasArray()) {
+      update(buffer.array(), buffer.arrayOffset() + pos, limit - pos);
+    }
+    else {
+      final long[] t0 = CRC_TABLE;
+      final long[] t1 = SLICING_TABLES[1];
+      final long[] t2 = SLICING_TABLES[2];
+      final long[] t3 = SLICING_TABLES[3];
+      final long[] t4 = SLICING_TABLES[4];
+      final long[] t5 = SLICING_TABLES[5];
+      final long[] t6 = SLICING_TABLES[6];
+      final long[] t7 = SLICING_TABLES[7];
+      final boolean littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN;
+      long c = crc;
+      for (final int limit8 = limit - 7; pos < limit8; pos += 8) {
+        final long x = c ^ (littleEndian ? Long.reverseBytes(buffer.getLong(pos)) : buffer.getLong(pos));
+        c = t7[(int)(x >>> 56)]
+          ^ t6[(int)(x >>> 48) & 0xFF]
+          ^ t5[(int)(x >>> 40) & 0xFF]
+          ^ t4[(int)(x >>> 32) & 0xFF]
+          ^ t3[(int)(x >>> 24) & 0xFF]
+          ^ t2[(int)(x >>> 16) & 0xFF]
+          ^ t1[(int)(x >>> 8) & 0xFF]
+          ^ t0[(int)x & 0xFF];
+      }
+
+      for (; pos < limit; ++pos)
+        c = t0[((int)(c >>> 56) ^ buffer.get(pos)) & 0xFF] ^ (c << 8);
+
+      crc = c;
+    }
+
+    buffer.position(limit);
   }
 
   /**
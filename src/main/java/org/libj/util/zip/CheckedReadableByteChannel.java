@@ -0,0 +1,128 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+
+package org.libj.util.zip;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+
+/**
+ * A {@link ReadableByteChannel} that maintains a checksum of the data being
+ * read, as {@link CheckedInputStream} does for an {@link java.io.InputStream}.
+ * <p>
+ * The bytes read into a buffer are passed to the checksum directly from the
+ * buffer. For a {@link CRC32}, {@link CRC32C}, or {@link CRC64} checksum, this
+ * means that the bytes read into a direct buffer are not copied to an array,
+ * such that a file can be fingerprinted while reading it into a direct buffer
+ * at close to memory bandwidth.
+ */
+public class CheckedReadableByteChannel implements ReadableByteChannel {
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * Updates the specified checksum with the remaining bytes of the specified
+   * buffer, advancing the position of the buffer to its limit.
+   *
+   * @param checksum The checksum.
+   * @param buffer The buffer.
+   * @throws NullPointerException If {@code checksum} or {@code buffer} is null.
+   */
+  static void update(final Checksum checksum, final ByteBuffer buffer) {
+    if (checksum instanceof CRC64) {
+      ((CRC64)checksum).update(buffer);
+    }
+    else if (checksum instanceof CRC32) {
+      ((CRC32)checksum).update(buffer);
+    }
+    else if (checksum instanceof CRC32C) {
+      ((CRC32C)checksum).update(buffer);
+    }
+    else if (buffer.hasArray()) {
+      checksum.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      buffer.position(buffer.limit());
+    }
+    else {
+      final byte[] bytes = new byte[Math.min(buffer.remaining(), BUFFER_SIZE)];
+      for (int len; (len = Math.min(buffer.remaining(), bytes.length)) > 0;) {
+        buffer.get(bytes, 0, len);
+        checksum.update(bytes, 0, len);
+      }
+    }
+  }
+
+  private final ReadableByteChannel channel;
+  private final Checksum checksum;
+
+  /**
+   * Creates a new {@link CheckedReadableByteChannel} of the specified channel
+   * and checksum.
+   *
+   * @param channel The channel.
+   * @param checksum The checksum.
+   * @throws NullPointerException If {@code channel} or {@code checksum} is null.
+   */
+  public CheckedReadableByteChannel(final ReadableByteChannel channel, final Checksum checksum) {
+    this.channel = Objects.requireNonNull(channel);
+    this.checksum = Objects.requireNonNull(checksum);
+  }
+
+  /**
+   * Reads a sequence of bytes from the underlying channel into the specified
+   * buffer, and updates the checksum with the bytes that were read.
+   *
+   * @param dst The buffer into which bytes are to be transferred.
+   * @return The number of bytes read, possibly zero, or {@code -1} if the
+   *         channel has reached end-of-stream.
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public int read(final ByteBuffer dst) throws IOException {
+    final int position = dst.position();
+    final int read = channel.read(dst);
+    if (read > 0) {
+      final ByteBuffer bytes = dst.duplicate();
+      bytes.limit(dst.position());
+      bytes.position(position);
+      update(checksum, bytes);
+    }
+
+    return read;
+  }
+
+  /**
+   * Returns the checksum for this channel.
+   *
+   * @return The checksum for this channel.
+   */
+  public Checksum getChecksum() {
+    return checksum;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return channel.isOpen();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,197 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+
+package org.libj.util.zip;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+
+/**
+ * Computation of a CRC of a {@link ByteBuffer} or {@link FileChannel} in
+ * parallel, by splitting the input into ranges whose CRCs are computed in a
+ * {@link ForkJoinPool}, and combined with the {@code combine} operation of the
+ * CRC (i.e. {@link CRC32#combine(long,long,long)} or
+ * {@link CRC64#combine(long,long,long)}).
+ */
+final class ParallelChecksum {
+  /** The minimum length of a range whose CRC is computed sequentially. */
+  private static final int MIN_GRAIN = 1 << 20;
+
+  /** The size of the buffer with which ranges of a channel are read. */
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /**
+   * Combines the CRCs of two adjacent ranges into the CRC of their
+   * concatenation.
+   */
+  @FunctionalInterface
+  interface Combiner {
+    long combine(long crcA, long crcB, long lengthB);
+  }
+
+  private static long grain(final long length, final ForkJoinPool pool) {
+    final long grain = length / (pool.getParallelism() << 2);
+    return grain < MIN_GRAIN ? MIN_GRAIN : grain;
+  }
+
+  /**
+   * Returns the CRC of the remaining bytes of the specified buffer, computed in
+   * the specified {@link ForkJoinPool}. The position of the buffer is not
+   * changed.
+   *
+   * @param buffer The buffer.
+   * @param pool The {@link ForkJoinPool}.
+   * @param factory The factory of the {@link Checksum} instances.
+   * @param combiner The {@link Combiner} of the CRCs of adjacent ranges.
+   * @return The CRC of the remaining bytes of the specified buffer.
+   */
+  static long checksum(final ByteBuffer buffer, final ForkJoinPool pool, final Supplier<? extends Checksum> factory, final Combiner combiner) {
+    final int position = buffer.position();
+    final int limit = buffer.limit();
+    return pool.invoke(new BufferTask(buffer, position, limit, grain(limit - position, pool), factory, combiner));
+  }
+
+  /**
+   * Returns the CRC of the content of the specified channel, computed in the
+   * specified {@link ForkJoinPool}. The position of the channel is not
+   * changed.
+   *
+   * @param channel The channel.
+   * @param pool The {@link ForkJoinPool}.
+   * @param factory The factory of the {@link Checksum} instances.
+   * @param combiner The {@link Combiner} of the CRCs of adjacent ranges.
+   * @return The CRC of the content of the specified channel.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static long checksum(final FileChannel channel, final ForkJoinPool pool, final Supplier<? extends Checksum> factory, final Combiner combiner) throws IOException {
+    final long size = channel.size();
+    try {
+      return pool.invoke(new ChannelTask(channel, 0, size, grain(size, pool), factory, combiner));
+    }
+    catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private abstract static class Task extends RecursiveTask<Long> {
+    private static final long serialVersionUID = -3150917212433442617L;
+
+    final long from;
+    final long to;
+    final long grain;
+    final Supplier<? extends Checksum> factory;
+    final Combiner combiner;
+
+    Task(final long from, final long to, final long grain, final Supplier<? extends Checksum> factory, final Combiner combiner) {
+      this.from = from;
+      this.to = to;
+      this.grain = grain;
+      this.factory = factory;
+      this.combiner = combiner;
+    }
+
+    abstract Task newTask(long from, long to);
+    abstract void update(Checksum checksum);
+
+    @Override
+    protected Long compute() {
+      if (to - from <= grain) {
+        final Checksum checksum = factory.get();
+        update(checksum);
+        return checksum.getValue();
+      }
+
+      final long mid = (from + to) >>> 1;
+      final Task left = newTask(from, mid);
+      left.fork();
+      final long crcB = newTask(mid, to).compute();
+      return combiner.combine(left.join(), crcB, to - mid);
+    }
+  }
+
+  private static final class BufferTask extends Task {
+    private static final long serialVersionUID = 1954779612467002137L;
+
+    private final ByteBuffer buffer;
+
+    private BufferTask(final ByteBuffer buffer, final long from, final long to, final long grain, final Supplier<? extends Checksum> factory, final Combiner combiner) {
+      super(from, to, grain, factory, combiner);
+      this.buffer = buffer;
+    }
+
+    @Override
+    Task newTask(final long from, final long to) {
+      return new BufferTask(buffer, from, to, grain, factory, combiner);
+    }
+
+    @Override
+    void update(final Checksum checksum) {
+      final ByteBuffer range = buffer.duplicate();
+      range.limit((int)to);
+      range.position((int)from);
+      CheckedReadableByteChannel.update(checksum, range);
+    }
+  }
+
+  private static final class ChannelTask extends Task {
+    private static final long serialVersionUID = -1716407563066437541L;
+
+    private final FileChannel channel;
+
+    private ChannelTask(final FileChannel channel, final long from, final long to, final long grain, final Supplier<? extends Checksum> factory, final Combiner combiner) {
+      super(from, to, grain, factory, combiner);
+      this.channel = channel;
+    }
+
+    @Override
+    Task newTask(final long from, final long to) {
+      return new ChannelTask(channel, from, to, grain, factory, combiner);
+    }
+
+    @Override
+    void update(final Checksum checksum) {
+      final ByteBuffer buffer = ByteBuffer.allocate((int)Math.min(BUFFER_SIZE, to - from));
+      try {
+        for (long position = from; position < to;) {
+          buffer.clear();
+          if (to - position < buffer.capacity())
+            buffer.limit((int)(to - position));
+
+          final int read = channel.read(buffer, position);
+          if (read < 0)
+            throw new IOException("Unexpected end of channel at position " + position + " of " + to);
+
+          buffer.flip();
+          CheckedReadableByteChannel.update(checksum, buffer);
+          position += read;
+        }
+      }
+      catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  private ParallelChecksum() {
+  }
+}
\ No newline at end of file
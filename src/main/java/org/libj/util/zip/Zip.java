@@ -1,4 +1,4 @@
-/* Copyright (c) 2021 LibJ
+/* Copyright (c) 2017 LibJ
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -16,65 +16,588 @@
 
 package org.libj.util.zip;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 
 /**
  * Utility enum pertaining to {@code java.util.zip} package.
+ * <p>
+ * The data is deflated and inflated with {@link Deflater} and {@link Inflater}
+ * instances, as well as copy buffers, that are pooled per thread, such that
+ * repeated operations on the same thread do not allocate them anew. The
+ * {@link ByteBuffer} and stream variants of the operations allocate no further
+ * buffers, and the {@code byte[]} variants allocate the returned array with
+ * the exact length of the result.
  */
 public enum Zip {
+  /**
+   * The ZIP format, of an archive with a single entry. Compressed data is an
+   * archive with a single deflated entry named {@code "-"}, and decompressed
+   * data is the content of the first entry of an archive, which must be
+   * deflated or stored. ZIP64 and encrypted entries are not supported.
+   */
   ZIP {
+    private static final int LOCHDR = 30;
+    private static final int EXTHDR = 16;
+    private static final int CENHDR = 46;
+    private static final int ENDHDR = 22;
+    private static final int LOCSIG = 0x04034b50;
+    private static final int EXTSIG = 0x08074b50;
+    private static final int CENSIG = 0x02014b50;
+    private static final int ENDSIG = 0x06054b50;
+    private static final int VERSION = 20;
+    private static final int FLAG_ENCRYPTED = 0x1;
+    private static final int FLAG_DESCRIPTOR = 0x8;
+    private static final int DOS_DATE = 0x21; // 1980-01-01
+    private static final byte NAME = '-';
+
     @Override
-    public byte[] compress(final byte[] decompressed) throws IOException {
-      try (
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream(decompressed.length);
-        final ZipOutputStream zos = new ZipOutputStream(baos);
-      ) {
-        zos.write(decompressed);
-        return baos.toByteArray();
-      }
+    void writeHeader(final Output out, final byte[] b) throws IOException {
+      putInt(b, 0, LOCSIG);
+      putShort(b, 4, VERSION);
+      putShort(b, 6, FLAG_DESCRIPTOR);
+      putShort(b, 8, Deflater.DEFLATED);
+      putShort(b, 10, 0);
+      putShort(b, 12, DOS_DATE);
+      putInt(b, 14, 0);
+      putInt(b, 18, 0);
+      putInt(b, 22, 0);
+      putShort(b, 26, 1);
+      putShort(b, 28, 0);
+      b[LOCHDR] = NAME;
+      out.write(b, 0, LOCHDR + 1);
+    }
+
+    @Override
+    void writeTrailer(final Output out, final byte[] b, final int crc, final long compressedSize, final long size) throws IOException {
+      if (compressedSize >= 0xFFFFFFFFL || size >= 0xFFFFFFFFL)
+        throw new ZipException("ZIP64 is not supported");
+
+      putInt(b, 0, EXTSIG);
+      putInt(b, 4, crc);
+      putInt(b, 8, (int)compressedSize);
+      putInt(b, 12, (int)size);
+
+      int i = EXTHDR;
+      putInt(b, i, CENSIG);
+      putShort(b, i + 4, VERSION);
+      putShort(b, i + 6, VERSION);
+      putShort(b, i + 8, FLAG_DESCRIPTOR);
+      putShort(b, i + 10, Deflater.DEFLATED);
+      putShort(b, i + 12, 0);
+      putShort(b, i + 14, DOS_DATE);
+      putInt(b, i + 16, crc);
+      putInt(b, i + 20, (int)compressedSize);
+      putInt(b, i + 24, (int)size);
+      putShort(b, i + 28, 1);
+      Arrays.fill(b, i + 30, i + CENHDR, (byte)0);
+      b[i + CENHDR] = NAME;
+
+      i += CENHDR + 1;
+      putInt(b, i, ENDSIG);
+      putShort(b, i + 4, 0);
+      putShort(b, i + 6, 0);
+      putShort(b, i + 8, 1);
+      putShort(b, i + 10, 1);
+      putInt(b, i + 12, CENHDR + 1);
+      putInt(b, i + 16, (int)(LOCHDR + 1 + compressedSize + EXTHDR));
+      putShort(b, i + 20, 0);
+      out.write(b, 0, i + ENDHDR);
+    }
+
+    @Override
+    boolean readHeader(final Input in, final Member member, final boolean first) throws IOException {
+      if (!first)
+        return false;
+
+      if (in.readInt() != LOCSIG)
+        throw new ZipException("Not in ZIP format");
+
+      in.skip(2);
+      final int flags = in.readShort();
+      member.method = in.readShort();
+      in.skip(4);
+      member.crc = in.readInt() & 0xFFFFFFFFL;
+      member.compressedSize = in.readInt() & 0xFFFFFFFFL;
+      member.size = in.readInt() & 0xFFFFFFFFL;
+      in.skip(in.readShort() + in.readShort());
+      member.descriptor = (flags & FLAG_DESCRIPTOR) != 0;
+      if ((flags & FLAG_ENCRYPTED) != 0)
+        throw new ZipException("Encrypted ZIP entry is not supported");
+
+      if (member.method != Deflater.DEFLATED && member.method != STORED)
+        throw new ZipException("Unsupported compression method: " + member.method);
+
+      if (member.descriptor ? member.method == STORED : member.compressedSize == 0xFFFFFFFFL || member.size == 0xFFFFFFFFL)
+        throw new ZipException(member.descriptor ? "STORED entry with data descriptor is not supported" : "ZIP64 is not supported");
+
+      return true;
     }
 
     @Override
-    public byte[] decompress(final byte[] compressed) throws IOException {
-      try (final InputStream in = new ZipInputStream(new ByteArrayInputStream(compressed))) {
-        return Zip.decompress(in);
+    void readTrailer(final Input in, final Member member, final long crc, final long size) throws IOException {
+      if (member.descriptor) {
+        long value = in.readInt() & 0xFFFFFFFFL;
+        if (value == EXTSIG)
+          value = in.readInt() & 0xFFFFFFFFL;
+
+        member.crc = value;
+        in.skip(4);
+        member.size = in.readInt() & 0xFFFFFFFFL;
       }
+
+      if (member.crc != crc || member.size != size)
+        throw new ZipException("Invalid entry: expected crc 0x" + Long.toHexString(member.crc) + " and size " + member.size + ", but got crc 0x" + Long.toHexString(crc) + " and size " + size);
+    }
+
+    @Override
+    int sizeHint(final byte[] compressed) {
+      final int len = compressed.length;
+      if (len < LOCHDR || getInt(compressed, 0) != LOCSIG)
+        return -1;
+
+      if ((getShort(compressed, 6) & FLAG_DESCRIPTOR) == 0)
+        return toSizeHint(getInt(compressed, 22) & 0xFFFFFFFFL, len);
+
+      // The size of an entry with a data descriptor is in the central directory
+      final int end = len - ENDHDR;
+      if (end < 0 || getInt(compressed, end) != ENDSIG)
+        return -1;
+
+      final long cen = getInt(compressed, end + 16) & 0xFFFFFFFFL;
+      if (cen + CENHDR > end || getInt(compressed, (int)cen) != CENSIG)
+        return -1;
+
+      return toSizeHint(getInt(compressed, (int)cen + 24) & 0xFFFFFFFFL, len);
     }
   },
+  /**
+   * The GZIP format, as per <a href="https://tools.ietf.org/html/rfc1952">RFC
+   * 1952</a>. Compressed data is a single member, and decompressed data is the
+   * concatenation of the content of all consecutive members.
+   */
   GZIP {
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int HEADER_SIZE = 10;
+    private static final int TRAILER_SIZE = 8;
+    private static final byte OS_UNKNOWN = (byte)0xFF;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
     @Override
-    public byte[] compress(final byte[] decompressed) throws IOException {
-      try (
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream(decompressed.length);
-        final GZIPOutputStream gzos = new GZIPOutputStream(baos);
-      ) {
-        gzos.write(decompressed);
-        return baos.toByteArray();
-      }
+    void writeHeader(final Output out, final byte[] b) throws IOException {
+      putShort(b, 0, GZIP_MAGIC);
+      b[2] = Deflater.DEFLATED;
+      Arrays.fill(b, 3, HEADER_SIZE - 1, (byte)0);
+      b[HEADER_SIZE - 1] = OS_UNKNOWN;
+      out.write(b, 0, HEADER_SIZE);
+    }
+
+    @Override
+    void writeTrailer(final Output out, final byte[] b, final int crc, final long compressedSize, final long size) throws IOException {
+      putInt(b, 0, crc);
+      putInt(b, 4, (int)size);
+      out.write(b, 0, TRAILER_SIZE);
     }
 
     @Override
-    public byte[] decompress(final byte[] compressed) throws IOException {
-      try (final InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
-        return Zip.decompress(in);
+    boolean readHeader(final Input in, final Member member, final boolean first) throws IOException {
+      final int b0 = in.read();
+      final int b1 = b0 < 0 ? -1 : in.read();
+      if (b0 != (GZIP_MAGIC & 0xFF) || b1 != GZIP_MAGIC >>> 8) {
+        if (first)
+          throw b1 < 0 ? new EOFException() : new ZipException("Not in GZIP format");
+
+        // The bytes that follow the last member are unread, though the input
+        // may have been read beyond them, as per decompress(InputStream,OutputStream)
+        in.unread(b1 < 0 ? b0 < 0 ? 0 : 1 : 2);
+        return false;
       }
+
+      member.method = in.readByte();
+      if (member.method != Deflater.DEFLATED)
+        throw new ZipException("Unsupported compression method: " + member.method);
+
+      final int flags = in.readByte();
+      in.skip(6);
+      if ((flags & FEXTRA) != 0)
+        in.skip(in.readShort());
+
+      if ((flags & FNAME) != 0)
+        while (in.readByte() != 0);
+
+      if ((flags & FCOMMENT) != 0)
+        while (in.readByte() != 0);
+
+      if ((flags & FHCRC) != 0)
+        in.skip(2);
+
+      return true;
+    }
+
+    @Override
+    void readTrailer(final Input in, final Member member, final long crc, final long size) throws IOException {
+      if ((in.readInt() & 0xFFFFFFFFL) != crc || (in.readInt() & 0xFFFFFFFFL) != (size & 0xFFFFFFFFL))
+        throw new ZipException("Corrupt GZIP trailer");
+    }
+
+    @Override
+    int sizeHint(final byte[] compressed) {
+      final int len = compressed.length;
+      return len < HEADER_SIZE + TRAILER_SIZE ? -1 : toSizeHint(getInt(compressed, len - 4) & 0xFFFFFFFFL, len);
     }
   };
 
-  private static byte[] decompress(final InputStream in) throws IOException {
-    final byte[] buffer = new byte[1024];
-    try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-      for (int len; (len = in.read(buffer)) > 0;)
-        out.write(buffer, 0, len);
+  private static final int STORED = 0;
 
-      return out.toByteArray();
+  /** The maximum ratio of the decompressed to compressed length of deflated data. */
+  private static final int MAX_RATIO = 1032;
+
+  /** The size of the window of deflate, which is the maximum size of a dictionary. */
+  private static final int DICTIONARY_SIZE = 1 << 15;
+
+  /** A final, empty block with fixed Huffman codes, which ends a deflate stream. */
+  private static final byte[] FINAL_BLOCK = {0x03, 0x00};
+
+  /** A block of input that is deflated independently by {@link #compress(InputStream,OutputStream,int,int)}. */
+  private static final class Block {
+    private final byte[] data;
+    private final int length;
+    private final long crc;
+    private final int size;
+
+    private Block(final byte[] data, final int length, final long crc, final int size) {
+      this.data = data;
+      this.length = length;
+      this.crc = crc;
+      this.size = size;
+    }
+  }
+
+  /** The fields of the header and trailer of a member of compressed data. */
+  private static final class Member {
+    private int method;
+    private long crc;
+    private long compressedSize;
+    private long size;
+    private boolean descriptor;
+  }
+
+  private abstract static class Input {
+    abstract int read() throws IOException;
+    abstract int read(byte[] b, int off, int len) throws IOException;
+
+    /**
+     * Unreads the last {@code len} bytes that were read into {@code b}, ending
+     * at {@code end}.
+     */
+    abstract void unread(byte[] b, int end, int len) throws IOException;
+
+    /**
+     * Unreads the last {@code len} bytes that were read with {@link #read()}.
+     */
+    abstract void unread(int len) throws IOException;
+
+    final int readByte() throws IOException {
+      final int ch = read();
+      if (ch < 0)
+        throw new EOFException();
+
+      return ch;
+    }
+
+    final int readShort() throws IOException {
+      return readByte() | readByte() << 8;
+    }
+
+    final int readInt() throws IOException {
+      return readShort() | readShort() << 16;
+    }
+
+    final void skip(int n) throws IOException {
+      while (n-- > 0)
+        readByte();
+    }
+  }
+
+  private static final class StreamInput extends Input {
+    private final PushbackInputStream in;
+    /** The byte read with {@link #read()} before {@link #last}. */
+    private int prev;
+    /** The last byte read with {@link #read()}. */
+    private int last;
+
+    private StreamInput(final InputStream in) {
+      this.in = new PushbackInputStream(in, ZipContext.BUFFER_SIZE);
+    }
+
+    @Override
+    int read() throws IOException {
+      final int ch = in.read();
+      if (ch >= 0) {
+        prev = last;
+        last = ch;
+      }
+
+      return ch;
+    }
+
+    @Override
+    int read(final byte[] b, final int off, final int len) throws IOException {
+      return in.read(b, off, len);
+    }
+
+    @Override
+    void unread(final byte[] b, final int end, final int len) throws IOException {
+      in.unread(b, end - len, len);
+    }
+
+    @Override
+    void unread(final int len) throws IOException {
+      // The last byte is unread first, such that the bytes are read again in order
+      if (len > 0)
+        in.unread(last);
+
+      if (len == 2)
+        in.unread(prev);
+    }
+  }
+
+  private static final class BufferInput extends Input {
+    private final ByteBuffer buffer;
+
+    private BufferInput(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    int read(final byte[] b, final int off, final int len) {
+      final int remaining = buffer.remaining();
+      if (remaining == 0)
+        return -1;
+
+      final int n = Math.min(len, remaining);
+      buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    void unread(final byte[] b, final int end, final int len) {
+      unread(len);
+    }
+
+    @Override
+    void unread(final int len) {
+      buffer.position(buffer.position() - len);
+    }
+  }
+
+  private abstract static class Output {
+    long count;
+
+    final void write(final byte[] b, final int off, final int len) throws IOException {
+      write0(b, off, len);
+      count += len;
+    }
+
+    abstract void write0(byte[] b, int off, int len) throws IOException;
+  }
+
+  private static final class StreamOutput extends Output {
+    private final OutputStream out;
+
+    private StreamOutput(final OutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    void write0(final byte[] b, final int off, final int len) throws IOException {
+      out.write(b, off, len);
+    }
+  }
+
+  private static final class BufferOutput extends Output {
+    private final ByteBuffer buffer;
+
+    private BufferOutput(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    void write0(final byte[] b, final int off, final int len) {
+      buffer.put(b, off, len);
+    }
+  }
+
+  /**
+   * An {@link Output} to the result buffer of a {@link ZipContext}, whose
+   * content is returned as an array of the exact length with
+   * {@link #toByteArray()}.
+   */
+  private static final class ArrayOutput extends Output {
+    private final ZipContext context;
+    private byte[] buffer;
+
+    private ArrayOutput(final ZipContext context, final int minLength) {
+      this.context = context;
+      this.buffer = context.result(minLength, 0);
+    }
+
+    @Override
+    void write0(final byte[] b, final int off, final int len) {
+      final int size = (int)count;
+      if (buffer.length - size < len)
+        buffer = context.result(size + len, size);
+
+      System.arraycopy(b, off, buffer, size, len);
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buffer, (int)count);
+    }
+  }
+
+  private static void putShort(final byte[] b, final int i, final int v) {
+    b[i] = (byte)v;
+    b[i + 1] = (byte)(v >>> 8);
+  }
+
+  private static void putInt(final byte[] b, final int i, final int v) {
+    putShort(b, i, v);
+    putShort(b, i + 2, v >>> 16);
+  }
+
+  private static int getShort(final byte[] b, final int i) {
+    return b[i] & 0xFF | (b[i + 1] & 0xFF) << 8;
+  }
+
+  private static int getInt(final byte[] b, final int i) {
+    return getShort(b, i) | getShort(b, i + 2) << 16;
+  }
+
+  /**
+   * Returns the specified decompressed size as a hint of the length of the
+   * decompressed data of the specified compressed length, or {@code -1} if the
+   * size is not plausible.
+   */
+  private static int toSizeHint(final long size, final int compressedLength) {
+    return size > Integer.MAX_VALUE - 8 || size > (long)compressedLength * MAX_RATIO ? -1 : (int)size;
+  }
+
+  abstract void writeHeader(Output out, byte[] b) throws IOException;
+  abstract void writeTrailer(Output out, byte[] b, int crc, long compressedSize, long size) throws IOException;
+  abstract boolean readHeader(Input in, Member member, boolean first) throws IOException;
+  abstract void readTrailer(Input in, Member member, long crc, long size) throws IOException;
+
+  /**
+   * Returns the length of the decompressed data of the specified compressed
+   * data, as declared by its headers, or {@code -1} if it is not declared.
+   */
+  abstract int sizeHint(byte[] compressed);
+
+  private void compress(final Input in, final Output out, final ZipContext context) throws IOException {
+    final byte[] inBuf = context.in;
+    final byte[] outBuf = context.out;
+    final CRC32 crc = context.crc;
+    final Deflater deflater = context.deflater();
+    crc.reset();
+    writeHeader(out, outBuf);
+    final long start = out.count;
+    long size = 0;
+    while (!deflater.finished()) {
+      if (deflater.needsInput()) {
+        final int len = in.read(inBuf, 0, inBuf.length);
+        if (len < 0) {
+          deflater.finish();
+        }
+        else {
+          crc.update(inBuf, 0, len);
+          deflater.setInput(inBuf, 0, len);
+          size += len;
+        }
+      }
+
+      final int len = deflater.deflate(outBuf, 0, outBuf.length);
+      if (len > 0)
+        out.write(outBuf, 0, len);
+    }
+
+    writeTrailer(out, outBuf, (int)crc.getValue(), out.count - start, size);
+  }
+
+  private void decompress(final Input in, final Output out, final ZipContext context) throws IOException {
+    final byte[] inBuf = context.in;
+    final byte[] outBuf = context.out;
+    final CRC32 crc = context.crc;
+    final Inflater inflater = context.inflater();
+    final Member member = new Member();
+    for (boolean first = true; readHeader(in, member, first); first = false) {
+      crc.reset();
+      final long start = out.count;
+      if (member.method == STORED) {
+        for (long remaining = member.compressedSize, len; remaining > 0; remaining -= len) {
+          if ((len = in.read(inBuf, 0, (int)Math.min(inBuf.length, remaining))) < 0)
+            throw new EOFException("Unexpected end of ZIP input stream");
+
+          crc.update(inBuf, 0, (int)len);
+          out.write(inBuf, 0, (int)len);
+        }
+      }
+      else {
+        inflater.reset();
+        int inLen = 0;
+        try {
+          while (!inflater.finished()) {
+            if (inflater.needsInput()) {
+              if ((inLen = in.read(inBuf, 0, inBuf.length)) < 0)
+                throw new EOFException("Unexpected end of ZLIB input stream");
+
+              inflater.setInput(inBuf, 0, inLen);
+            }
+            else if (inflater.needsDictionary()) {
+              throw new ZipException("Inflater needs dictionary");
+            }
+
+            final int len = inflater.inflate(outBuf, 0, outBuf.length);
+            if (len > 0) {
+              crc.update(outBuf, 0, len);
+              out.write(outBuf, 0, len);
+            }
+          }
+        }
+        catch (final DataFormatException e) {
+          final String message = e.getMessage();
+          throw new ZipException(message != null ? message : "Invalid ZLIB data format");
+        }
+
+        in.unread(inBuf, inLen, inflater.getRemaining());
+      }
+
+      readTrailer(in, member, crc.getValue(), out.count - start);
     }
   }
 
@@ -86,15 +609,307 @@ public enum Zip {
    * @throws IOException If an I/O error has occurred.
    * @throws NullPointerException If {@code decompressed} is null.
    */
-  public abstract byte[] compress(final byte[] decompressed) throws IOException;
+  public byte[] compress(final byte[] decompressed) throws IOException {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final ArrayOutput out = new ArrayOutput(context, 0);
+      compress(new BufferInput(ByteBuffer.wrap(decompressed)), out, context);
+      return out.toByteArray();
+    }
+    finally {
+      context.release();
+    }
+  }
 
   /**
    * Returns the decompressed bytes from the provided {@code compressed} bytes.
+   * If the length of the decompressed bytes is declared in the headers of the
+   * compressed bytes, the returned array is allocated with that length.
    *
    * @param compressed The bytes to decompress.
    * @return The decompressed bytes from the provided {@code compressed} bytes.
    * @throws IOException If an I/O error has occurred.
    * @throws NullPointerException If {@code compressed} is null.
    */
-  public abstract byte[] decompress(final byte[] compressed) throws IOException;
+  public byte[] decompress(final byte[] compressed) throws IOException {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final int size = sizeHint(compressed);
+      if (size >= 0) {
+        final byte[] decompressed = new byte[size];
+        final BufferOutput out = new BufferOutput(ByteBuffer.wrap(decompressed));
+        try {
+          decompress(new BufferInput(ByteBuffer.wrap(compressed)), out, context);
+          return out.count == size ? decompressed : Arrays.copyOf(decompressed, (int)out.count);
+        }
+        catch (final BufferOverflowException e) {
+          // The declared size is that of the last of several members
+        }
+      }
+
+      final ArrayOutput out = new ArrayOutput(context, 0);
+      decompress(new BufferInput(ByteBuffer.wrap(compressed)), out, context);
+      return out.toByteArray();
+    }
+    finally {
+      context.release();
+    }
+  }
+
+  /**
+   * Compresses the remaining bytes of the {@code src} buffer into the
+   * {@code dst} buffer. The position of {@code src} is advanced to its limit,
+   * and the position of {@code dst} is advanced by the number of compressed
+   * bytes.
+   *
+   * @param src The buffer of the bytes to compress.
+   * @param dst The buffer into which the compressed bytes are to be written.
+   * @return The number of compressed bytes written to {@code dst}.
+   * @throws BufferOverflowException If {@code dst} does not have room for the
+   *           compressed bytes, in which case the positions of the buffers
+   *           are undefined.
+   * @throws java.nio.ReadOnlyBufferException If {@code dst} is read-only.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code src} or {@code dst} is null.
+   */
+  public int compress(final ByteBuffer src, final ByteBuffer dst) throws IOException {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final BufferOutput out = new BufferOutput(dst);
+      compress(new BufferInput(src), out, context);
+      return (int)out.count;
+    }
+    finally {
+      context.release();
+    }
+  }
+
+  /**
+   * Decompresses the compressed bytes at the position of the {@code src} buffer
+   * into the {@code dst} buffer. The position of {@code src} is advanced to the
+   * end of the compressed data, and the position of {@code dst} is advanced by
+   * the number of decompressed bytes.
+   *
+   * @param src The buffer of the bytes to decompress.
+   * @param dst The buffer into which the decompressed bytes are to be written.
+   * @return The number of decompressed bytes written to {@code dst}.
+   * @throws BufferOverflowException If {@code dst} does not have room for the
+   *           decompressed bytes, in which case the positions of the buffers
+   *           are undefined.
+   * @throws java.nio.ReadOnlyBufferException If {@code dst} is read-only.
+   * @throws EOFException If the end of {@code src} is reached before the end
+   *           of the compressed data.
+   * @throws ZipException If the compressed data is invalid.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code src} or {@code dst} is null.
+   */
+  public int decompress(final ByteBuffer src, final ByteBuffer dst) throws IOException {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final BufferOutput out = new BufferOutput(dst);
+      decompress(new BufferInput(src), out, context);
+      return (int)out.count;
+    }
+    finally {
+      context.release();
+    }
+  }
+
+  /**
+   * Compresses the bytes of the {@code in} stream to its end into the
+   * {@code out} stream. Neither stream is closed.
+   *
+   * @param in The {@link InputStream} of the bytes to compress.
+   * @param out The {@link OutputStream} to which the compressed bytes are to be
+   *          written.
+   * @return The number of compressed bytes written to {@code out}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code in} or {@code out} is null.
+   */
+  public long compress(final InputStream in, final OutputStream out) throws IOException {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final StreamOutput output = new StreamOutput(out);
+      compress(new StreamInput(in), output, context);
+      return output.count;
+    }
+    finally {
+      context.release();
+    }
+  }
+
+  /**
+   * Compresses the bytes of the {@code in} stream to its end into the
+   * {@code out} stream, deflating blocks of {@code blockSize} bytes in parallel
+   * on the specified {@link Executor}. Neither stream is closed.
+   * <p>
+   * As per <a href="https://zlib.net/pigz/">pigz</a>, each block is deflated
+   * with the last 32KB of the previous block as its dictionary, and is ended
+   * with a sync flush, such that the deflated blocks are concatenated into a
+   * single deflate stream. The compressed data is thus a single standard GZIP
+   * member or ZIP entry, which any decompressor can read, with a compression
+   * ratio close to that of {@link #compress(InputStream,OutputStream)}. The
+   * number of blocks that are read ahead of the output is bounded by twice the
+   * {@code parallelism}.
+   * <p>
+   * The blocks are deflated with the {@link Deflater} instances pooled per
+   * thread of the {@code executor}, which is not shut down by this method, such
+   * that the deflaters are reused across calls on a long-lived executor.
+   *
+   * @param in The {@link InputStream} of the bytes to compress.
+   * @param out The {@link OutputStream} to which the compressed bytes are to be
+   *          written.
+   * @param executor The {@link Executor} on which blocks are deflated.
+   * @param parallelism The number of blocks to be deflated at a time.
+   * @param blockSize The size of the blocks into which the bytes of {@code in}
+   *          are split.
+   * @return The number of compressed bytes written to {@code out}.
+   * @throws InterruptedIOException If the calling thread is interrupted while
+   *           waiting for the deflation of a block.
+   * @throws IOException If an I/O error has occurred.
+   * @throws IllegalArgumentException If {@code parallelism} or
+   *           {@code blockSize} is not positive.
+   * @throws NullPointerException If {@code in}, {@code out}, or
+   *           {@code executor} is null.
+   */
+  public long compress(final InputStream in, final OutputStream out, final Executor executor, final int parallelism, final int blockSize) throws IOException {
+    if (parallelism <= 0)
+      throw new IllegalArgumentException("parallelism [" + parallelism + "] must be positive");
+
+    if (blockSize <= 0)
+      throw new IllegalArgumentException("blockSize [" + blockSize + "] must be positive");
+
+    Objects.requireNonNull(executor);
+    final StreamOutput output = new StreamOutput(out);
+    final ArrayDeque<Future<Block>> pending = new ArrayDeque<>();
+    final ZipContext context = ZipContext.acquire();
+    try {
+      writeHeader(output, context.out);
+      final long start = output.count;
+      long crc = 0;
+      long size = 0;
+      byte[] prev = null;
+      int prevLength = 0;
+      for (boolean eof = false; !eof || pending.size() > 0;) {
+        if (!eof) {
+          final byte[] block = new byte[blockSize];
+          int length = 0;
+          for (int n; length < blockSize && (n = in.read(block, length, blockSize - length)) != -1; length += n);
+          eof = length < blockSize;
+          if (length > 0) {
+            final byte[] dictionary = prev;
+            final int dictionaryLength = prevLength;
+            final int blockLength = length;
+            final FutureTask<Block> task = new FutureTask<>(() -> deflate(block, blockLength, dictionary, dictionaryLength));
+            executor.execute(task);
+            pending.add(task);
+            prev = block;
+            prevLength = length;
+          }
+        }
+
+        if (eof ? pending.size() > 0 : pending.size() >= parallelism << 1) {
+          final Block block = get(pending.poll());
+          output.write(block.data, 0, block.length);
+          crc = CRC32.combine(crc, block.crc, block.size);
+          size += block.size;
+        }
+      }
+
+      output.write(FINAL_BLOCK, 0, FINAL_BLOCK.length);
+      writeTrailer(output, context.out, (int)crc, output.count - start, size);
+      return output.count;
+    }
+    finally {
+      context.release();
+      // Blocks that are pending due to a failure are not to be deflated
+      for (final Future<Block> future : pending)
+        future.cancel(false);
+    }
+  }
+
+  /**
+   * Deflates the specified block with the specified dictionary, ending the
+   * deflated data with a sync flush.
+   *
+   * @param data The data of the block.
+   * @param length The length of the block.
+   * @param dictionary The data of the previous block, or {@code null}.
+   * @param dictionaryLength The length of the previous block.
+   * @return The deflated {@link Block}.
+   */
+  private static Block deflate(final byte[] data, final int length, final byte[] dictionary, final int dictionaryLength) {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final Deflater deflater = context.deflater();
+      if (dictionary != null) {
+        final int len = Math.min(DICTIONARY_SIZE, dictionaryLength);
+        deflater.setDictionary(dictionary, dictionaryLength - len, len);
+      }
+
+      deflater.setInput(data, 0, length);
+      byte[] out = new byte[length + (length >> 3) + 64];
+      int count = 0;
+      // The flush is complete when the deflater does not fill the output buffer
+      while ((count += deflater.deflate(out, count, out.length - count, Deflater.SYNC_FLUSH)) == out.length)
+        out = Arrays.copyOf(out, out.length << 1);
+
+      final CRC32 crc = context.crc;
+      crc.reset();
+      crc.update(data, 0, length);
+      return new Block(out, count, crc.getValue(), length);
+    }
+    finally {
+      context.release();
+    }
+  }
+
+  private static Block get(final Future<Block> future) throws IOException {
+    try {
+      return future.get();
+    }
+    catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      final InterruptedIOException ie = new InterruptedIOException("Interrupted while waiting for the deflation of a block");
+      ie.initCause(e);
+      throw ie;
+    }
+    catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException)cause;
+
+      if (cause instanceof Error)
+        throw (Error)cause;
+
+      throw new IOException(cause);
+    }
+  }
+
+  /**
+   * Decompresses the compressed bytes of the {@code in} stream into the
+   * {@code out} stream. The {@code in} stream may be read beyond the end of the
+   * compressed data. Neither stream is closed.
+   *
+   * @param in The {@link InputStream} of the bytes to decompress.
+   * @param out The {@link OutputStream} to which the decompressed bytes are to
+   *          be written.
+   * @return The number of decompressed bytes written to {@code out}.
+   * @throws EOFException If the end of {@code in} is reached before the end of
+   *           the compressed data.
+   * @throws ZipException If the compressed data is invalid.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code in} or {@code out} is null.
+   */
+  public long decompress(final InputStream in, final OutputStream out) throws IOException {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final StreamOutput output = new StreamOutput(out);
+      decompress(new StreamInput(in), output, context);
+      return output.count;
+    }
+    finally {
+      context.release();
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,502 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.zip;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+import org.libj.util.ArrayUtil;
+
+/**
+ * A random-access reader of a ZIP archive, which maps the archive into memory,
+ * and parses its central directory once into an index of the entries sorted by
+ * name.
+ * <p>
+ * The index is an {@code int} array of the offsets of the central directory
+ * headers of the entries, and the names and attributes of entries are read
+ * from the mapped archive on demand, such that the index of an archive with
+ * many entries remains compact. An entry is found by a binary search of the
+ * index, and entries whose names start with a prefix (i.e. the entries of a
+ * directory) are found by a binary search for the first of them.
+ * <p>
+ * The content of a {@link ZipEntry#STORED} entry is returned as a slice of the
+ * mapped archive, without being copied. The content of a
+ * {@link ZipEntry#DEFLATED} entry is returned as an inflating
+ * {@link InputStream} of its slice, or inflated into a new buffer of its exact
+ * size.
+ * <p>
+ * Entry names are decoded as UTF-8. Archives larger than 2GB, ZIP64 archives,
+ * and encrypted entries are not supported. This class is thread-safe.
+ */
+public class ZipArchive implements Closeable {
+  private static final int LOCSIG = 0x04034b50;
+  private static final int CENSIG = 0x02014b50;
+  private static final int ENDSIG = 0x06054b50;
+  private static final int LOCHDR = 30;
+  private static final int CENHDR = 46;
+  private static final int ENDHDR = 22;
+  private static final int MAX_COMMENT = 0xFFFF;
+  private static final int FLAG_ENCRYPTED = 0x1;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+  private final int[] index;
+
+  /**
+   * Creates a new {@link ZipArchive} of the specified file.
+   *
+   * @param file The file of the ZIP archive.
+   * @throws ZipException If the file is not a supported ZIP archive.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code file} is null.
+   */
+  public ZipArchive(final File file) throws IOException {
+    this(file.toPath());
+  }
+
+  /**
+   * Creates a new {@link ZipArchive} of the file at the specified path.
+   *
+   * @param path The path of the ZIP archive.
+   * @throws ZipException If the file is not a supported ZIP archive.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  public ZipArchive(final Path path) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      final long size = channel.size();
+      if (size > Integer.MAX_VALUE)
+        throw new ZipException("ZIP archive larger than 2GB is not supported: " + path);
+
+      this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+      this.index = index(buffer);
+    }
+    catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static int getShort(final ByteBuffer buffer, final int i) {
+    return buffer.getShort(i) & 0xFFFF;
+  }
+
+  private static long getInt(final ByteBuffer buffer, final int i) {
+    return buffer.getInt(i) & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Returns the offsets of the central directory headers of the archive in the
+   * specified buffer, sorted by the names of their entries.
+   *
+   * @param buffer The buffer of the archive.
+   * @return The offsets of the central directory headers of the archive in the
+   *         specified buffer, sorted by the names of their entries.
+   * @throws ZipException If the buffer is not a supported ZIP archive.
+   */
+  private static int[] index(final ByteBuffer buffer) throws ZipException {
+    int end = buffer.limit() - ENDHDR;
+    for (final int min = Math.max(0, end - MAX_COMMENT); end >= min && buffer.getInt(end) != ENDSIG; --end);
+    if (end < 0 || buffer.getInt(end) != ENDSIG)
+      throw new ZipException("Not in ZIP format: END header not found");
+
+    final int count = getShort(buffer, end + 10);
+    final long cenSize = getInt(buffer, end + 12);
+    final long cen = getInt(buffer, end + 16);
+    if (count == 0xFFFF || cen == 0xFFFFFFFFL)
+      throw new ZipException("ZIP64 is not supported");
+
+    if (cen + cenSize > end)
+      throw new ZipException("Invalid END header: central directory out of bounds");
+
+    final long cenEnd = cen + cenSize;
+    final int[] index = new int[count];
+    for (int i = 0, pos = (int)cen; i < count; ++i) {
+      if (pos + CENHDR > cenEnd || buffer.getInt(pos) != CENSIG)
+        throw new ZipException("Invalid CEN header at offset " + pos);
+
+      final int next = pos + CENHDR + getShort(buffer, pos + 28) + getShort(buffer, pos + 30) + getShort(buffer, pos + 32);
+      if (next > cenEnd)
+        throw new ZipException("Invalid CEN header at offset " + pos + ": variable length fields out of bounds");
+
+      index[i] = pos;
+      pos = next;
+    }
+
+    ArrayUtil.sort(index, (a, b) -> compare(buffer, a, b));
+    return index;
+  }
+
+  /**
+   * Compares the names of the entries of the specified central directory
+   * headers as unsigned bytes, which is the order of their code points.
+   */
+  private static int compare(final ByteBuffer buffer, final int cenA, final int cenB) {
+    final int lenA = getShort(buffer, cenA + 28);
+    final int lenB = getShort(buffer, cenB + 28);
+    for (int i = 0, len = Math.min(lenA, lenB); i < len; ++i) {
+      final int c = (buffer.get(cenA + CENHDR + i) & 0xFF) - (buffer.get(cenB + CENHDR + i) & 0xFF);
+      if (c != 0)
+        return c;
+    }
+
+    return lenA - lenB;
+  }
+
+  /**
+   * Compares the first {@code length} bytes of the name of the entry of the
+   * specified central directory header with the specified key as unsigned
+   * bytes.
+   */
+  private int compare(final int cen, final byte[] key, final int length) {
+    final int len = Math.min(getShort(buffer, cen + 28), length);
+    for (int i = 0, n = Math.min(len, key.length); i < n; ++i) {
+      final int c = (buffer.get(cen + CENHDR + i) & 0xFF) - (key[i] & 0xFF);
+      if (c != 0)
+        return c;
+    }
+
+    return len - Math.min(key.length, length);
+  }
+
+  /**
+   * Returns the index of the first entry whose name is not less than the
+   * specified key.
+   */
+  private int lowerBound(final byte[] key) {
+    int lo = 0;
+    for (int hi = index.length; lo < hi;) {
+      final int mid = (lo + hi) >>> 1;
+      if (compare(index[mid], key, Integer.MAX_VALUE) < 0)
+        lo = mid + 1;
+      else
+        hi = mid;
+    }
+
+    return lo;
+  }
+
+  /**
+   * Returns the offset of the central directory header of the entry with the
+   * specified name, or {@code -1} if there is no such entry.
+   */
+  private int find(final String name) {
+    final byte[] key = name.getBytes(StandardCharsets.UTF_8);
+    final int i = lowerBound(key);
+    return i < index.length && compare(index[i], key, Integer.MAX_VALUE) == 0 ? index[i] : -1;
+  }
+
+  private static long dosToJavaTime(final long time) {
+    try {
+      final LocalDateTime dateTime = LocalDateTime.of((int)((time >> 25) & 0x7F) + 1980, (int)((time >> 21) & 0x0F), (int)((time >> 16) & 0x1F), (int)((time >> 11) & 0x1F), (int)((time >> 5) & 0x3F), (int)((time << 1) & 0x3E));
+      return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    catch (final DateTimeException e) {
+      return -1;
+    }
+  }
+
+  private ZipEntry newEntry(final int cen) {
+    final int nameLength = getShort(buffer, cen + 28);
+    final byte[] name = new byte[nameLength];
+    final ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(cen + CENHDR);
+    duplicate.get(name);
+
+    final ZipEntry entry = new ZipEntry(new String(name, StandardCharsets.UTF_8));
+    entry.setMethod(getShort(buffer, cen + 10));
+    entry.setCrc(getInt(buffer, cen + 16));
+    entry.setCompressedSize(getInt(buffer, cen + 20));
+    entry.setSize(getInt(buffer, cen + 24));
+    final long time = dosToJavaTime(getInt(buffer, cen + 12));
+    if (time != -1)
+      entry.setTime(time);
+
+    return entry;
+  }
+
+  /**
+   * Returns the number of entries in this archive.
+   *
+   * @return The number of entries in this archive.
+   */
+  public int size() {
+    return index.length;
+  }
+
+  /**
+   * Returns the {@link ZipEntry} with the specified name, or {@code null} if
+   * there is no such entry.
+   *
+   * @param name The name of the entry.
+   * @return The {@link ZipEntry} with the specified name, or {@code null} if
+   *         there is no such entry.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public ZipEntry getEntry(final String name) {
+    final int cen = find(name);
+    return cen == -1 ? null : newEntry(cen);
+  }
+
+  /**
+   * Returns the entries whose names start with the specified prefix, sorted by
+   * name. An empty prefix matches all entries.
+   *
+   * @param prefix The prefix of the names of the entries.
+   * @return The entries whose names start with the specified prefix, sorted by
+   *         name.
+   * @throws NullPointerException If {@code prefix} is null.
+   */
+  public List<ZipEntry> getEntries(final String prefix) {
+    final byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+    final ArrayList<ZipEntry> entries = new ArrayList<>();
+    for (int i = lowerBound(key); i < index.length && compare(index[i], key, key.length) == 0; ++i)
+      entries.add(newEntry(index[i]));
+
+    return entries;
+  }
+
+  /**
+   * Returns the slice of the mapped archive of the content of the entry of the
+   * specified central directory header, which is the compressed content of a
+   * {@link ZipEntry#DEFLATED} entry.
+   */
+  private ByteBuffer slice(final int cen) throws ZipException {
+    if ((getShort(buffer, cen + 8) & FLAG_ENCRYPTED) != 0)
+      throw new ZipException("Encrypted ZIP entry is not supported");
+
+    final long loc = getInt(buffer, cen + 42);
+    if (loc + LOCHDR > buffer.limit() || buffer.getInt((int)loc) != LOCSIG)
+      throw new ZipException("Invalid LOC header at offset " + loc);
+
+    // The extra field of the local header may differ from that of the central directory header
+    final long data = loc + LOCHDR + getShort(buffer, (int)loc + 26) + getShort(buffer, (int)loc + 28);
+    final long end = data + getInt(buffer, cen + 20);
+    if (end > buffer.limit())
+      throw new ZipException("Invalid entry compressed size at offset " + cen);
+
+    final ByteBuffer slice = buffer.duplicate();
+    slice.limit((int)end);
+    slice.position((int)data);
+    return slice.slice();
+  }
+
+  private static int checkMethod(final ByteBuffer buffer, final int cen) throws ZipException {
+    final int method = getShort(buffer, cen + 10);
+    if (method != ZipEntry.STORED && method != ZipEntry.DEFLATED)
+      throw new ZipException("Unsupported compression method: " + method);
+
+    return method;
+  }
+
+  /**
+   * Returns a read-only {@link ByteBuffer} of the content of the entry with the
+   * specified name, or {@code null} if there is no such entry. The content of a
+   * {@link ZipEntry#STORED} entry is a slice of the mapped archive, which is
+   * not copied, and the content of a {@link ZipEntry#DEFLATED} entry is
+   * inflated into a new buffer of its exact size.
+   *
+   * @param name The name of the entry.
+   * @return A read-only {@link ByteBuffer} of the content of the entry with the
+   *         specified name, or {@code null} if there is no such entry.
+   * @throws ZipException If the entry is invalid or not supported.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public ByteBuffer getByteBuffer(final String name) throws ZipException {
+    final int cen = find(name);
+    if (cen == -1)
+      return null;
+
+    final ByteBuffer slice = slice(cen);
+    if (checkMethod(buffer, cen) == ZipEntry.STORED)
+      return slice;
+
+    final long size = getInt(buffer, cen + 24);
+    if (size > Integer.MAX_VALUE - 8)
+      throw new ZipException("Entry larger than 2GB is not supported: " + name);
+
+    final byte[] content = new byte[(int)size];
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final byte[] in = context.in;
+      final Inflater inflater = context.inflater();
+      int count = 0;
+      while (!inflater.finished()) {
+        if (inflater.needsInput()) {
+          // Beyond the end of the slice, a dummy byte is provided as per java.util.zip.ZipFile
+          final int len = Math.min(in.length, slice.remaining());
+          slice.get(in, 0, len);
+          inflater.setInput(in, 0, len == 0 ? 1 : len);
+        }
+
+        // Once the content is full, the stream is inflated into the scratch
+        // buffer, which is to receive nothing before the stream is finished
+        final int len = count < content.length ? inflater.inflate(content, count, content.length - count) : inflater.inflate(context.out, 0, 1);
+        if (count == content.length && len > 0)
+          throw new ZipException("Invalid entry size at offset " + cen + ": inflated content exceeds " + size + " bytes");
+
+        if (len == 0 && inflater.needsInput() && !slice.hasRemaining())
+          throw new EOFException("Unexpected end of ZLIB input stream");
+
+        count += len;
+      }
+
+      if (count != content.length)
+        throw new ZipException("Invalid entry size at offset " + cen + ": inflated content is " + count + " of " + size + " bytes");
+    }
+    catch (final DataFormatException e) {
+      final String message = e.getMessage();
+      throw new ZipException(message != null ? message : "Invalid ZLIB data format");
+    }
+    catch (final EOFException e) {
+      throw new ZipException(e.getMessage());
+    }
+    finally {
+      context.release();
+    }
+
+    return ByteBuffer.wrap(content).asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns an {@link InputStream} of the content of the entry with the
+   * specified name, or {@code null} if there is no such entry. The content of a
+   * {@link ZipEntry#STORED} entry is read from the mapped archive, and the
+   * content of a {@link ZipEntry#DEFLATED} entry is inflated from the mapped
+   * archive as it is read.
+   *
+   * @param name The name of the entry.
+   * @return An {@link InputStream} of the content of the entry with the
+   *         specified name, or {@code null} if there is no such entry.
+   * @throws ZipException If the entry is invalid or not supported.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public InputStream getInputStream(final String name) throws ZipException {
+    final int cen = find(name);
+    if (cen == -1)
+      return null;
+
+    final InputStream in = new BufferInputStream(slice(cen));
+    return checkMethod(buffer, cen) == ZipEntry.STORED ? in : new EntryInflaterInputStream(in, getInt(buffer, cen + 20));
+  }
+
+  private static final class BufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    private BufferInputStream(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (len == 0)
+        return 0;
+
+      final int remaining = buffer.remaining();
+      if (remaining == 0)
+        return -1;
+
+      final int n = Math.min(len, remaining);
+      buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    public long skip(final long n) {
+      final int skipped = (int)Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + skipped);
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+
+  private static final class EntryInflaterInputStream extends InflaterInputStream {
+    private boolean eof;
+    private boolean closed;
+
+    private EntryInflaterInputStream(final InputStream in, final long compressedSize) {
+      super(in, new Inflater(true), (int)Math.max(64, Math.min(ZipContext.BUFFER_SIZE, compressedSize + 1)));
+    }
+
+    @Override
+    protected void fill() throws IOException {
+      if (eof)
+        throw new EOFException("Unexpected end of ZLIB input stream");
+
+      len = in.read(buf, 0, buf.length);
+      if (len == -1) {
+        // A dummy byte is provided beyond the end of the input, as per java.util.zip.ZipFile
+        buf[0] = 0;
+        len = 1;
+        eof = true;
+      }
+
+      inf.setInput(buf, 0, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!closed) {
+        closed = true;
+        inf.end();
+        super.close();
+      }
+    }
+  }
+
+  /**
+   * Closes the channel of the archive. The mapping of the archive, as well as
+   * the {@link ByteBuffer} slices returned by
+   * {@link #getByteBuffer(String)}, remain valid until they are garbage
+   * collected.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.zip;
+
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A per-thread pool of the {@link Deflater}, {@link Inflater}, {@link CRC32},
+ * and buffers with which {@link Zip} compresses and decompresses data, such
+ * that repeated operations on the same thread do not allocate them anew.
+ * <p>
+ * A context is obtained with {@link #acquire()}, and must be returned with
+ * {@link #release()}. If the context of the calling thread is in use (i.e. by
+ * an operation that is nested in another on the same thread), a new context is
+ * returned, which is not pooled, and whose {@link Deflater} and
+ * {@link Inflater} are ended upon its release.
+ */
+final class ZipContext {
+  /** The size of the buffers with which data is copied. */
+  static final int BUFFER_SIZE = 1 << 16;
+
+  /** The maximum size of a result buffer to be retained by a context. */
+  private static final int MAX_RESULT_SIZE = 1 << 20;
+
+  private static final ThreadLocal<ZipContext> context = ThreadLocal.withInitial(() -> new ZipContext(true));
+
+  /**
+   * Returns the {@link ZipContext} of the calling thread, or a new
+   * {@link ZipContext} if that of the calling thread is in use.
+   *
+   * @return The {@link ZipContext} of the calling thread, or a new
+   *         {@link ZipContext} if that of the calling thread is in use.
+   */
+  static ZipContext acquire() {
+    final ZipContext context = ZipContext.context.get();
+    if (context.inUse)
+      return new ZipContext(false);
+
+    context.inUse = true;
+    return context;
+  }
+
+  final byte[] in = new byte[BUFFER_SIZE];
+  final byte[] out = new byte[BUFFER_SIZE];
+  final CRC32 crc = new CRC32();
+  private Deflater deflater;
+  private Inflater inflater;
+  private byte[] result;
+  private final boolean pooled;
+  private boolean inUse;
+
+  private ZipContext(final boolean pooled) {
+    this.pooled = pooled;
+  }
+
+  /**
+   * Returns the raw (i.e. without a ZLIB header and trailer) {@link Deflater}
+   * of this context, at the default compression level.
+   *
+   * @return The raw {@link Deflater} of this context.
+   */
+  Deflater deflater() {
+    return deflater == null ? deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true) : deflater;
+  }
+
+  /**
+   * Returns the raw (i.e. without a ZLIB header and trailer) {@link Inflater}
+   * of this context.
+   *
+   * @return The raw {@link Inflater} of this context.
+   */
+  Inflater inflater() {
+    return inflater == null ? inflater = new Inflater(true) : inflater;
+  }
+
+  /**
+   * Returns a buffer of this context with a length of at least
+   * {@code minLength}, retaining the content of the previous buffer returned by
+   * this method up to {@code length}.
+   *
+   * @param minLength The minimum length of the buffer.
+   * @param length The length of the content of the previous buffer to retain.
+   * @return A buffer of this context with a length of at least
+   *         {@code minLength}.
+   */
+  byte[] result(final int minLength, final int length) {
+    if (result != null && result.length >= minLength)
+      return result;
+
+    final int newLength = Math.max(minLength, result == null ? BUFFER_SIZE : result.length << 1);
+    final byte[] result = new byte[newLength < 0 ? Integer.MAX_VALUE - 8 : newLength];
+    if (length > 0)
+      System.arraycopy(this.result, 0, result, 0, length);
+
+    return this.result = result;
+  }
+
+  /**
+   * Returns this context to the pool of the calling thread, resetting its
+   * {@link Deflater} and {@link Inflater}. If this context is not pooled, its
+   * {@link Deflater} and {@link Inflater} are ended instead, so as to free
+   * their native memory without waiting for finalization.
+   */
+  void release() {
+    if (!pooled) {
+      if (deflater != null)
+        deflater.end();
+
+      if (inflater != null)
+        inflater.end();
+
+      return;
+    }
+
+    if (deflater != null)
+      deflater.reset();
+
+    if (inflater != null)
+      inflater.reset();
+
+    if (result != null && result.length > MAX_RESULT_SIZE)
+      result = null;
+
+    inUse = false;
+  }
+}
\ No newline at end of file
@@ -20,7 +20,13 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.Enumeration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -29,6 +35,9 @@ import java.util.zip.ZipFile;
  * Utility functions pertaining to {@link ZipFile}.
  */
 public final class ZipFiles {
+  /** The size of the buffer with which each entry is copied. */
+  private static final int BUFFER_SIZE = 1 << 16;
+
   /**
    * Extract a {@code zipFile} to {@code destDir}.
    *
@@ -54,26 +63,157 @@ public final class ZipFiles {
    *           null.
    */
   public static void extract(final ZipFile zipFile, final File destDir, final Predicate<? super ZipEntry> predicate) throws IOException {
+    final byte[] buffer = new byte[BUFFER_SIZE];
     final Enumeration<? extends ZipEntry> entries = zipFile.entries();
     while (entries.hasMoreElements()) {
       final ZipEntry zipEntry = entries.nextElement();
       if (predicate != null && !predicate.test(zipEntry))
         continue;
 
-      final File file = new File(destDir, zipEntry.getName());
-      if (zipEntry.isDirectory()) {
-        file.mkdirs();
-        continue;
-      }
+      final File file = mkdirs(destDir, zipEntry);
+      if (file != null)
+        extract(zipFile, zipEntry, file, buffer);
+    }
+  }
 
-      file.getParentFile().mkdirs();
-      try (
-        final InputStream in = zipFile.getInputStream(zipEntry);
-        final FileOutputStream out = new FileOutputStream(file);
-      ) {
-        for (int ch; (ch = in.read()) != -1; out.write(ch));
+  /**
+   * Extract a {@code zipFile} to {@code destDir}, copying the entries in
+   * parallel on the specified {@link Executor}. Only entries that pass the
+   * {@code predicate} test will be extracted.
+   * <p>
+   * Directories are created by the calling thread, which then submits a task
+   * for each file entry to the {@code executor}. No more than
+   * {@code maxOpenFiles} entries are extracted at a time: the calling thread
+   * blocks until an entry is extracted before submitting a task beyond this
+   * limit, such that the executor is not flooded with tasks, and the number of
+   * open files and copy buffers is bounded. This method returns when all
+   * submitted entries have been extracted. If the extraction of an entry fails,
+   * no further entries are submitted, and the first {@link IOException} or
+   * {@link RuntimeException} is thrown once the submitted entries have
+   * completed, with the exceptions of other failed entries added as suppressed
+   * exceptions.
+   *
+   * @param zipFile The {@link ZipFile}.
+   * @param destDir The destination directory.
+   * @param predicate The {@link Predicate} (can be null).
+   * @param executor The {@link Executor} on which entries are extracted.
+   * @param maxOpenFiles The maximum number of entries to be extracted at a
+   *          time.
+   * @throws IOException If an I/O error has occurred.
+   * @throws InterruptedIOException If the calling thread is interrupted while
+   *           waiting for the extraction of entries.
+   * @throws IllegalArgumentException If {@code maxOpenFiles} is not positive.
+   * @throws NullPointerException If {@code zipFile}, {@code destDir}, or
+   *           {@code executor} is null.
+   */
+  public static void extract(final ZipFile zipFile, final File destDir, final Predicate<? super ZipEntry> predicate, final Executor executor, final int maxOpenFiles) throws IOException {
+    if (maxOpenFiles <= 0)
+      throw new IllegalArgumentException("maxOpenFiles [" + maxOpenFiles + "] must be positive");
+
+    Objects.requireNonNull(executor);
+
+    // Each buffer is a permit to extract an entry, and is returned to the queue when the extraction completes
+    final BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(maxOpenFiles);
+    for (int i = 0; i < maxOpenFiles; ++i)
+      buffers.add(new byte[BUFFER_SIZE]);
+
+    final AtomicReference<Exception> exception = new AtomicReference<>();
+    try {
+      final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements() && exception.get() == null) {
+        final ZipEntry zipEntry = entries.nextElement();
+        if (predicate != null && !predicate.test(zipEntry))
+          continue;
+
+        final File file = mkdirs(destDir, zipEntry);
+        if (file == null)
+          continue;
+
+        final byte[] buffer = take(buffers);
+        try {
+          executor.execute(() -> {
+            try {
+              extract(zipFile, zipEntry, file, buffer);
+            }
+            catch (final IOException | RuntimeException e) {
+              if (!exception.compareAndSet(null, e))
+                exception.get().addSuppressed(e);
+            }
+            finally {
+              buffers.add(buffer);
+            }
+          });
+        }
+        catch (final RuntimeException e) {
+          buffers.add(buffer);
+          throw e;
+        }
       }
     }
+    finally {
+      // All entries have been extracted when all buffers have been returned
+      for (int i = 0; i < maxOpenFiles; ++i)
+        take(buffers);
+    }
+
+    final Exception e = exception.get();
+    if (e instanceof IOException)
+      throw (IOException)e;
+
+    if (e != null)
+      throw (RuntimeException)e;
+  }
+
+  private static byte[] take(final BlockingQueue<byte[]> buffers) throws InterruptedIOException {
+    try {
+      return buffers.take();
+    }
+    catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      final InterruptedIOException ie = new InterruptedIOException("Interrupted while waiting for the extraction of entries");
+      ie.initCause(e);
+      throw ie;
+    }
+  }
+
+  /**
+   * Creates the directories for the specified {@link ZipEntry} in
+   * {@code destDir}, and returns the {@link File} to which the entry is to be
+   * extracted, or {@code null} if the entry is a directory.
+   *
+   * @param destDir The destination directory.
+   * @param zipEntry The {@link ZipEntry}.
+   * @return The {@link File} to which the entry is to be extracted, or
+   *         {@code null} if the entry is a directory.
+   */
+  private static File mkdirs(final File destDir, final ZipEntry zipEntry) {
+    final File file = new File(destDir, zipEntry.getName());
+    if (zipEntry.isDirectory()) {
+      file.mkdirs();
+      return null;
+    }
+
+    file.getParentFile().mkdirs();
+    return file;
+  }
+
+  /**
+   * Copies the content of the specified {@link ZipEntry} to {@code file} with
+   * the specified buffer.
+   *
+   * @param zipFile The {@link ZipFile}.
+   * @param zipEntry The {@link ZipEntry}.
+   * @param file The {@link File} to which the entry is to be extracted.
+   * @param buffer The buffer with which to copy the content.
+   * @throws IOException If an I/O error has occurred.
+   */
+  private static void extract(final ZipFile zipFile, final ZipEntry zipEntry, final File file, final byte[] buffer) throws IOException {
+    try (
+      final InputStream in = zipFile.getInputStream(zipEntry);
+      final FileOutputStream out = new FileOutputStream(file);
+    ) {
+      for (int len; (len = in.read(buffer)) != -1; out.write(buffer, 0, len));
+    }
   }
 
   private ZipFiles() {
@@ -17,25 +17,69 @@
 package org.libj.util.zip;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Objects;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipOutputStream;
 
 /**
  * Writes ZIP content.
+ * <p>
+ * Entries can be written from a {@code byte} array, or streamed from an
+ * {@link InputStream} or {@link ReadableByteChannel} of unknown size, with a
+ * compression level per entry. Entries whose content is already compressed can
+ * be written as {@link ZipEntry#STORED} entries, which are not deflated.
  */
 public class ZipWriter implements AutoCloseable {
+  /** The level of a writer that does not know the level of its stream. */
+  private static final int UNKNOWN_LEVEL = Integer.MIN_VALUE;
+
   private final ZipOutputStream out;
+  private final int level;
 
   /**
    * Creates a new {@link ZipWriter} with the specified {@link ZipOutputStream}.
+   * Entries are deflated with the level of the {@link ZipOutputStream}, which
+   * is not changed by this writer. Since the level of the
+   * {@link ZipOutputStream} cannot be restored after an entry is written with
+   * another, entries cannot be written with a compression level of their own,
+   * for which {@link #ZipWriter(ZipOutputStream,int)} is to be used instead.
    *
    * @param out The {@link ZipOutputStream}.
    * @throws NullPointerException If {@code out} is null.
    */
   public ZipWriter(final ZipOutputStream out) {
     this.out = Objects.requireNonNull(out);
+    this.level = UNKNOWN_LEVEL;
+  }
+
+  /**
+   * Creates a new {@link ZipWriter} with the specified {@link ZipOutputStream}
+   * and compression level, with which entries written without a compression
+   * level are deflated. Entries written with a compression level of their own
+   * are deflated with that level, after which the level of the
+   * {@link ZipOutputStream} is restored to the specified level.
+   *
+   * @param out The {@link ZipOutputStream}.
+   * @param level The compression level ({@code 0-9}, or
+   *          {@link Deflater#DEFAULT_COMPRESSION}).
+   * @throws IllegalArgumentException If {@code level} is invalid.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public ZipWriter(final ZipOutputStream out, final int level) {
+    this.out = Objects.requireNonNull(out);
+    out.setLevel(level);
+    this.level = level;
+  }
+
+  private static ZipEntry newEntry(final String name) {
+    final ZipEntry entry = new ZipEntry(name);
+    entry.setTime(System.currentTimeMillis());
+    return entry;
   }
 
   /**
@@ -47,12 +91,219 @@ public class ZipWriter implements AutoCloseable {
    * @throws ZipException If a ZIP error has occurred.
    */
   public void write(final String name, final byte[] bytes) throws IOException, ZipException {
-    final ZipEntry entry = new ZipEntry(name);
-    entry.setTime(System.currentTimeMillis());
-    out.putNextEntry(entry);
+    out.putNextEntry(newEntry(name));
     out.write(bytes);
   }
 
+  /**
+   * Write a ZIP file entry with the specified {@code name} and {@code bytes},
+   * deflated with the specified compression level.
+   *
+   * @param name The name of the ZIP file entry.
+   * @param bytes The content {@code byte} array.
+   * @param level The compression level ({@code 0-9}, or
+   *          {@link Deflater#DEFAULT_COMPRESSION}).
+   * @throws IOException If an I/O error has occurred.
+   * @throws ZipException If a ZIP error has occurred.
+   * @throws IllegalArgumentException If {@code level} is invalid.
+   * @throws IllegalStateException If this writer was created without a
+   *           compression level, with {@link #ZipWriter(ZipOutputStream)}.
+   */
+  public void write(final String name, final byte[] bytes, final int level) throws IOException, ZipException {
+    putNextEntry(newEntry(name), level);
+    out.write(bytes);
+    closeEntry(level);
+  }
+
+  /**
+   * Write a ZIP file entry with the specified {@code name}, and the content of
+   * the specified {@link InputStream} to its end. The stream is not closed.
+   *
+   * @param name The name of the ZIP file entry.
+   * @param in The {@link InputStream} of the content.
+   * @throws IOException If an I/O error has occurred.
+   * @throws ZipException If a ZIP error has occurred.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public void write(final String name, final InputStream in) throws IOException, ZipException {
+    Objects.requireNonNull(in);
+    out.putNextEntry(newEntry(name));
+    copy(in);
+  }
+
+  /**
+   * Write a ZIP file entry with the specified {@code name}, and the content of
+   * the specified {@link InputStream} to its end, deflated with the specified
+   * compression level. The stream is not closed.
+   *
+   * @param name The name of the ZIP file entry.
+   * @param in The {@link InputStream} of the content.
+   * @param level The compression level ({@code 0-9}, or
+   *          {@link Deflater#DEFAULT_COMPRESSION}).
+   * @throws IOException If an I/O error has occurred.
+   * @throws ZipException If a ZIP error has occurred.
+   * @throws IllegalArgumentException If {@code level} is invalid.
+   * @throws IllegalStateException If this writer was created without a
+   *           compression level, with {@link #ZipWriter(ZipOutputStream)}.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public void write(final String name, final InputStream in, final int level) throws IOException, ZipException {
+    Objects.requireNonNull(in);
+    putNextEntry(newEntry(name), level);
+    copy(in);
+    closeEntry(level);
+  }
+
+  /**
+   * Write a ZIP file entry with the specified {@code name}, and the content of
+   * the specified {@link ReadableByteChannel} to its end. The channel is not
+   * closed, and must be in blocking mode.
+   *
+   * @param name The name of the ZIP file entry.
+   * @param in The {@link ReadableByteChannel} of the content.
+   * @throws IOException If an I/O error has occurred.
+   * @throws ZipException If a ZIP error has occurred.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public void write(final String name, final ReadableByteChannel in) throws IOException, ZipException {
+    Objects.requireNonNull(in);
+    out.putNextEntry(newEntry(name));
+    copy(in);
+  }
+
+  /**
+   * Write a ZIP file entry with the specified {@code name}, and the content of
+   * the specified {@link ReadableByteChannel} to its end, deflated with the
+   * specified compression level. The channel is not closed, and must be in
+   * blocking mode.
+   *
+   * @param name The name of the ZIP file entry.
+   * @param in The {@link ReadableByteChannel} of the content.
+   * @param level The compression level ({@code 0-9}, or
+   *          {@link Deflater#DEFAULT_COMPRESSION}).
+   * @throws IOException If an I/O error has occurred.
+   * @throws ZipException If a ZIP error has occurred.
+   * @throws IllegalArgumentException If {@code level} is invalid.
+   * @throws IllegalStateException If this writer was created without a
+   *           compression level, with {@link #ZipWriter(ZipOutputStream)}.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public void write(final String name, final ReadableByteChannel in, final int level) throws IOException, ZipException {
+    Objects.requireNonNull(in);
+    putNextEntry(newEntry(name), level);
+    copy(in);
+    closeEntry(level);
+  }
+
+  /**
+   * Write a {@link ZipEntry#STORED} ZIP file entry with the specified
+   * {@code name} and {@code bytes}, which are written as is, without being
+   * deflated.
+   *
+   * @param name The name of the ZIP file entry.
+   * @param bytes The content {@code byte} array.
+   * @throws IOException If an I/O error has occurred.
+   * @throws ZipException If a ZIP error has occurred.
+   * @throws NullPointerException If {@code bytes} is null.
+   */
+  public void writeStored(final String name, final byte[] bytes) throws IOException, ZipException {
+    final CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    out.putNextEntry(newStoredEntry(name, bytes.length, crc.getValue()));
+    out.write(bytes);
+    out.closeEntry();
+  }
+
+  /**
+   * Write a {@link ZipEntry#STORED} ZIP file entry with the specified
+   * {@code name}, and the specified number of bytes of the content of the
+   * specified {@link InputStream}, which are written as is, without being
+   * deflated. The size and CRC-32 of a {@link ZipEntry#STORED} entry precede
+   * its content, and must thus be known in advance. The stream is not closed.
+   *
+   * @param name The name of the ZIP file entry.
+   * @param in The {@link InputStream} of the content.
+   * @param size The size of the content.
+   * @param crc The CRC-32 checksum of the content, as computed by
+   *          {@link CRC32} or {@link java.util.zip.CRC32}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws ZipException If a ZIP error has occurred, or if the content of
+   *           {@code in} does not match {@code size} or {@code crc}.
+   * @throws IllegalArgumentException If {@code size} or {@code crc} is out of
+   *           range.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public void writeStored(final String name, final InputStream in, final long size, final long crc) throws IOException, ZipException {
+    Objects.requireNonNull(in);
+    out.putNextEntry(newStoredEntry(name, size, crc));
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final byte[] buffer = context.in;
+      for (long remaining = size; remaining > 0;) {
+        final int len = in.read(buffer, 0, (int)Math.min(buffer.length, remaining));
+        if (len < 0)
+          break;
+
+        out.write(buffer, 0, len);
+        remaining -= len;
+      }
+    }
+    finally {
+      context.release();
+    }
+
+    out.closeEntry();
+  }
+
+  private static ZipEntry newStoredEntry(final String name, final long size, final long crc) {
+    final ZipEntry entry = newEntry(name);
+    entry.setMethod(ZipEntry.STORED);
+    entry.setSize(size);
+    entry.setCompressedSize(size);
+    entry.setCrc(crc);
+    return entry;
+  }
+
+  private void putNextEntry(final ZipEntry entry, final int level) throws IOException {
+    if (this.level == UNKNOWN_LEVEL)
+      throw new IllegalStateException("A compression level per entry requires ZipWriter(ZipOutputStream,int)");
+
+    // The level is changed after the previous entry is closed, so as to only apply to this entry
+    out.closeEntry();
+    out.setLevel(level);
+    out.putNextEntry(entry);
+  }
+
+  private void closeEntry(final int level) throws IOException {
+    out.closeEntry();
+    if (level != this.level)
+      out.setLevel(this.level);
+  }
+
+  private void copy(final InputStream in) throws IOException {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final byte[] buffer = context.in;
+      for (int len; (len = in.read(buffer)) != -1; out.write(buffer, 0, len));
+    }
+    finally {
+      context.release();
+    }
+  }
+
+  private void copy(final ReadableByteChannel in) throws IOException {
+    final ZipContext context = ZipContext.acquire();
+    try {
+      final byte[] buffer = context.in;
+      final ByteBuffer wrapper = ByteBuffer.wrap(buffer);
+      for (int len; (len = in.read(wrapper)) != -1; wrapper.clear())
+        out.write(buffer, 0, len);
+    }
+    finally {
+      context.release();
+    }
+  }
+
   /**
    * Closes the writer.
    *
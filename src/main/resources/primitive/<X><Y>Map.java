@@ -0,0 +1,214 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.Serializable;
+
+/**
+ * An object that maps {@code <x>} keys to {@code <y>} values. A map cannot
+ * contain duplicate keys; each key can map to at most one value.
+ * <p>
+ * This interface is a replica of the {@link java.util.Map} interface that
+ * defines synonymous methods for a map of {@code <x>} keys to {@code <y>}
+ * values instead of Object references.
+ */
+public interface <X><Y>Map extends Cloneable, Serializable {
+  /**
+   * Represents an operation that accepts a {@code <x>} key and a {@code <y>}
+   * value of a mapping in a {@link <X><Y>Map}, and returns no result.
+   *
+   * @see <X><Y>Map#forEach(EntryConsumer)
+   */
+  @FunctionalInterface
+  public interface EntryConsumer {
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param key The key of the mapping.
+     * @param value The value of the mapping.
+     */
+    void accept(<x> key, <y> value);
+  }
+
+  /**
+   * Returns the number of key-value mappings in this map.
+   *
+   * @return The number of key-value mappings in this map.
+   */
+  int size();
+
+  /**
+   * Returns {@code true} if this map contains no key-value mappings.
+   *
+   * @return {@code true} if this map contains no key-value mappings.
+   */
+  boolean isEmpty();
+
+  /**
+   * Returns {@code true} if this map contains a mapping for the specified key.
+   *
+   * @param key Key whose presence in this map is to be tested.
+   * @return {@code true} if this map contains a mapping for the specified key.
+   */
+  boolean containsKey(<x> key);
+
+  /**
+   * Returns {@code true} if this map maps one or more keys to the specified
+   * value.
+   *
+   * @param value Value whose presence in this map is to be tested.
+   * @return {@code true} if this map maps one or more keys to the specified
+   *         value.
+   */
+  boolean containsValue(<y> value);
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code 0} if
+   * this map contains no mapping for the key.
+   *
+   * @param key The key whose associated value is to be returned.
+   * @return The value to which the specified key is mapped, or {@code 0} if
+   *         this map contains no mapping for the key.
+   * @see #containsKey(<x>)
+   * @see #getOrDefault(<x>,<y>)
+   */
+  default <y> get(final <x> key) {
+    final <y> defaultValue = 0;
+    return getOrDefault(key, defaultValue);
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or
+   * {@code defaultValue} if this map contains no mapping for the key.
+   *
+   * @param key The key whose associated value is to be returned.
+   * @param defaultValue The default mapping of the key.
+   * @return The value to which the specified key is mapped, or
+   *         {@code defaultValue} if this map contains no mapping for the key.
+   */
+  <y> getOrDefault(<x> key, <y> defaultValue);
+
+  /**
+   * Associates the specified value with the specified key in this map. If the
+   * map previously contained a mapping for the key, the old value is replaced
+   * by the specified value.
+   *
+   * @param key Key with which the specified value is to be associated.
+   * @param value Value to be associated with the specified key.
+   * @return The previous value associated with {@code key}, or {@code 0} if
+   *         there was no mapping for {@code key}.
+   */
+  <y> put(<x> key, <y> value);
+
+  /**
+   * If the specified key is not already associated with a value, associates
+   * it with the given value and returns {@code 0}, else returns the current
+   * value.
+   *
+   * @param key Key with which the specified value is to be associated.
+   * @param value Value to be associated with the specified key.
+   * @return The previous value associated with {@code key}, or {@code 0} if
+   *         there was no mapping for {@code key}.
+   */
+  default <y> putIfAbsent(final <x> key, final <y> value) {
+    if (containsKey(key))
+      return get(key);
+
+    put(key, value);
+    return 0;
+  }
+
+  /**
+   * Copies all of the mappings from the specified map to this map. The effect
+   * of this call is equivalent to that of calling {@link #put(<x>,<y>)
+   * put(k, v)} on this map once for each mapping from key {@code k} to value
+   * {@code v} in the specified map.
+   *
+   * @param m Mappings to be stored in this map.
+   * @throws NullPointerException If the specified map is null.
+   */
+  default void putAll(final <X><Y>Map m) {
+    m.forEach(this::put);
+  }
+
+  /**
+   * Removes the mapping for a key from this map if it is present.
+   *
+   * @param key Key whose mapping is to be removed from the map.
+   * @return The previous value associated with {@code key}, or {@code 0} if
+   *         there was no mapping for {@code key}.
+   */
+  <y> remove(<x> key);
+
+  /**
+   * Removes all of the mappings from this map. The map will be empty after
+   * this call returns.
+   */
+  void clear();
+
+  /**
+   * Returns a {@link <X>Set} view of the keys contained in this map. The set
+   * is backed by the map, so changes to the map are reflected in the set, and
+   * vice-versa. The set supports element removal, which removes the
+   * corresponding mapping from the map, but it does not support the
+   * {@code add} or {@code addAll} operations.
+   *
+   * @return A set view of the keys contained in this map.
+   */
+  <X>Set keySet();
+
+  /**
+   * Returns a {@link <Y>Collection} view of the values contained in this map.
+   * The collection is backed by the map, so changes to the map are reflected
+   * in the collection, and vice-versa. The collection supports element
+   * removal, which removes the corresponding mapping from the map, but it does
+   * not support the {@code add} or {@code addAll} operations.
+   *
+   * @return A collection view of the values contained in this map.
+   */
+  <Y>Collection values();
+
+  /**
+   * Performs the given action for each mapping in this map until all entries
+   * have been processed.
+   *
+   * @param action The action to be performed for each mapping.
+   * @throws NullPointerException If the specified action is null.
+   */
+  void forEach(EntryConsumer action);
+
+  /**
+   * Compares the specified object with this map for equality. Returns
+   * {@code true} if the given object is also a {@link <X><Y>Map} and the two
+   * maps represent the same mappings.
+   *
+   * @param obj Object to be compared for equality with this map.
+   * @return {@code true} if the specified object is equal to this map.
+   */
+  @Override
+  boolean equals(Object obj);
+
+  /**
+   * Returns the hash code value for this map, defined to be the sum of
+   * {@code <XX>.hashCode(key) ^ <YY>.hashCode(value)} for each mapping in the
+   * map.
+   *
+   * @return The hash code value for this map.
+   */
+  @Override
+  int hashCode();
+}
\ No newline at end of file
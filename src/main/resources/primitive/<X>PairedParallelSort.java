@@ -0,0 +1,235 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A stable, parallel merge sort of an array of sortable {@code <x>} values
+ * paired with an array of Object values, modeled after
+ * {@link java.util.Arrays#parallelSort(Object[])}.
+ * <p>
+ * The range to be sorted is recursively split in halves until reaching a
+ * granularity of {@code n / (4 * parallelism)} (and not less than
+ * {@code 2^13}) values, each of which is sorted sequentially with
+ * {@link PrimitiveSort#sortPaired(Object[],<x>[],int,int,<X>Comparator)}.
+ * The sorted halves are then merged in parallel, alternating between the
+ * arrays and a workspace of the same length. Each merge splits the larger run
+ * at its midpoint, and the smaller run at the matching position found by binary
+ * search, such that equal values retain their relative order.
+ */
+final class <X>PairedParallelSort {
+  /**
+   * The minimum length of a range to be split into parallel tasks, as per
+   * {@link java.util.Arrays#parallelSort(Object[])}.
+   */
+  private static final int MIN_ARRAY_SORT_GRAN = 1 << 13;
+
+  /**
+   * Sorts the given range of the sortable array, moving the values of the
+   * paired array in tandem, in the common {@link ForkJoinPool}.
+   *
+   * @param a The array of sortable values.
+   * @param v The array of paired values.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   */
+  static void sort(final <x>[] a, final Object[] v, final int fromIndex, final int toIndex, final <X>Comparator c) {
+    final int n = toIndex - fromIndex;
+    final int p = ForkJoinPool.getCommonPoolParallelism();
+    if (n <= MIN_ARRAY_SORT_GRAN || p == 1) {
+      PrimitiveSort.sortPaired(v, a, fromIndex, toIndex, c);
+      return;
+    }
+
+    final int g = n / (p << 2);
+    final int gran = g <= MIN_ARRAY_SORT_GRAN ? MIN_ARRAY_SORT_GRAN : g;
+    final Sorter sorter = new Sorter(a, v, new <x>[n], new Object[n], fromIndex, fromIndex, toIndex, false, gran, c);
+    ForkJoinPool.commonPool().invoke(sorter);
+  }
+
+  /**
+   * Sorts the range {@code [lo, hi)} of the arrays, leaving the result in the
+   * arrays, or in the workspace if {@code toWork} is {@code true}. Indexes are
+   * those of the arrays, and map to the workspace at an offset of
+   * {@code base}.
+   */
+  private static final class Sorter extends RecursiveAction {
+    private static final long serialVersionUID = <serialVersionUID>;
+
+    private final <x>[] a;
+    private final Object[] v;
+    private final <x>[] w;
+    private final Object[] wv;
+    private final int base;
+    private final int lo;
+    private final int hi;
+    private final boolean toWork;
+    private final int gran;
+    private final <X>Comparator c;
+
+    private Sorter(final <x>[] a, final Object[] v, final <x>[] w, final Object[] wv, final int base, final int lo, final int hi, final boolean toWork, final int gran, final <X>Comparator c) {
+      this.a = a;
+      this.v = v;
+      this.w = w;
+      this.wv = wv;
+      this.base = base;
+      this.lo = lo;
+      this.hi = hi;
+      this.toWork = toWork;
+      this.gran = gran;
+      this.c = c;
+    }
+
+    @Override
+    protected void compute() {
+      final int n = hi - lo;
+      if (n <= gran) {
+        PrimitiveSort.sortPaired(v, a, lo, hi, c);
+        if (toWork) {
+          System.arraycopy(a, lo, w, lo - base, n);
+          System.arraycopy(v, lo, wv, lo - base, n);
+        }
+
+        return;
+      }
+
+      final int mid = (lo + hi) >>> 1;
+      invokeAll(new Sorter(a, v, w, wv, base, lo, mid, !toWork, gran, c), new Sorter(a, v, w, wv, base, mid, hi, !toWork, gran, c));
+      if (toWork)
+        new Merger(a, v, 0, w, wv, base, lo, mid, mid, hi, lo, gran, c).compute();
+      else
+        new Merger(w, wv, base, a, v, 0, lo, mid, mid, hi, lo, gran, c).compute();
+    }
+  }
+
+  /**
+   * Merges the sorted runs {@code [lo1, hi1)} and {@code [lo2, hi2)} of the
+   * source into the destination starting at {@code dlo}. Indexes are those of
+   * the sorted arrays, and map to the source and destination at an offset of
+   * {@code off} and {@code doff}, respectively.
+   */
+  private static final class Merger extends RecursiveAction {
+    private static final long serialVersionUID = <serialVersionUID>;
+
+    private final <x>[] a;
+    private final Object[] v;
+    private final int off;
+    private final <x>[] da;
+    private final Object[] dv;
+    private final int doff;
+    private final int lo1;
+    private final int hi1;
+    private final int lo2;
+    private final int hi2;
+    private final int dlo;
+    private final int gran;
+    private final <X>Comparator c;
+
+    private Merger(final <x>[] a, final Object[] v, final int off, final <x>[] da, final Object[] dv, final int doff, final int lo1, final int hi1, final int lo2, final int hi2, final int dlo, final int gran, final <X>Comparator c) {
+      this.a = a;
+      this.v = v;
+      this.off = off;
+      this.da = da;
+      this.dv = dv;
+      this.doff = doff;
+      this.lo1 = lo1;
+      this.hi1 = hi1;
+      this.lo2 = lo2;
+      this.hi2 = hi2;
+      this.dlo = dlo;
+      this.gran = gran;
+      this.c = c;
+    }
+
+    @Override
+    protected void compute() {
+      final int n1 = hi1 - lo1;
+      final int n2 = hi2 - lo2;
+      if (n1 + n2 <= gran) {
+        merge();
+        return;
+      }
+
+      final int m1;
+      final int m2;
+      if (n1 >= n2) {
+        // Values of the second run equal to the split value go to the right
+        m1 = (lo1 + hi1) >>> 1;
+        final <x> key = a[m1 - off];
+        int l = lo2;
+        for (int h = hi2; l < h;) {
+          final int m = (l + h) >>> 1;
+          if (c.compare(a[m - off], key) < 0)
+            l = m + 1;
+          else
+            h = m;
+        }
+
+        m2 = l;
+      }
+      else {
+        // Values of the first run equal to the split value go to the left
+        m2 = (lo2 + hi2) >>> 1;
+        final <x> key = a[m2 - off];
+        int l = lo1;
+        for (int h = hi1; l < h;) {
+          final int m = (l + h) >>> 1;
+          if (c.compare(a[m - off], key) <= 0)
+            l = m + 1;
+          else
+            h = m;
+        }
+
+        m1 = l;
+      }
+
+      invokeAll(new Merger(a, v, off, da, dv, doff, lo1, m1, lo2, m2, dlo, gran, c), new Merger(a, v, off, da, dv, doff, m1, hi1, m2, hi2, dlo + (m1 - lo1) + (m2 - lo2), gran, c));
+    }
+
+    private void merge() {
+      int i = lo1 - off;
+      int j = lo2 - off;
+      int k = dlo - doff;
+      final int iEnd = hi1 - off;
+      final int jEnd = hi2 - off;
+      while (i < iEnd && j < jEnd) {
+        if (c.compare(a[i], a[j]) <= 0) {
+          da[k] = a[i];
+          dv[k++] = v[i++];
+        }
+        else {
+          da[k] = a[j];
+          dv[k++] = v[j++];
+        }
+      }
+
+      final int n1 = iEnd - i;
+      System.arraycopy(a, i, da, k, n1);
+      System.arraycopy(v, i, dv, k, n1);
+      k += n1;
+      final int n2 = jEnd - j;
+      System.arraycopy(a, j, da, k, n2);
+      System.arraycopy(v, j, dv, k, n2);
+    }
+  }
+
+  private <X>PairedParallelSort() {
+  }
+}
\ No newline at end of file
@@ -104,6 +104,8 @@ class <X>PairedTimSort extends PrimitiveTimSort {
       tmpLen = workLen;
     }
 
+    tmpV = new Object[tmpBase + tmpLen];
+
     /*
      * Allocate runs-to-be-merged stack (which cannot be expanded). The stack
      * length requirements are described in listsort.txt. The C version always
@@ -314,9 +316,9 @@ class <X>PairedTimSort extends PrimitiveTimSort {
       final <x> t = a[lo];
       final Object v0 = v[lo];
       a[lo] = a[hi];
-      v[lo] = v[hi];
+      v[lo++] = v[hi];
       a[hi] = t;
-      v[hi] = v0;
+      v[hi--] = v0;
     }
   }
 
@@ -597,7 +599,7 @@ class <X>PairedTimSort extends PrimitiveTimSort {
         }
         else {
           a[dest] = tmp[cursor1];
-          v[dest] = tmpV[cursor1];
+          v[dest++] = tmpV[cursor1++];
           ++count1;
           count2 = 0;
           if (--len1 == 1)
@@ -770,7 +772,7 @@ class <X>PairedTimSort extends PrimitiveTimSort {
         }
 
         a[dest] = tmp[cursor2];
-        v[dest] = tmpV[cursor2];
+        v[dest--] = tmpV[cursor2--];
         if (--len2 == 1)
           break outer;
 
@@ -786,7 +788,7 @@ class <X>PairedTimSort extends PrimitiveTimSort {
         }
 
         a[dest] = a[cursor1];
-        v[dest] = v[cursor1];
+        v[dest--] = v[cursor1--];
         if (--len1 == 0)
           break outer;
 
@@ -0,0 +1,133 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+/**
+ * Selection of the k-th value of an array of sortable {@code <x>} values,
+ * optionally moving the values of a paired array of Object values in tandem.
+ * <p>
+ * The implementation is an introselect: a quickselect with a median-of-three
+ * pivot and a three-way partition (such that runs of equal values are not
+ * partitioned again), which falls back to sorting the remaining range when it
+ * is small, or when the number of partitions exceeds twice the logarithm of
+ * the length of the range. The selection runs in expected linear time, and
+ * {@code O(n log n)} time in the worst case.
+ */
+final class <X>Select {
+  /** Ranges of at most this length are sorted instead of partitioned. */
+  private static final int SORT_THRESHOLD = 16;
+
+  /**
+   * Rearranges the range {@code [lo, hi)} of the sortable array, moving the
+   * values of the paired array in tandem if it is not null, such that the value
+   * at index {@code k} is the value that would be at that index if the range
+   * were sorted, no value before {@code k} is greater than it, and no value
+   * after {@code k} is less than it.
+   *
+   * @param a The array of sortable values.
+   * @param v The array of paired values, or {@code null}.
+   * @param lo The index of the first element, inclusive, of the range.
+   * @param hi The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, in {@code [lo, hi)}.
+   * @param c The comparator to use.
+   */
+  static void select(final <x>[] a, final Object[] v, int lo, int hi, final int k, final <X>Comparator c) {
+    int depth = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(hi - lo));
+    while (true) {
+      if (hi - lo <= SORT_THRESHOLD || --depth < 0) {
+        sort(a, v, lo, hi, c);
+        return;
+      }
+
+      final int mid = (lo + hi) >>> 1;
+      final int last = hi - 1;
+      if (c.compare(a[mid], a[lo]) < 0)
+        swap(a, v, lo, mid);
+
+      if (c.compare(a[last], a[mid]) < 0) {
+        swap(a, v, mid, last);
+        if (c.compare(a[mid], a[lo]) < 0)
+          swap(a, v, lo, mid);
+      }
+
+      // [lo, lt) < pivot, [lt, i) == pivot, (gt, hi) > pivot
+      final <x> pivot = a[mid];
+      int lt = lo;
+      int gt = last;
+      for (int i = lo; i <= gt;) {
+        final int cmp = c.compare(a[i], pivot);
+        if (cmp < 0)
+          swap(a, v, lt++, i++);
+        else if (cmp > 0)
+          swap(a, v, i, gt--);
+        else
+          ++i;
+      }
+
+      if (k < lt)
+        hi = lt;
+      else if (k > gt)
+        lo = gt + 1;
+      else
+        return;
+    }
+  }
+
+  /**
+   * Rearranges the range {@code [lo, hi)} of the sortable array, moving the
+   * values of the paired array in tandem if it is not null, such that the first
+   * {@code k} values of the range are the {@code k} least values of the range,
+   * in sorted order. The order of the remaining values is unspecified.
+   *
+   * @param a The array of sortable values.
+   * @param v The array of paired values, or {@code null}.
+   * @param lo The index of the first element, inclusive, of the range.
+   * @param hi The index of the last element, exclusive, of the range.
+   * @param k The number of values to sort, in {@code [0, hi - lo]}.
+   * @param c The comparator to use.
+   */
+  static void partialSort(final <x>[] a, final Object[] v, final int lo, final int hi, final int k, final <X>Comparator c) {
+    if (k == 0)
+      return;
+
+    if (k < hi - lo)
+      select(a, v, lo, hi, lo + k - 1, c);
+
+    sort(a, v, lo, lo + k, c);
+  }
+
+  private static void sort(final <x>[] a, final Object[] v, final int lo, final int hi, final <X>Comparator c) {
+    if (v == null)
+      PrimitiveSort.sort(a, lo, hi, c);
+    else
+      PrimitiveSort.sortPaired(v, a, lo, hi, c);
+  }
+
+  private static void swap(final <x>[] a, final Object[] v, final int i, final int j) {
+    final <x> t = a[i];
+    a[i] = a[j];
+    a[j] = t;
+    if (v != null) {
+      final Object o = v[i];
+      v[i] = v[j];
+      v[j] = o;
+    }
+  }
+
+  private <X>Select() {
+  }
+}
\ No newline at end of file
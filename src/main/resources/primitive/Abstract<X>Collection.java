@@ -0,0 +1,270 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterators;
+
+/**
+ * This class provides a skeletal implementation of the {@link <X>Collection}
+ * interface, to minimize the effort required to implement this interface.
+ * <p>
+ * To implement an unmodifiable collection, the programmer needs only to extend
+ * this class and provide implementations for the {@link #iterator()} and
+ * {@link #size()} methods. To implement a modifiable collection, the
+ * programmer must additionally override this class's {@link #add(<x>)} method
+ * (which otherwise throws an {@link UnsupportedOperationException}), and the
+ * iterator returned by the {@link #iterator()} method must additionally
+ * implement its {@link <X>Iterator#remove()} method.
+ * <p>
+ * This class replicates the API of the {@link java.util.AbstractCollection}
+ * class by defining synonymous methods for a collection of {@code <x>} values
+ * instead of Object references.
+ */
+public abstract class Abstract<X>Collection implements <X>Collection {
+  private static final long serialVersionUID = <serialVersionUID>;
+
+  /**
+   * Creates a new {@link Abstract<X>Collection}.
+   */
+  protected Abstract<X>Collection() {
+  }
+
+  @Override
+  public abstract <X>Iterator iterator();
+
+  @Override
+  public abstract int size();
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean contains(final <x> value) {
+    for (final <X>Iterator i = iterator(); i.hasNext();)
+      if (i.next() == value)
+        return true;
+
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(final <X>Collection c) {
+    for (final <X>Iterator i = c.iterator(); i.hasNext();)
+      if (!contains(i.next()))
+        return false;
+
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final Collection<<XX>> c) {
+    for (final Iterator<<XX>> i = c.iterator(); i.hasNext();)
+      if (!contains(i.next()))
+        return false;
+
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation always throws an {@link UnsupportedOperationException}.
+   *
+   * @throws UnsupportedOperationException Always.
+   */
+  @Override
+  public boolean add(final <x> value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    boolean changed = false;
+    for (final <X>Iterator i = c.iterator(); i.hasNext(); changed |= add(i.next()));
+    return changed;
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    boolean changed = false;
+    for (final Iterator<<XX>> i = c.iterator(); i.hasNext(); changed |= add(i.next()));
+    return changed;
+  }
+
+  @Override
+  public boolean remove(final <x> value) {
+    for (final <X>Iterator i = iterator(); i.hasNext();) {
+      if (i.next() == value) {
+        i.remove();
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean removeAll(final <x> ... a) {
+    boolean changed = false;
+    for (int i = 0; i < a.length; ++i)
+      changed |= remove(a[i]);
+
+    return changed;
+  }
+
+  @Override
+  public boolean removeAll(final <X>Collection c) {
+    boolean changed = false;
+    for (final <X>Iterator i = iterator(); i.hasNext();) {
+      if (c.contains(i.next())) {
+        i.remove();
+        changed = true;
+      }
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean removeAll(final Collection<<XX>> c) {
+    boolean changed = false;
+    for (final <X>Iterator i = iterator(); i.hasNext();) {
+      if (c.contains(i.next())) {
+        i.remove();
+        changed = true;
+      }
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    boolean changed = false;
+    for (final <X>Iterator i = iterator(); i.hasNext();) {
+      if (!c.contains(i.next())) {
+        i.remove();
+        changed = true;
+      }
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    boolean changed = false;
+    for (final <X>Iterator i = iterator(); i.hasNext();) {
+      if (!c.contains(i.next())) {
+        i.remove();
+        changed = true;
+      }
+    }
+
+    return changed;
+  }
+
+  @Override
+  public void clear() {
+    for (final <X>Iterator i = iterator(); i.hasNext();) {
+      i.next();
+      i.remove();
+    }
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    final int size = size();
+    if (a.length < size)
+      a = new <x>[size];
+
+    int index = 0;
+    for (final <X>Iterator i = iterator(); i.hasNext(); a[index++] = i.next());
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    final int size = size();
+    if (a.length < size)
+      a = new <XX>[size];
+
+    int index = 0;
+    for (final <X>Iterator i = iterator(); i.hasNext(); a[index++] = i.next());
+    if (a.length > size)
+      a[size] = null;
+
+    return a;
+  }
+
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    final <X>Iterator iterator = iterator();
+<_>    return Spliterators.spliterator(new PrimitiveIterator.Of<X>() {
+<_>      @Override
+<_>      public boolean hasNext() {
+<_>        return iterator.hasNext();
+<_>      }
+<_>
+<_>      @Override
+<_>      public <x> next<X>() {
+<_>        return iterator.next();
+<_>      }
+<_>    }, size(), 0);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
+<_>  }
+
+  /**
+   * Returns a string representation of this collection. The string
+   * representation consists of a list of the collection's values in the order
+   * they are returned by its iterator, enclosed in square brackets
+   * ({@code "[]"}). Adjacent values are separated by the characters
+   * {@code ", "} (comma and space).
+   *
+   * @return A string representation of this collection.
+   */
+  @Override
+  public String toString() {
+    final <X>Iterator i = iterator();
+    if (!i.hasNext())
+      return "[]";
+
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    while (true) {
+      builder.append(i.next());
+      if (!i.hasNext())
+        return builder.append(']').toString();
+
+      builder.append(", ");
+    }
+  }
+}
\ No newline at end of file
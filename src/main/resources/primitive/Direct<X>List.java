@@ -0,0 +1,1172 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.<X>Buffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.libj.lang.Assertions;
+import org.libj.util.ArrayUtil;
+
+/**
+ * An unsynchronized implementation of a resizable-array of <x> values, whose
+ * values are stored off-heap in direct {@link ByteBuffer}s instead of an
+ * on-heap {@code <x>[]}.
+ * <p>
+ * This list has the same semantics as {@link Array<X>List}, but its storage
+ * does not count against the Java heap, and is therefore neither copied nor
+ * scanned by the garbage collector. This makes it suitable for very large
+ * lists whose on-heap counterpart would otherwise inflate the old generation
+ * and lengthen full GC pauses.
+ * <p>
+ * The values are stored in pages of {@code 2^20} values each, so that the size
+ * of this list is not limited by the maximum capacity of a single
+ * {@link ByteBuffer}, and so that the list grows by allocating new pages
+ * instead of copying its existing values. Only a list whose capacity is less
+ * than a single page is reallocated on growth.
+ * <p>
+ * The native memory of this list is released when the list is garbage
+ * collected, or explicitly with {@link #close()}. A closed list is empty, and
+ * further modifications allocate new native memory.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access a {@link Direct<X>List} instance concurrently, and
+ * at least one of the threads modifies the list structurally, it <i>must</i> be
+ * synchronized externally.
+ */
+public class Direct<X>List extends PrimitiveArrayList<<X>Buffer[]> implements <X>List, Closeable, RandomAccess {
+  private static final long serialVersionUID = <serialVersionUID>;
+
+  /** The binary logarithm of the number of values in a page. */
+  static final int PAGE_SHIFT = 20;
+  static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+  static final int PAGE_MASK = PAGE_SIZE - 1;
+
+  /** The number of values transferred per bulk copy, and per pre-sorted run. */
+  private static final int CHUNK_SIZE = 1 << 14;
+
+  private static final ByteBuffer[] EMPTY_PAGES = {};
+  private static final <X>Buffer[] EMPTY_VALUEDATA = {};
+
+  /**
+   * The list that owns the {@link #pages} of the sub-list graph to which this
+   * list belongs.
+   */
+  private final Direct<X>List root;
+
+  /**
+   * The byte buffers of which {@link #valueData} are views. Only set in the
+   * {@link #root} list.
+   */
+  private ByteBuffer[] pages;
+
+  /**
+   * Creates an empty list with an initial capacity of five.
+   */
+  public Direct<X>List() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates an empty list with the specified initial capacity.
+   *
+   * @param initialCapacity The initial capacity of the list.
+   * @throws IllegalArgumentException If the specified initial capacity is
+   *           negative.
+   */
+  public Direct<X>List(final int initialCapacity) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+
+    this.root = this;
+    this.fromIndex = 0;
+    this.pages = allocateDirect(initialCapacity);
+    this.valueData = views(pages);
+  }
+
+  /**
+   * Creates a list containing the values of the specified array.
+   *
+   * @param values The array whose values are to be placed into this list.
+   * @param offset The index of the first value to add.
+   * @param length The number of values to add.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public Direct<X>List(final <x>[] values, final int offset, final int length) {
+    this(length);
+    write(valueData, 0, values, offset, length);
+    size = length;
+  }
+
+  /**
+   * Creates a list containing the values of the specified array.
+   *
+   * @param values The array whose values are to be placed into this list.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public Direct<X>List(final <x> ... values) {
+    this(values, 0, values.length);
+  }
+
+  /**
+   * Creates a list containing the values of the specified collection, in the
+   * order they are returned by the collection's iterator.
+   *
+   * @param c The collection whose values are to be placed into this list.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public Direct<X>List(final Collection<<XX>> c) {
+    this(c.size());
+    for (final Iterator<<XX>> i = c.iterator(); i.hasNext(); ++size)
+      put(valueData, size, i.next());
+  }
+
+  /**
+   * Creates a list of the specified size, backed by the specified pages of
+   * storage. All but the last page must have a capacity of {@code 2^20} values.
+   * Subclasses that provide their own storage must also override
+   * {@link #allocatePage(int,int)}, {@link #reallocatePage(int,ByteBuffer,int,int)},
+   * and {@link #freePage(int,ByteBuffer)}.
+   *
+   * @param pages The pages of storage.
+   * @param size The number of values in the list.
+   * @throws NullPointerException If {@code pages} is null.
+   * @throws IllegalArgumentException If {@code size} is negative, or greater
+   *           than the capacity of the specified pages.
+   */
+  protected Direct<X>List(final ByteBuffer[] pages, final int size) {
+    this.root = this;
+    this.fromIndex = 0;
+    this.pages = pages;
+    this.valueData = views(pages);
+    if (size < 0 || capacity() < size)
+      throw new IllegalArgumentException("Illegal size: " + size);
+
+    this.size = size;
+  }
+
+  /**
+   * Creates a sub-list, and integrates it into the specified parent list's
+   * sub-list graph. A sub-list instance shares the parent list's
+   * {@link #valueData}, and modifications made to any list in the graph of
+   * sub-lists are propagated with the
+   * {@link PrimitiveArrayList#updateState(int,int)} method.
+   *
+   * @param parent The parent list.
+   * @param fromIndex Low endpoint (inclusive) of the subList.
+   * @param toIndex High endpoint (exclusive) of the subList.
+   * @throws NullPointerException If the specified parent list is null.
+   */
+  private Direct<X>List(final Direct<X>List parent, final int fromIndex, final int toIndex) {
+    super(parent, fromIndex, toIndex);
+    this.root = parent.root;
+  }
+
+  private static ByteBuffer[] allocateDirect(final int capacity) {
+    final int count = pageCount(capacity);
+    final ByteBuffer[] pages = new ByteBuffer[count];
+    for (int i = 0; i < count; ++i)
+      pages[i] = DirectBuffers.allocate(pageCapacity(i, capacity) * <XX>.BYTES);
+
+    return pages;
+  }
+
+  private static <X>Buffer[] views(final ByteBuffer[] pages) {
+    if (pages.length == 0)
+      return EMPTY_VALUEDATA;
+
+    final <X>Buffer[] views = new <X>Buffer[pages.length];
+    for (int i = 0; i < pages.length; ++i)
+      views[i] = DirectBuffers.as<X>Buffer(pages[i]);
+
+    return views;
+  }
+
+  private static int pageCount(final int capacity) {
+    return capacity == 0 ? 0 : ((capacity - 1) >>> PAGE_SHIFT) + 1;
+  }
+
+  private static int pageCapacity(final int page, final int capacity) {
+    return Math.min(PAGE_SIZE, capacity - (page << PAGE_SHIFT));
+  }
+
+  private static <x> get(final <X>Buffer[] valueData, final int index) {
+    return valueData[index >>> PAGE_SHIFT].get(index & PAGE_MASK);
+  }
+
+  private static void put(final <X>Buffer[] valueData, final int index, final <x> value) {
+    valueData[index >>> PAGE_SHIFT].put(index & PAGE_MASK, value);
+  }
+
+  /**
+   * Copies {@code length} values from the specified paged storage, starting
+   * at {@code index}, into the specified array, starting at {@code offset}.
+   */
+  private static void read(final <X>Buffer[] valueData, int index, final <x>[] dest, int offset, int length) {
+    while (length > 0) {
+      final <X>Buffer page = valueData[index >>> PAGE_SHIFT].duplicate();
+      final int position = index & PAGE_MASK;
+      final int n = Math.min(length, page.capacity() - position);
+      page.position(position);
+      page.get(dest, offset, n);
+      index += n;
+      offset += n;
+      length -= n;
+    }
+  }
+
+  /**
+   * Copies {@code length} values from the specified array, starting at
+   * {@code offset}, into the specified paged storage, starting at
+   * {@code index}.
+   */
+  private static void write(final <X>Buffer[] valueData, int index, final <x>[] src, int offset, int length) {
+    while (length > 0) {
+      final <X>Buffer page = valueData[index >>> PAGE_SHIFT].duplicate();
+      final int position = index & PAGE_MASK;
+      final int n = Math.min(length, page.capacity() - position);
+      page.position(position);
+      page.put(src, offset, n);
+      index += n;
+      offset += n;
+      length -= n;
+    }
+  }
+
+  /**
+   * Copies {@code length} values from {@code src}, starting at
+   * {@code srcIndex}, to {@code dest}, starting at {@code destIndex}. The
+   * regions may overlap if {@code src} and {@code dest} are the same storage.
+   */
+  private static void copy(final <X>Buffer[] src, final int srcIndex, final <X>Buffer[] dest, final int destIndex, final int length) {
+    if (length <= 0 || src == dest && srcIndex == destIndex)
+      return;
+
+    final <x>[] chunk = new <x>[Math.min(length, CHUNK_SIZE)];
+    if (src == dest && srcIndex < destIndex) {
+      for (int end = length; end > 0;) {
+        final int n = Math.min(chunk.length, end);
+        end -= n;
+        read(src, srcIndex + end, chunk, 0, n);
+        write(dest, destIndex + end, chunk, 0, n);
+      }
+    }
+    else {
+      for (int start = 0; start < length;) {
+        final int n = Math.min(chunk.length, length - start);
+        read(src, srcIndex + start, chunk, 0, n);
+        write(dest, destIndex + start, chunk, 0, n);
+        start += n;
+      }
+    }
+  }
+
+  /**
+   * Returns a new page of storage with capacity for the specified number of
+   * values. This implementation allocates a direct {@link ByteBuffer} with
+   * native byte order.
+   *
+   * @param page The index of the page.
+   * @param capacity The number of values the page must hold.
+   * @return A new page of storage with capacity for the specified number of
+   *         values.
+   */
+  protected ByteBuffer allocatePage(final int page, final int capacity) {
+    return DirectBuffers.allocate(capacity * <XX>.BYTES);
+  }
+
+  /**
+   * Returns a page of storage that replaces the specified page with a
+   * different capacity, and that contains the first {@code length} values of
+   * the specified page. This implementation allocates a new page with
+   * {@link #allocatePage(int,int)}, copies the values, and frees the specified
+   * page with {@link #freePage(int,ByteBuffer)}.
+   *
+   * @param page The index of the page.
+   * @param buffer The page to reallocate.
+   * @param length The number of values to retain from the specified page.
+   * @param capacity The number of values the new page must hold.
+   * @return A page of storage that replaces the specified page.
+   */
+  protected ByteBuffer reallocatePage(final int page, final ByteBuffer buffer, final int length, final int capacity) {
+    final ByteBuffer newBuffer = allocatePage(page, capacity);
+    final ByteBuffer src = buffer.duplicate();
+    src.limit(length * <XX>.BYTES);
+    newBuffer.duplicate().put(src);
+    freePage(page, buffer);
+    return newBuffer;
+  }
+
+  /**
+   * Releases the specified page of storage. This implementation releases the
+   * native memory of the buffer immediately, if the running JVM allows it.
+   *
+   * @param page The index of the page.
+   * @param buffer The page to release.
+   */
+  protected void freePage(final int page, final ByteBuffer buffer) {
+    DirectBuffers.free(buffer);
+  }
+
+  /**
+   * Returns the pages of storage of this list, whose total capacity is
+   * {@link #capacity()} values. Pages must not be retained beyond the next
+   * structural modification of this list.
+   *
+   * @return The pages of storage of this list.
+   */
+  protected final ByteBuffer[] pages() {
+    return root.pages;
+  }
+
+  /**
+   * Returns the number of values this list can hold before it must allocate
+   * more storage.
+   *
+   * @return The number of values this list can hold before it must allocate
+   *         more storage.
+   */
+  public int capacity() {
+    final int count = valueData.length;
+    return count == 0 ? 0 : ((count - 1) << PAGE_SHIFT) + valueData[count - 1].capacity();
+  }
+
+  /**
+   * Asserts that this list can be modified. This method is called on the root
+   * of the sub-list graph at the start of each method that modifies the
+   * values or the size of the list. This implementation does nothing.
+   *
+   * @throws UnsupportedOperationException If this list cannot be modified.
+   */
+  protected void assertWritable() {
+  }
+
+  private void setPages(final ByteBuffer[] pages) {
+    root.pages = pages;
+    valueData = views(pages);
+    updateState(0, 0);
+  }
+
+  /**
+   * Shifts the values in {@code valueData} right a distance of {@code dist}
+   * starting from {@code index}.
+   *
+   * @param start Index from which to shift the values to the right.
+   * @param dist Distance to shift the values by.
+   */
+  private void shiftRight(final int start, final int dist) {
+    ensureCapacity(size + dist);
+    copy(valueData, start, valueData, start + dist, size - start);
+  }
+
+  /**
+   * Shifts the values in {@code valueData} left a distance of {@code dist}
+   * starting from {@code index}.
+   *
+   * @param start Index from which to shift the values to the left.
+   * @param dist Distance to shift the values by.
+   */
+  private void shiftLeft(final int start, final int dist) {
+    copy(valueData, start + dist, valueData, start, size - start - dist);
+  }
+
+  @Override
+  public <x> get(final int index) {
+    Assertions.assertRange("index", index, "size()", size(), false);
+    return get(valueData, fromIndex + index);
+  }
+
+  @Override
+  public boolean add(final <x> value) {
+    root.assertWritable();
+    final int index = toIndex > -1 ? toIndex : size;
+    shiftRight(index, 1);
+    put(valueData, updateState(index, 1), value);
+    return true;
+  }
+
+  @Override
+  public boolean add(int index, final <x> value) {
+    root.assertWritable();
+    Assertions.assertRange("index", index, "size()", size(), true);
+    index += fromIndex;
+    shiftRight(index, 1);
+    put(valueData, updateState(index, 1), value);
+    return true;
+  }
+
+  /**
+   * Appends all of the values in the specified list to the end of this list, in
+   * the order that they are returned by the specified list's Iterator. The
+   * behavior of this operation is undefined if the specified list is this list,
+   * and this list is nonempty.
+   *
+   * @param list List containing values to be added to this list.
+   * @return {@code true} if this collection changed as a result of the call.
+   * @throws NullPointerException If the specified list is null.
+   */
+  public boolean addAll(final Direct<X>List list) {
+    root.assertWritable();
+    final int length = list.size();
+    if (length == 0)
+      return false;
+
+    final int index = toIndex > -1 ? toIndex : size;
+    shiftRight(index, length);
+    copy(list.valueData, list.fromIndex, valueData, index, length);
+    updateState(index, length);
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <x>[] values, final int offset, final int length) {
+    root.assertWritable();
+    if (length == 0)
+      return false;
+
+    final int index = toIndex > -1 ? toIndex : size;
+    shiftRight(index, length);
+    write(valueData, index, values, offset, length);
+    updateState(index, length);
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <x> ... values) {
+    return addAll(values, 0, values.length);
+  }
+
+  @Override
+  public boolean addAll(int index, final <x>[] values, final int offset, final int length) {
+    root.assertWritable();
+    Assertions.assertRange("index", index, "size()", size(), true);
+    if (length == 0)
+      return false;
+
+    index += fromIndex;
+    shiftRight(index, length);
+    write(valueData, index, values, offset, length);
+    updateState(index, length);
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    root.assertWritable();
+    final int len = c.size();
+    if (len == 0)
+      return false;
+
+    int index = toIndex > -1 ? toIndex : size;
+    shiftRight(index, len);
+    for (final Iterator<<XX>> i = c.iterator(); i.hasNext(); updateState(index++, 1))
+      put(valueData, index, i.next());
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    root.assertWritable();
+    final int len = c.size();
+    if (len == 0)
+      return false;
+
+    int index = toIndex > -1 ? toIndex : size;
+    shiftRight(index, len);
+    for (final <X>Iterator i = c.iterator(); i.hasNext(); updateState(index++, 1))
+      put(valueData, index, i.next());
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(int index, final Collection<<XX>> c) {
+    root.assertWritable();
+    Assertions.assertRange("index", index, "size()", size(), true);
+    final int len = c.size();
+    if (len == 0)
+      return false;
+
+    index += fromIndex;
+    shiftRight(index, len);
+    for (final Iterator<<XX>> i = c.iterator(); i.hasNext(); updateState(index++, 1))
+      put(valueData, index, i.next());
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(int index, final <X>Collection c) {
+    root.assertWritable();
+    Assertions.assertRange("index", index, "size()", size(), true);
+    final int len = c.size();
+    if (len == 0)
+      return false;
+
+    index += fromIndex;
+    shiftRight(index, len);
+    for (final <X>Iterator i = c.iterator(); i.hasNext(); updateState(index++, 1))
+      put(valueData, index, i.next());
+
+    return true;
+  }
+
+  @Override
+  public <x> set(int index, final <x> value) {
+    root.assertWritable();
+    Assertions.assertRange("index", index, "size()", size(), false);
+    index += fromIndex;
+    final <x> oldValue = get(valueData, index);
+    put(valueData, index, value);
+    updateState(0, 0);
+    return oldValue;
+  }
+
+  @Override
+  public <x> removeIndex(int index) {
+    root.assertWritable();
+    Assertions.assertRange("index", index, "size()", size(), false);
+    index += fromIndex;
+    final <x> value = get(valueData, index);
+    shiftLeft(index, 1);
+    updateState(index, -1);
+    return value;
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    root.assertWritable();
+    final int beforeSize = size;
+    for (int i = (toIndex > -1 ? toIndex : size) - 1; i >= fromIndex; --i) {
+      if (!c.contains(get(valueData, i))) {
+        shiftLeft(i, 1);
+        updateState(i, -1);
+      }
+    }
+
+    return beforeSize != size;
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    root.assertWritable();
+    final int beforeSize = size;
+    for (int i = (toIndex > -1 ? toIndex : size) - 1; i >= fromIndex; --i) {
+      if (!c.contains(get(valueData, i))) {
+        shiftLeft(i, 1);
+        updateState(i, -1);
+      }
+    }
+
+    return beforeSize != size;
+  }
+
+  @Override
+  public int indexOf(final <x> value) {
+    final int len = toIndex > -1 ? toIndex : size;
+    for (int i = fromIndex; i < len; ++i)
+      if (get(valueData, i) == value)
+        return i - fromIndex;
+
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final <x> value) {
+    for (int i = (toIndex > -1 ? toIndex : size) - 1; i >= fromIndex; --i)
+      if (get(valueData, i) == value)
+        return i - fromIndex;
+
+    return -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation is a stable merge sort that does not allocate
+   * storage on the heap proportional to the size of this list: runs of the
+   * list are sorted in a small on-heap buffer, and are then merged with the
+   * aid of temporary off-heap storage of the same size as this list.
+   */
+  @Override
+  public void sort(final <X>Comparator c) {
+    root.assertWritable();
+    updateState(0, 0);
+    final int from = fromIndex;
+    final int length = (toIndex > -1 ? toIndex : size) - from;
+    if (length < 2)
+      return;
+
+    final <x>[] run = new <x>[Math.min(length, CHUNK_SIZE)];
+    for (int i = 0; i < length; i += run.length) {
+      final int n = Math.min(run.length, length - i);
+      read(valueData, from + i, run, 0, n);
+      ArrayUtil.sort(run, 0, n, c);
+      write(valueData, from + i, run, 0, n);
+    }
+
+    if (length <= run.length)
+      return;
+
+    final <X>Comparator comparator = c != null ? c : <X>Comparator.NATURAL;
+    try (final Direct<X>List scratch = new Direct<X>List(length)) {
+      <X>Buffer[] src = valueData;
+      <X>Buffer[] dest = scratch.valueData;
+      int srcFrom = from;
+      int destFrom = 0;
+      for (int width = run.length; width < length; width <<= 1) {
+        for (int lo = 0; lo < length; lo += width << 1) {
+          final int mid = Math.min(lo + width, length);
+          final int hi = Math.min(mid + width, length);
+          merge(src, srcFrom, dest, destFrom, lo, mid, hi, comparator);
+        }
+
+        final <X>Buffer[] tmp = src;
+        src = dest;
+        dest = tmp;
+        final int tmpFrom = srcFrom;
+        srcFrom = destFrom;
+        destFrom = tmpFrom;
+      }
+
+      if (src != valueData)
+        copy(src, srcFrom, valueData, from, length);
+    }
+  }
+
+  /**
+   * Merges the sorted ranges {@code [lo, mid)} and {@code [mid, hi)} of
+   * {@code src} (relative to {@code srcFrom}) into the range
+   * {@code [lo, hi)} of {@code dest} (relative to {@code destFrom}).
+   */
+  private static void merge(final <X>Buffer[] src, final int srcFrom, final <X>Buffer[] dest, final int destFrom, final int lo, final int mid, final int hi, final <X>Comparator c) {
+    if (mid == hi || c.compare(get(src, srcFrom + mid - 1), get(src, srcFrom + mid)) <= 0) {
+      copy(src, srcFrom + lo, dest, destFrom + lo, hi - lo);
+      return;
+    }
+
+    int i = srcFrom + lo;
+    int j = srcFrom + mid;
+    final int iEnd = srcFrom + mid;
+    final int jEnd = srcFrom + hi;
+    int k = destFrom + lo;
+    <x> a = get(src, i);
+    <x> b = get(src, j);
+    while (true) {
+      if (c.compare(a, b) <= 0) {
+        put(dest, k++, a);
+        if (++i == iEnd) {
+          copy(src, j, dest, k, jEnd - j);
+          return;
+        }
+
+        a = get(src, i);
+      }
+      else {
+        put(dest, k++, b);
+        if (++j == jEnd) {
+          copy(src, i, dest, k, iEnd - i);
+          return;
+        }
+
+        b = get(src, j);
+      }
+    }
+  }
+
+  private class <X>Itr implements <X>Iterator {
+    int cursor = Direct<X>List.this.fromIndex;
+    int lastRet = -1;
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor != (toIndex > -1 ? toIndex : size);
+    }
+
+    @Override
+    public <x> next() {
+      checkForComodification();
+      final int i = cursor;
+      if (i >= (toIndex > -1 ? toIndex : size))
+        throw new NoSuchElementException();
+
+      if (i >= capacity())
+        throw new ConcurrentModificationException();
+
+      cursor = i + 1;
+      return get(valueData, lastRet = i);
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      try {
+        Direct<X>List.this.removeIndex(lastRet - fromIndex);
+        cursor = lastRet;
+        lastRet = -1;
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void forEachRemaining(final <X>Consumer action) {
+      Objects.requireNonNull(action);
+      int i = cursor;
+      if (i >= (toIndex > -1 ? toIndex : size))
+        return;
+
+      if (i >= capacity())
+        throw new ConcurrentModificationException();
+
+      for (; i < (toIndex > -1 ? toIndex : size) && modCount == expectedModCount; ++i)
+        action.accept(get(valueData, i));
+
+      cursor = i;
+      lastRet = i - 1;
+      checkForComodification();
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+  private class <X>ListItr extends <X>Itr implements <X>ListIterator {
+    <X>ListItr(final int index) {
+      cursor = index + fromIndex;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return cursor != fromIndex;
+    }
+
+    @Override
+    public int nextIndex() {
+      return cursor - fromIndex;
+    }
+
+    @Override
+    public int previousIndex() {
+      return cursor - fromIndex - 1;
+    }
+
+    @Override
+    public <x> previous() {
+      checkForComodification();
+      final int i = cursor - 1;
+      if (i < fromIndex)
+        throw new NoSuchElementException();
+
+      if (i >= capacity())
+        throw new ConcurrentModificationException();
+
+      cursor = i;
+      return get(valueData, lastRet = i);
+    }
+
+    @Override
+    public void set(final <x> value) {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      try {
+        Direct<X>List.this.set(lastRet - fromIndex, value);
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void add(final <x> value) {
+      checkForComodification();
+      try {
+        final int i = cursor;
+        Direct<X>List.this.add(i - fromIndex, value);
+        cursor = i + 1;
+        lastRet = -1;
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      try {
+        Direct<X>List.this.removeIndex(lastRet - fromIndex);
+        cursor = lastRet;
+        lastRet = -1;
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public <X>Iterator iterator() {
+    return new <X>Itr();
+  }
+
+  @Override
+  public <X>ListIterator listIterator(final int index) {
+    Assertions.assertRange("index", index, "size()", size(), true);
+    return new <X>ListItr(index);
+  }
+
+  @Override
+  public Direct<X>List subList(final int fromIndex, final int toIndex) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "size()", size());
+    if (this.toIndex < 0)
+      this.toIndex = size;
+
+    return new Direct<X>List(this, fromIndex + this.fromIndex, toIndex + this.fromIndex);
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    if (a.length < size())
+      a = new <x>[size()];
+
+    read(valueData, fromIndex, a, 0, size());
+    if (a.length > size())
+      a[size()] = 0;
+
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    if (a.length < size())
+      a = new <XX>[size()];
+
+    final int len = toIndex > -1 ? toIndex : size;
+    for (int i = fromIndex; i < len; ++i)
+      a[i - fromIndex] = get(valueData, i);
+
+    if (a.length > size())
+      a[size()] = null;
+
+    return a;
+  }
+
+  @Override
+  public void clear() {
+    root.assertWritable();
+    final int length = size();
+    if (toIndex > -1)
+      shiftLeft(fromIndex, length);
+
+    updateState(fromIndex, -length);
+  }
+
+  /**
+   * Trims the capacity of this {@link Direct<X>List} instance to be the list's
+   * current size, releasing the storage that is no longer needed.
+   */
+  public void trimToSize() {
+    final int capacity = capacity();
+    if (size == capacity)
+      return;
+
+    final ByteBuffer[] oldPages = root.pages;
+    final int count = pageCount(size);
+    final ByteBuffer[] pages = count == 0 ? EMPTY_PAGES : Arrays.copyOf(oldPages, count);
+    if (count > 0) {
+      final int last = count - 1;
+      final int lastCapacity = pageCapacity(last, size);
+      if (lastCapacity != pageCapacity(last, capacity))
+        pages[last] = root.reallocatePage(last, oldPages[last], lastCapacity, lastCapacity);
+    }
+
+    setPages(pages);
+    for (int i = count; i < oldPages.length; ++i)
+      root.freePage(i, oldPages[i]);
+  }
+
+  /**
+   * Increases the capacity of this {@link Direct<X>List} instance, if
+   * necessary, to ensure that it can hold at least the number of values
+   * specified by the minimum capacity argument.
+   *
+   * @param minCapacity The desired minimum capacity.
+   */
+  public void ensureCapacity(final int minCapacity) {
+    final int capacity = capacity();
+    if (minCapacity <= capacity)
+      return;
+
+    // Grow by half while within the first page, and by whole pages thereafter
+    final int newCapacity;
+    if (minCapacity <= PAGE_SIZE)
+      newCapacity = Math.min(Math.max(capacity * 3 / 2 + 1, minCapacity), PAGE_SIZE);
+    else
+      newCapacity = (int)Math.min(Integer.MAX_VALUE, (long)pageCount(minCapacity) << PAGE_SHIFT);
+
+    final ByteBuffer[] oldPages = root.pages;
+    final int count = pageCount(newCapacity);
+    final ByteBuffer[] pages = Arrays.copyOf(oldPages, count);
+    final int last = oldPages.length - 1;
+    if (last > -1) {
+      final int lastCapacity = pageCapacity(last, newCapacity);
+      if (lastCapacity != pageCapacity(last, capacity))
+        pages[last] = root.reallocatePage(last, oldPages[last], Math.max(0, Math.min(size - (last << PAGE_SHIFT), pageCapacity(last, capacity))), lastCapacity);
+    }
+
+    for (int i = oldPages.length; i < count; ++i)
+      pages[i] = root.allocatePage(i, pageCapacity(i, newCapacity));
+
+    setPages(pages);
+  }
+
+  /**
+   * Releases the storage of this list, and of all lists in its sub-list graph.
+   * The list is empty after this method returns, and the memory previously
+   * referenced by it is returned to the operating system without waiting for
+   * garbage collection. Closing a list that is already closed has no effect.
+   */
+  @Override
+  public void close() {
+    if (root != this) {
+      root.close();
+      return;
+    }
+
+    final ByteBuffer[] pages = this.pages;
+    if (pages.length == 0)
+      return;
+
+    this.pages = EMPTY_PAGES;
+    valueData = EMPTY_VALUEDATA;
+    updateState(0, -size);
+    for (int i = 0; i < pages.length; ++i)
+      freePage(i, pages[i]);
+  }
+
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    return new <X>Spliterator(fromIndex, toIndex > -1 ? toIndex : size);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
+<_>  }
+<_>
+<_>  private final class <X>Spliterator implements Spliterator.Of<X> {
+<_>    private int index;
+<_>    private final int fence;
+<_>    private final int expectedModCount = modCount;
+<_>
+<_>    private <X>Spliterator(final int index, final int fence) {
+<_>      this.index = index;
+<_>      this.fence = fence;
+<_>    }
+<_>
+<_>    @Override
+<_>    public Spliterator.Of<X> trySplit() {
+<_>      final int lo = index;
+<_>      final int mid = (lo + fence) >>> 1;
+<_>      return lo >= mid ? null : new <X>Spliterator(lo, index = mid);
+<_>    }
+<_>
+<_>    @Override
+<_>    public boolean tryAdvance(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      if (index >= fence)
+<_>        return false;
+<_>
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>
+<_>      action.accept(get(valueData, index++));
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>
+<_>      return true;
+<_>    }
+<_>
+<_>    @Override
+<_>    public void forEachRemaining(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      // The pages of this list are freed as soon as they are replaced, so the
+<_>      // modCount is to be checked before every read of the value data
+<_>      for (; index < fence; ++index) {
+<_>        if (modCount != expectedModCount)
+<_>          throw new ConcurrentModificationException();
+<_>
+<_>        action.accept(get(valueData, index));
+<_>      }
+<_>
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>    }
+<_>
+<_>    @Override
+<_>    public long estimateSize() {
+<_>      return fence - index;
+<_>    }
+<_>
+<_>    @Override
+<_>    public int characteristics() {
+<_>      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+<_>    }
+<_>  }
+
+  /**
+   * Creates and returns a copy of this list, containing the same value data in
+   * this list. The copy is a {@link Direct<X>List} backed by newly allocated
+   * off-heap storage, meaning that changes made to the copy will not be
+   * reflected in this list, and vice-versa. If this list has sub-lists, or is
+   * itself a sub-list of another list, neither the parent nor the children or
+   * siblings will be cloned.
+   *
+   * @return A copy of this list.
+   */
+  @Override
+  public Direct<X>List clone() {
+    final int size = size();
+    final Direct<X>List clone = new Direct<X>List(size);
+    copy(valueData, fromIndex, clone.valueData, 0, size);
+    clone.size = size;
+    return clone;
+  }
+
+  /**
+   * Returns the hash code value for this list.
+   *
+   * @return The hash code value for this list.
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    final int len = toIndex > -1 ? toIndex : size;
+    for (int i = fromIndex; i < len; ++i)
+      hashCode = 31 * hashCode + <XX>.hashCode(get(valueData, i));
+
+    return hashCode;
+  }
+
+  /**
+   * Compares the specified object with this list for equality. Returns
+   * {@code true} if and only if the specified object is also a
+   * {@link Direct<X>List}, both lists have the same size, and all
+   * corresponding pairs of values in the two lists are <i>equal</i>. In other
+   * words, two lists are defined to be equal if they contain the same values in
+   * the same order.
+   */
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Direct<X>List))
+      return false;
+
+    final Direct<X>List that = (Direct<X>List)obj;
+    final int size = size();
+    if (size != that.size())
+      return false;
+
+    for (int i = 0; i < size; ++i)
+      if (get(valueData, fromIndex + i) != get(that.valueData, that.fromIndex + i))
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Returns a string representation of this list. The string representation
+   * consists of a list of the list's values in the order they are stored in the
+   * underlying storage, enclosed in square brackets ({@code "[]"}). Adjacent
+   * values are separated by the characters {@code ", "} (comma and space).
+   * Values are converted to strings as by {@link String#valueOf(Object)}.
+   *
+   * @return A string representation of this list.
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    final int len = toIndex > -1 ? toIndex : size;
+    for (int i = fromIndex; i < len; ++i) {
+      if (i > fromIndex)
+        builder.append(", ");
+
+      builder.append(get(valueData, i));
+    }
+
+    return builder.append(']').toString();
+  }
+
+  /**
+   * Replaces this list with a {@link SerializationProxy} during serialization,
+   * because the off-heap storage of this list is not itself serializable.
+   *
+   * @return A {@link SerializationProxy} for this list.
+   */
+  protected Object writeReplace() {
+    return new SerializationProxy(toArray(new <x>[size()]));
+  }
+
+  private static final class SerializationProxy implements Serializable {
+    private static final long serialVersionUID = <serialVersionUID>;
+
+    private final <x>[] values;
+
+    private SerializationProxy(final <x>[] values) {
+      this.values = values;
+    }
+
+    private Object readResolve() {
+      return new Direct<X>List(values);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,246 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Objects;
+
+import org.libj.lang.Assertions;
+
+/**
+ * An immutable search index over a sorted array of {@code <x>} values, which
+ * answers {@link org.libj.util.ArrayUtil#binaryClosestSearch(<x>[],<x>)}-style
+ * queries faster than a binary search of the sorted array itself.
+ * <p>
+ * The values are copied into an array in Eytzinger (breadth-first) order, such
+ * that the children of the node at index {@code k} are at indexes {@code 2k}
+ * and {@code 2k + 1}. A search descends the implicit tree without branching on
+ * the result of each comparison, and the first levels of the tree, which are
+ * visited by every search, share a small number of cache lines. The batch
+ * search methods descend the tree for several keys in lockstep, such that the
+ * memory accesses of independent searches overlap.
+ * <p>
+ * For a key that matches a value of the array, the returned index is that of
+ * the first matching value. For a key that does not match, the returned index
+ * is that at which the key would be inserted into the array (i.e. the index of
+ * the first greater value, or {@code toIndex} if there is none). For arrays of
+ * distinct values, the returned indexes are thus equal to those returned by
+ * {@link org.libj.util.ArrayUtil#binaryClosestSearch(<x>[],int,int,<x>,<X>Comparator)}.
+ * <p>
+ * The index does not reference the array from which it is built, and does not
+ * reflect subsequent modifications of it.
+ */
+public class Eytzinger<X>Index {
+  /** The number of keys searched in lockstep by the batch search methods. */
+  private static final int LANES = 4;
+
+  private final <x>[] tree;
+  private final int[] index;
+  private final int size;
+  private final int fullLevels;
+  private final int toIndex;
+  private final <X>Comparator c;
+
+  /**
+   * Creates a new {@link Eytzinger<X>Index} of the specified array, which must
+   * be sorted in ascending natural order.
+   *
+   * @param a The sorted array.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public Eytzinger<X>Index(final <x>[] a) {
+    this(a, 0, a.length, <X>Comparator.NATURAL);
+  }
+
+  /**
+   * Creates a new {@link Eytzinger<X>Index} of the specified range of the
+   * specified array, which must be sorted in ascending natural order.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The index of the first element, inclusive, to be indexed.
+   * @param toIndex The index of the last element, exclusive, to be indexed.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public Eytzinger<X>Index(final <x>[] a, final int fromIndex, final int toIndex) {
+    this(a, fromIndex, toIndex, <X>Comparator.NATURAL);
+  }
+
+  /**
+   * Creates a new {@link Eytzinger<X>Index} of the specified range of the
+   * specified array, which must be sorted according to the specified
+   * comparator.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The index of the first element, inclusive, to be indexed.
+   * @param toIndex The index of the last element, exclusive, to be indexed.
+   * @param c The comparator by which the array is sorted.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  public Eytzinger<X>Index(final <x>[] a, final int fromIndex, final int toIndex, final <X>Comparator c) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    this.c = Objects.requireNonNull(c);
+    this.size = toIndex - fromIndex;
+    this.toIndex = toIndex;
+    this.tree = new <x>[size + 1];
+    this.index = new int[size + 1];
+    this.fullLevels = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(size + 1);
+    build(a, fromIndex, 1);
+  }
+
+  /**
+   * Fills the subtree rooted at node {@code k} with the values of the sorted
+   * array in order, starting at index {@code i}.
+   *
+   * @param a The sorted array.
+   * @param i The index of the next value of the sorted array.
+   * @param k The node of the subtree.
+   * @return The index of the next value of the sorted array.
+   */
+  private int build(final <x>[] a, int i, final int k) {
+    if (k <= size) {
+      i = build(a, i, k << 1);
+      tree[k] = a[i];
+      index[k] = i++;
+      i = build(a, i, (k << 1) + 1);
+    }
+
+    return i;
+  }
+
+  /**
+   * Returns the index in the sorted array for the node at which a descent
+   * ended.
+   *
+   * @param k The node at which the descent ended.
+   * @return The index in the sorted array for the node at which a descent
+   *         ended.
+   */
+  private int resolve(int k) {
+    // Undo the right turns after the last left turn, as well as the last left turn itself
+    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+    return k == 0 ? toIndex : index[k];
+  }
+
+  /**
+   * Returns the number of values in this index.
+   *
+   * @return The number of values in this index.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Find the index of the sorted array whose value most closely matches the
+   * value provided. The returned index will be less than or equal to an exact
+   * match.
+   *
+   * @param key The value to match.
+   * @return The closest index of the sorted array matching the desired value.
+   *         The returned index will be less than or equal to an exact match.
+   */
+  public int binaryClosestSearch(final <x> key) {
+    final <x>[] tree = this.tree;
+    final int size = this.size;
+    int k = 1;
+    while (k <= size)
+      k = (k << 1) | (c.compare(tree[k], key) >>> 31);
+
+    return resolve(k);
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match the
+   * values provided, as per {@link #binaryClosestSearch(<x>)}.
+   *
+   * @param keys The values to match.
+   * @param results The array into which the index for each key is written.
+   * @throws NullPointerException If {@code keys} or {@code results} is null.
+   * @throws IllegalArgumentException If {@code results.length < keys.length}.
+   */
+  public void binaryClosestSearch(final <x>[] keys, final int[] results) {
+    binaryClosestSearch(keys, 0, keys.length, results, 0);
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match the
+   * specified range of values provided, as per
+   * {@link #binaryClosestSearch(<x>)}.
+   *
+   * @param keys The values to match.
+   * @param fromIndex The index of the first key, inclusive, to match.
+   * @param toIndex The index of the last key, exclusive, to match.
+   * @param results The array into which the index for each key is written.
+   * @param offset The index in {@code results} at which to write the index for
+   *          the key at {@code fromIndex}.
+   * @throws ArrayIndexOutOfBoundsException If
+   *           {@code fromIndex < 0 or toIndex > keys.length}.
+   * @throws NullPointerException If {@code keys} or {@code results} is null.
+   * @throws IllegalArgumentException If {@code results} does not have room for
+   *           {@code toIndex - fromIndex} indexes at {@code offset}.
+   */
+  public void binaryClosestSearch(final <x>[] keys, final int fromIndex, final int toIndex, final int[] results, final int offset) {
+    Assertions.assertRangeArray(fromIndex, toIndex, keys.length);
+    if (offset < 0 || results.length - offset < toIndex - fromIndex)
+      throw new IllegalArgumentException("results.length [" + results.length + "] does not have room for " + (toIndex - fromIndex) + " results at offset [" + offset + "]");
+
+    final <x>[] tree = this.tree;
+    final int size = this.size;
+    final int levels = fullLevels;
+    int i = fromIndex;
+    for (int j = offset; i + LANES <= toIndex; i += LANES, j += LANES) {
+      final <x> key0 = keys[i];
+      final <x> key1 = keys[i + 1];
+      final <x> key2 = keys[i + 2];
+      final <x> key3 = keys[i + 3];
+      int k0 = 1;
+      int k1 = 1;
+      int k2 = 1;
+      int k3 = 1;
+      // All nodes of the full levels exist, so the descents proceed in lockstep
+      for (int l = 0; l < levels; ++l) {
+        k0 = (k0 << 1) | (c.compare(tree[k0], key0) >>> 31);
+        k1 = (k1 << 1) | (c.compare(tree[k1], key1) >>> 31);
+        k2 = (k2 << 1) | (c.compare(tree[k2], key2) >>> 31);
+        k3 = (k3 << 1) | (c.compare(tree[k3], key3) >>> 31);
+      }
+
+      if (k0 <= size)
+        k0 = (k0 << 1) | (c.compare(tree[k0], key0) >>> 31);
+
+      if (k1 <= size)
+        k1 = (k1 << 1) | (c.compare(tree[k1], key1) >>> 31);
+
+      if (k2 <= size)
+        k2 = (k2 << 1) | (c.compare(tree[k2], key2) >>> 31);
+
+      if (k3 <= size)
+        k3 = (k3 << 1) | (c.compare(tree[k3], key3) >>> 31);
+
+      results[j] = resolve(k0);
+      results[j + 1] = resolve(k1);
+      results[j + 2] = resolve(k2);
+      results[j + 3] = resolve(k3);
+    }
+
+    for (int j = offset + i - fromIndex; i < toIndex; ++i, ++j)
+      results[j] = binaryClosestSearch(keys[i]);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,592 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An {@link <X><Y>Map} implementing
+ * <a href="https://en.wikipedia.org/wiki/Open_addressing">open-addressing
+ * (closed hashing) with linear-probing for collision resolution</a> algorithm,
+ * with allocation-free operation in steady state when expanded.
+ * <p>
+ * Keys and values are stored in parallel {@code <x>[]} and {@code <y>[]}
+ * arrays, and no boxing is performed on {@code get}, {@code put}, or
+ * iteration via {@link #keySet()}, {@link #values()}, or
+ * {@link #forEach(EntryConsumer)}.
+ * <p>
+ * This class replicates the API of the {@link java.util.HashMap} class by
+ * defining synonymous methods for a map of {@code <x>} keys to {@code <y>}
+ * values instead of Object references.
+ */
+public class Hash<X><Y>Map implements <X><Y>Map {
+  private static final long serialVersionUID = <serialVersionUID>;
+
+  /**
+   * The load factor used when none specified in constructor.
+   */
+  static final float DEFAULT_LOAD_FACTOR = 0.55f;
+
+  /**
+   * Value that represents null in {@link #keyData}.
+   */
+  static final <x> NULL = 0;
+
+  /**
+   * Value of the slots in {@link #valueData} that hold no mapping.
+   */
+  private static final <y> NO_VALUE = 0;
+
+  private final float loadFactor;
+  private int resizeThreshold;
+
+  /**
+   * Whether this map contains a mapping for the key representing
+   * {@link #NULL}, and the value of that mapping.
+   */
+  private boolean containsNull;
+  private <y> nullValue;
+
+  private <x>[] keyData;
+  private <y>[] valueData;
+  private int size;
+  private transient int modCount;
+
+  private transient <X>Set keySet;
+  private transient <Y>Collection values;
+
+  /**
+   * Creates an empty {@link Hash<X><Y>Map} with the default initial capacity
+   * (16) and the default load factor (0.55).
+   */
+  public Hash<X><Y>Map() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty {@link Hash<X><Y>Map} with the specified initial capacity
+   * and load factor.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param loadFactor The load factor.
+   * @throws IllegalArgumentException If the initial capacity is negative or the
+   *           load factor less than {@code .1} or greater than {@code .9}.
+   */
+  public Hash<X><Y>Map(final int initialCapacity, final float loadFactor) {
+    if (loadFactor < .1f || Float.isNaN(loadFactor) || .9f < loadFactor)
+      throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+
+    this.loadFactor = loadFactor;
+    this.size = 0;
+
+    final int capacity = HashPrimitiveSet.findNextPositivePowerOfTwo(initialCapacity);
+    this.resizeThreshold = (int)(capacity * loadFactor);
+    this.keyData = new <x>[capacity];
+    this.valueData = new <y>[capacity];
+  }
+
+  /**
+   * Creates an empty {@link Hash<X><Y>Map} with the specified initial capacity
+   * and the default load factor (0.55).
+   *
+   * @param initialCapacity The initial capacity.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public Hash<X><Y>Map(final int initialCapacity) {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a new {@link Hash<X><Y>Map} with the same mappings as the
+   * specified map. The {@link Hash<X><Y>Map} is created with default load
+   * factor (0.55) and an initial capacity sufficient to hold the mappings in
+   * the specified map.
+   *
+   * @param m The map whose mappings are to be placed in this map.
+   * @throws NullPointerException If the specified map is null.
+   */
+  public Hash<X><Y>Map(final <X><Y>Map m) {
+    this(m.size());
+    putAll(m);
+  }
+
+  /**
+   * Returns the index in {@link #keyData} of the specified key, or {@code -1}
+   * if the key is not present.
+   *
+   * @param key The key, which must not be {@link #NULL}.
+   * @return The index in {@link #keyData} of the specified key, or {@code -1}
+   *         if the key is not present.
+   */
+  private int indexOf(final <x> key) {
+    final <x>[] keyData = this.keyData;
+    final int mask = keyData.length - 1;
+    for (int index = HashPrimitiveSet.hash(key, mask); keyData[index] != NULL; index = HashPrimitiveSet.nextIndex(index, mask))
+      if (keyData[index] == key)
+        return index;
+
+    return -1;
+  }
+
+  @Override
+  public boolean containsKey(final <x> key) {
+    return key == NULL ? containsNull : indexOf(key) != -1;
+  }
+
+  @Override
+  public boolean containsValue(final <y> value) {
+    if (containsNull && nullValue == value)
+      return true;
+
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    for (int i = 0; i < keyData.length; ++i)
+      if (keyData[i] != NULL && valueData[i] == value)
+        return true;
+
+    return false;
+  }
+
+  @Override
+  public <y> getOrDefault(final <x> key, final <y> defaultValue) {
+    if (key == NULL)
+      return containsNull ? nullValue : defaultValue;
+
+    final int index = indexOf(key);
+    return index == -1 ? defaultValue : valueData[index];
+  }
+
+  @Override
+  public <y> put(final <x> key, final <y> value) {
+    if (key == NULL) {
+      final <y> oldValue = nullValue;
+      nullValue = value;
+      if (containsNull)
+        return oldValue;
+
+      ++modCount;
+      containsNull = true;
+      return 0;
+    }
+
+    final int mask = keyData.length - 1;
+    int index = HashPrimitiveSet.hash(key, mask);
+    for (; keyData[index] != NULL; index = HashPrimitiveSet.nextIndex(index, mask)) {
+      if (keyData[index] == key) {
+        final <y> oldValue = valueData[index];
+        valueData[index] = value;
+        return oldValue;
+      }
+    }
+
+    ++modCount;
+    keyData[index] = key;
+    valueData[index] = value;
+    if (++size > resizeThreshold)
+      rehash(keyData.length * 2);
+
+    return 0;
+  }
+
+  /**
+   * Copies all of the mappings from the specified map to this map.
+   *
+   * @param m Mappings to be stored in this map.
+   * @throws NullPointerException If the specified map is null.
+   * @see #putAll(<X><Y>Map)
+   * @see #put(<x>,<y>)
+   */
+  public void putAll(final Hash<X><Y>Map m) {
+    final <x>[] keyData = m.keyData;
+    final <y>[] valueData = m.valueData;
+    for (int i = 0; i < keyData.length; ++i)
+      if (keyData[i] != NULL)
+        put(keyData[i], valueData[i]);
+
+    if (m.containsNull)
+      put(NULL, m.nullValue);
+  }
+
+  @Override
+  public <y> remove(final <x> key) {
+    if (key == NULL) {
+      if (!containsNull)
+        return 0;
+
+      ++modCount;
+      final <y> oldValue = nullValue;
+      containsNull = false;
+      nullValue = 0;
+      return oldValue;
+    }
+
+    final int index = indexOf(key);
+    if (index == -1)
+      return 0;
+
+    final <y> oldValue = valueData[index];
+    removeIndex(index);
+    return oldValue;
+  }
+
+  private void removeIndex(final int index) {
+    ++modCount;
+    keyData[index] = NULL;
+    valueData[index] = 0;
+    compactChain(index);
+    --size;
+  }
+
+  @Override
+  public void clear() {
+    if (size() > 0) {
+      ++modCount;
+      Arrays.fill(keyData, NULL);
+      Arrays.fill(valueData, NO_VALUE);
+      containsNull = false;
+      nullValue = 0;
+      size = 0;
+    }
+  }
+
+  @Override
+  public int size() {
+    return containsNull ? size + 1 : size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public void forEach(final EntryConsumer action) {
+    Objects.requireNonNull(action);
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    for (int i = 0; i < keyData.length; ++i)
+      if (keyData[i] != NULL)
+        action.accept(keyData[i], valueData[i]);
+
+    if (containsNull)
+      action.accept(NULL, nullValue);
+  }
+
+  @Override
+  public <X>Set keySet() {
+    return keySet == null ? keySet = new KeySet() : keySet;
+  }
+
+  @Override
+  public <Y>Collection values() {
+    return values == null ? values = new Values() : values;
+  }
+
+  private final class KeySet extends Abstract<X>Collection implements <X>Set {
+    private static final long serialVersionUID = <serialVersionUID>;
+
+    @Override
+    public <X>Iterator iterator() {
+      return new KeyItr();
+    }
+
+    @Override
+    public int size() {
+      return Hash<X><Y>Map.this.size();
+    }
+
+    @Override
+    public boolean contains(final <x> value) {
+      return containsKey(value);
+    }
+
+    @Override
+    public boolean remove(final <x> value) {
+      if (!containsKey(value))
+        return false;
+
+      Hash<X><Y>Map.this.remove(value);
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      Hash<X><Y>Map.this.clear();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this)
+        return true;
+
+      if (!(obj instanceof <X>Set))
+        return false;
+
+      final <X>Set that = (<X>Set)obj;
+      return size() == that.size() && containsAll(that);
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 0;
+      for (final <X>Iterator i = iterator(); i.hasNext(); hashCode += <XX>.hashCode(i.next()));
+      return hashCode;
+    }
+  }
+
+  private final class Values extends Abstract<Y>Collection {
+    private static final long serialVersionUID = <serialVersionUID>;
+
+    @Override
+    public <Y>Iterator iterator() {
+      return new ValueItr();
+    }
+
+    @Override
+    public int size() {
+      return Hash<X><Y>Map.this.size();
+    }
+
+    @Override
+    public boolean contains(final <y> value) {
+      return containsValue(value);
+    }
+
+    @Override
+    public void clear() {
+      Hash<X><Y>Map.this.clear();
+    }
+  }
+
+  private abstract class Itr {
+    private int remaining;
+    private int positionCounter;
+    private int stopCounter;
+    private boolean isPositionValid = false;
+    private boolean isNullPosition = false;
+    private int expectedModCount = modCount;
+
+    Itr() {
+      final <x>[] keyData = Hash<X><Y>Map.this.keyData;
+      final int length = keyData.length;
+      int i = length;
+      if (keyData[length - 1] != NULL)
+        for (i = 0; i < length; ++i)
+          if (keyData[i] == NULL)
+            break;
+
+      this.remaining = size();
+      this.stopCounter = i;
+      this.positionCounter = i + length;
+    }
+
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    /**
+     * Advances this iterator, and returns the index in {@link #keyData} of the
+     * next mapping, or {@code -1} if the next mapping is that of the key
+     * representing {@link #NULL}.
+     *
+     * @return The index in {@link #keyData} of the next mapping, or {@code -1}
+     *         if the next mapping is that of the key representing
+     *         {@link #NULL}.
+     * @throws NoSuchElementException If the iteration has no more mappings.
+     */
+    final int nextPosition() {
+      checkForComodification();
+      if (remaining == 1 && containsNull) {
+        remaining = 0;
+        isPositionValid = true;
+        isNullPosition = true;
+        return -1;
+      }
+
+      final <x>[] keyData = Hash<X><Y>Map.this.keyData;
+      final int mask = keyData.length - 1;
+      isPositionValid = true;
+      for (int i = positionCounter - 1; i >= stopCounter; --i) {
+        final int index = i & mask;
+        if (keyData[index] != NULL) {
+          positionCounter = i;
+          --remaining;
+          return index;
+        }
+      }
+
+      isPositionValid = false;
+      throw new NoSuchElementException();
+    }
+
+    public void remove() {
+      if (!isPositionValid)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      if (isNullPosition) {
+        Hash<X><Y>Map.this.remove(NULL);
+        isNullPosition = false;
+      }
+      else {
+        removeIndex(positionCounter & (keyData.length - 1));
+      }
+
+      expectedModCount = modCount;
+      isPositionValid = false;
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+  private final class KeyItr extends Itr implements <X>Iterator {
+    @Override
+    public <x> next() {
+      final int index = nextPosition();
+      return index == -1 ? NULL : keyData[index];
+    }
+  }
+
+  private final class ValueItr extends Itr implements <Y>Iterator {
+    @Override
+    public <y> next() {
+      final int index = nextPosition();
+      return index == -1 ? nullValue : valueData[index];
+    }
+  }
+
+  private void compactChain(int deleteIndex) {
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    final int mask = keyData.length - 1;
+    int index = deleteIndex;
+    while (true) {
+      index = HashPrimitiveSet.nextIndex(index, mask);
+      if (keyData[index] == NULL)
+        return;
+
+      final int hash = HashPrimitiveSet.hash(keyData[index], mask);
+      if (index < hash && (hash <= deleteIndex || deleteIndex <= index) || hash <= deleteIndex && deleteIndex <= index) {
+        keyData[deleteIndex] = keyData[index];
+        valueData[deleteIndex] = valueData[index];
+        keyData[index] = NULL;
+        valueData[index] = 0;
+        deleteIndex = index;
+      }
+    }
+  }
+
+  private void rehash(final int newCapacity) {
+    ++modCount;
+    final int mask = newCapacity - 1;
+    this.resizeThreshold = (int)(newCapacity * loadFactor);
+    final <x>[] keyData = new <x>[newCapacity];
+    final <y>[] valueData = new <y>[newCapacity];
+    for (int i = 0; i < this.keyData.length; ++i) {
+      final <x> key = this.keyData[i];
+      if (key != NULL) {
+        int newHash = HashPrimitiveSet.hash(key, mask);
+        for (; keyData[newHash] != NULL; newHash = ++newHash & mask);
+        keyData[newHash] = key;
+        valueData[newHash] = this.valueData[i];
+      }
+    }
+
+    this.keyData = keyData;
+    this.valueData = valueData;
+  }
+
+  /**
+   * Compact the backing arrays by rehashing with a capacity just larger than
+   * current size and giving consideration to the load factor.
+   */
+  public void compact() {
+    final int idealCapacity = (int)Math.round(size() * (1.0 / loadFactor));
+    rehash(HashPrimitiveSet.findNextPositivePowerOfTwo(idealCapacity));
+  }
+
+  @Override
+  public Hash<X><Y>Map clone() {
+    try {
+      final Hash<X><Y>Map clone = (Hash<X><Y>Map)super.clone();
+      clone.keyData = keyData.clone();
+      clone.valueData = valueData.clone();
+      clone.keySet = null;
+      clone.values = null;
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof <X><Y>Map))
+      return false;
+
+    final <X><Y>Map that = (<X><Y>Map)obj;
+    if (size() != that.size())
+      return false;
+
+    if (containsNull && (!that.containsKey(NULL) || that.get(NULL) != nullValue))
+      return false;
+
+    for (int i = 0; i < keyData.length; ++i)
+      if (keyData[i] != NULL && (!that.containsKey(keyData[i]) || that.get(keyData[i]) != valueData[i]))
+        return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = containsNull ? <XX>.hashCode(NULL) ^ <YY>.hashCode(nullValue) : 0;
+    for (int i = 0; i < keyData.length; ++i)
+      if (keyData[i] != NULL)
+        hashCode += <XX>.hashCode(keyData[i]) ^ <YY>.hashCode(valueData[i]);
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('{');
+    for (int i = 0; i < keyData.length; ++i)
+      if (keyData[i] != NULL)
+        builder.append(keyData[i]).append('=').append(valueData[i]).append(", ");
+
+    if (containsNull)
+      builder.append(NULL).append('=').append(nullValue).append(", ");
+
+    if (builder.length() > 1)
+      builder.setLength(builder.length() - 2);
+
+    builder.append('}');
+    return builder.toString();
+  }
+}
\ No newline at end of file
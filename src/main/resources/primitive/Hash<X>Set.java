@@ -29,6 +29,15 @@ import java.util.NoSuchElementException;
  * (closed hashing) with linear-probing for collision resolution</a> algorithm,
  * with allocation-free operation in steady state when expanded.
  * <p>
+ * Optionally, the set can be created in
+ * <a href="https://en.wikipedia.org/wiki/Hashing#Robin_Hood_hashing">Robin
+ * Hood</a> mode (see {@link #Hash<X>Set(int,float,boolean)}), whereby a value
+ * being inserted displaces a resident value that is closer to its home slot.
+ * This bounds the variance of probe lengths at high load factors, and allows
+ * unsuccessful lookups to terminate early. The probe lengths of the values in
+ * the set can be inspected with {@link #getMaxProbeLength()} and
+ * {@link #getMeanProbeLength()}.
+ * <p>
  * This class replicates the API of the {@link java.util.HashSet} class by
  * defining synonymous methods for a set of {@code <x>} values instead of
  * Object references.
@@ -47,6 +56,7 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
   static final <x> NULL = 0;
 
   private final float loadFactor;
+  private final boolean robinHood;
   private int resizeThreshold;
 
   /**
@@ -75,10 +85,26 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
    *           load factor less than {@code .1} or greater than {@code .9}.
    */
   public Hash<X>Set(final int initialCapacity, final float loadFactor) {
+    this(initialCapacity, loadFactor, false);
+  }
+
+  /**
+   * Creates an empty {@link Hash<X>Set} with the specified initial capacity,
+   * load factor, and probing mode.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param loadFactor The load factor.
+   * @param robinHood If {@code true}, collisions are resolved with Robin Hood
+   *          displacement; otherwise, with plain linear-probing.
+   * @throws IllegalArgumentException If the initial capacity is negative or the
+   *           load factor less than {@code .1} or greater than {@code .9}.
+   */
+  public Hash<X>Set(final int initialCapacity, final float loadFactor, final boolean robinHood) {
     if (loadFactor < .1f || Float.isNaN(loadFactor) || .9f < loadFactor)
       throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
 
     this.loadFactor = loadFactor;
+    this.robinHood = robinHood;
     this.size = 0;
 
     final int capacity = findNextPositivePowerOfTwo(initialCapacity);
@@ -136,13 +162,22 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
     }
 
     final int mask = valueData.length - 1;
-    int index = hash(<XX>.hashCode(value), mask);
-    for (; valueData[index] != NULL; index = nextIndex(index, mask))
+    int index = hash(value, mask);
+    int dist = 0;
+    for (; valueData[index] != NULL; index = nextIndex(index, mask), ++dist) {
       if (valueData[index] == value)
         return false;
 
+      if (robinHood && probeDistance(hash(valueData[index], mask), index, mask) < dist)
+        break;
+    }
+
     ++modCount;
-    valueData[index] = value;
+    if (valueData[index] == NULL)
+      valueData[index] = value;
+    else
+      displace(valueData, value, index, dist);
+
     if (++size > resizeThreshold)
       rehash(valueData.length * 2);
 
@@ -203,10 +238,14 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
       return containsNull;
 
     final int mask = valueData.length - 1;
-    for (int index = hash(<XX>.hashCode(value), mask); valueData[index] != NULL; index = nextIndex(index, mask))
+    for (int index = hash(value, mask), dist = 0; valueData[index] != NULL; index = nextIndex(index, mask), ++dist) {
       if (valueData[index] == value)
         return true;
 
+      if (robinHood && probeDistance(hash(valueData[index], mask), index, mask) < dist)
+        return false;
+    }
+
     return false;
   }
 
@@ -246,7 +285,7 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
     }
 
     final int mask = valueData.length - 1;
-    for (int index = hash(<XX>.hashCode(value), mask); valueData[index] != NULL; index = nextIndex(index, mask)) {
+    for (int index = hash(value, mask), dist = 0; valueData[index] != NULL; index = nextIndex(index, mask), ++dist) {
       if (valueData[index] == value) {
         ++modCount;
         valueData[index] = NULL;
@@ -254,6 +293,9 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
         --size;
         return true;
       }
+
+      if (robinHood && probeDistance(hash(valueData[index], mask), index, mask) < dist)
+        return false;
     }
 
     return false;
@@ -496,17 +538,55 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
 <_>    return StreamSupport.<x>Stream(spliterator(), true);
 <_>  }
 
+  /**
+   * Inserts the specified value into the specified array at the specified
+   * index, at which the value is the specified distance from its home slot.
+   * If the index is occupied by a resident value that is closer to its own
+   * home slot, the resident is displaced to the next index, and so on, until
+   * an empty slot is reached.
+   *
+   * @param valueData The array into which the value is to be inserted.
+   * @param value The value to insert.
+   * @param index The index at which to insert the value.
+   * @param dist The distance of {@code index} from the home slot of
+   *          {@code value}.
+   */
+  private static void displace(final <x>[] valueData, <x> value, int index, int dist) {
+    final int mask = valueData.length - 1;
+    for (; valueData[index] != NULL; index = nextIndex(index, mask), ++dist) {
+      final int residentDist = probeDistance(hash(valueData[index], mask), index, mask);
+      if (residentDist < dist) {
+        final <x> resident = valueData[index];
+        valueData[index] = value;
+        value = resident;
+        dist = residentDist;
+      }
+    }
+
+    valueData[index] = value;
+  }
+
   private void compactChain(int deleteIndex) {
     ++modCount;
     final <x>[] values = this.valueData;
     final int mask = values.length - 1;
     int index = deleteIndex;
+    if (robinHood) {
+      // Backward-shift deletion, which preserves the Robin Hood invariant
+      for (index = nextIndex(index, mask); values[index] != NULL && probeDistance(hash(values[index], mask), index, mask) != 0; deleteIndex = index, index = nextIndex(index, mask)) {
+        values[deleteIndex] = values[index];
+        values[index] = NULL;
+      }
+
+      return;
+    }
+
     while (true) {
       index = nextIndex(index, mask);
       if (values[index] == NULL)
         return;
 
-      final int hash = hash(<XX>.hashCode(values[index]), mask);
+      final int hash = hash(values[index], mask);
       if (index < hash && (hash <= deleteIndex || deleteIndex <= index) || hash <= deleteIndex && deleteIndex <= index) {
         values[deleteIndex] = values[index];
         values[index] = NULL;
@@ -522,15 +602,63 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
     final <x>[] valueData = new <x>[newCapacity];
     for (final <x> value : this.valueData) {
       if (value != NULL) {
-        int newHash = hash(<XX>.hashCode(value), mask);
-        for (; valueData[newHash] != NULL; newHash = ++newHash & mask);
-        valueData[newHash] = value;
+        int newHash = hash(value, mask);
+        if (robinHood) {
+          displace(valueData, value, newHash, 0);
+        }
+        else {
+          for (; valueData[newHash] != NULL; newHash = ++newHash & mask);
+          valueData[newHash] = value;
+        }
       }
     }
 
     this.valueData = valueData;
   }
 
+  /**
+   * Returns the length of the longest probe sequence of the values in this
+   * set, which is the maximum number of slots inspected by a successful
+   * {@link #contains(<x>)} operation. The value representing {@link #NULL} is
+   * not stored in the table, and is not considered.
+   *
+   * @return The length of the longest probe sequence of the values in this
+   *         set, or {@code 0} if this set has no values in the table.
+   */
+  public int getMaxProbeLength() {
+    final <x>[] valueData = this.valueData;
+    final int mask = valueData.length - 1;
+    int max = 0;
+    for (int i = 0; i < valueData.length; ++i)
+      if (valueData[i] != NULL)
+        max = Math.max(max, probeDistance(hash(valueData[i], mask), i, mask) + 1);
+
+    return max;
+  }
+
+  /**
+   * Returns the mean length of the probe sequences of the values in this set,
+   * which is the average number of slots inspected by a successful
+   * {@link #contains(<x>)} operation. The value representing {@link #NULL} is
+   * not stored in the table, and is not considered.
+   *
+   * @return The mean length of the probe sequences of the values in this set,
+   *         or {@code 0} if this set has no values in the table.
+   */
+  public double getMeanProbeLength() {
+    if (size == 0)
+      return 0;
+
+    final <x>[] valueData = this.valueData;
+    final int mask = valueData.length - 1;
+    long total = 0;
+    for (int i = 0; i < valueData.length; ++i)
+      if (valueData[i] != NULL)
+        total += probeDistance(hash(valueData[i], mask), i, mask) + 1;
+
+    return (double)total / size;
+  }
+
   /**
    * Compact the backing arrays by rehashing with a capacity just larger than
    * current size and giving consideration to the load factor.
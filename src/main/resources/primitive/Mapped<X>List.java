@@ -0,0 +1,272 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Direct<X>List} whose values are stored in a file, and accessed via
+ * memory-mapped {@link MappedByteBuffer}s.
+ * <p>
+ * Opening a {@link Mapped<X>List} maps the file into memory without reading
+ * it, and therefore runs in constant time regardless of the size of the list.
+ * Values are paged in by the operating system as they are accessed. When
+ * opened for writing, the list grows by mapping additional regions of the
+ * file, and modifications are persisted with {@link #force()} or
+ * {@link #close()}.
+ * <p>
+ * The file consists of an 8-byte header holding the number of values in the
+ * list, followed by the values. The header and values are stored in
+ * {@linkplain ByteOrder#LITTLE_ENDIAN little-endian} byte order. The header is
+ * only updated by {@link #force()} and {@link #close()}, so that a file whose
+ * list was not closed holds the values as of the last {@link #force()}.
+ * <p>
+ * A list opened in read-only mode throws an
+ * {@link UnsupportedOperationException} upon modification.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access a {@link Mapped<X>List} instance concurrently, and
+ * at least one of the threads modifies the list structurally, it <i>must</i> be
+ * synchronized externally. The file must not be modified by other processes
+ * while it is mapped.
+ */
+public class Mapped<X>List extends Direct<X>List {
+  private static final long serialVersionUID = <serialVersionUID>;
+
+  /** The length of the file header, in bytes. */
+  static final int HEADER_LENGTH = 8;
+
+  private final transient FileChannel channel;
+  private final boolean readOnly;
+
+  /**
+   * Opens a list of the values in the specified file for reading and writing.
+   * If the file does not exist, it is created, and the list is empty.
+   *
+   * @param path The path of the file.
+   * @throws IOException If an I/O error has occurred, or if the file is not a
+   *           valid {@link Mapped<X>List} file.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  public Mapped<X>List(final Path path) throws IOException {
+    this(path, false);
+  }
+
+  /**
+   * Opens a list of the values in the specified file. If {@code readOnly} is
+   * {@code false} and the file does not exist, it is created, and the list is
+   * empty.
+   *
+   * @param path The path of the file.
+   * @param readOnly If {@code true}, the file is opened for reading only, and
+   *          the list cannot be modified.
+   * @throws IOException If an I/O error has occurred, or if the file is not a
+   *           valid {@link Mapped<X>List} file.
+   * @throws NullPointerException If {@code path} is null.
+   */
+  public Mapped<X>List(final Path path, final boolean readOnly) throws IOException {
+    this(open(path, readOnly), readOnly);
+  }
+
+  private Mapped<X>List(final Mapping mapping, final boolean readOnly) {
+    super(mapping.pages, mapping.size);
+    this.channel = mapping.channel;
+    this.readOnly = readOnly;
+  }
+
+  /**
+   * The state of a newly opened file, passed to the superclass constructor.
+   */
+  private static final class Mapping {
+    private final FileChannel channel;
+    private final ByteBuffer[] pages;
+    private final int size;
+
+    private Mapping(final FileChannel channel, final ByteBuffer[] pages, final int size) {
+      this.channel = channel;
+      this.pages = pages;
+      this.size = size;
+    }
+  }
+
+  private static Mapping open(final Path path, final boolean readOnly) throws IOException {
+    final FileChannel channel = readOnly ? FileChannel.open(path, StandardOpenOption.READ) : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+    try {
+      final long length = channel.size();
+      final int size;
+      if (length == 0) {
+        size = 0;
+      }
+      else {
+        if (length < HEADER_LENGTH)
+          throw new IOException("Invalid header in " + path);
+
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) != -1);
+        final long value = header.getLong(0);
+        if (value < 0 || Integer.MAX_VALUE < value || length < offset(0) + value * <XX>.BYTES)
+          throw new IOException("Invalid size " + value + " in header of " + path);
+
+        size = (int)value;
+      }
+
+      final ByteBuffer[] pages = new ByteBuffer[size == 0 ? 0 : ((size - 1) >>> PAGE_SHIFT) + 1];
+      for (int i = 0; i < pages.length; ++i)
+        pages[i] = map(channel, readOnly, i, Math.min(PAGE_SIZE, size - (i << PAGE_SHIFT)));
+
+      return new Mapping(channel, pages, size);
+    }
+    catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the offset in the file of the specified page.
+   *
+   * @param page The index of the page.
+   * @return The offset in the file of the specified page.
+   */
+  private static long offset(final int page) {
+    return HEADER_LENGTH + ((long)page << PAGE_SHIFT) * <XX>.BYTES;
+  }
+
+  private static ByteBuffer map(final FileChannel channel, final boolean readOnly, final int page, final int capacity) throws IOException {
+    return channel.map(readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE, offset(page), (long)capacity * <XX>.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Returns whether this list was opened in read-only mode.
+   *
+   * @return Whether this list was opened in read-only mode.
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws UnsupportedOperationException If this list is read-only.
+   */
+  @Override
+  protected void assertWritable() {
+    if (readOnly)
+      throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation maps the region of the file that corresponds to the
+   * specified page, extending the file if necessary.
+   *
+   * @throws UnsupportedOperationException If this list is read-only.
+   * @throws UncheckedIOException If an I/O error has occurred.
+   */
+  @Override
+  protected ByteBuffer allocatePage(final int page, final int capacity) {
+    assertWritable();
+    try {
+      return map(channel, false, page, capacity);
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation remaps the region of the file that corresponds to the
+   * specified page, and unmaps the specified page. No values are copied, as
+   * both mappings share the same region of the file.
+   *
+   * @throws UnsupportedOperationException If this list is read-only.
+   * @throws UncheckedIOException If an I/O error has occurred.
+   */
+  @Override
+  protected ByteBuffer reallocatePage(final int page, final ByteBuffer buffer, final int length, final int capacity) {
+    final ByteBuffer newBuffer = allocatePage(page, capacity);
+    freePage(page, buffer);
+    return newBuffer;
+  }
+
+  /**
+   * Forces the values of this list, and its size, to be written to the
+   * storage device containing the file. If this list is read-only, this method
+   * has no effect.
+   *
+   * @throws UncheckedIOException If an I/O error has occurred.
+   */
+  public void force() {
+    if (readOnly || !channel.isOpen())
+      return;
+
+    try {
+      final ByteBuffer[] pages = pages();
+      for (int i = 0; i < pages.length; ++i)
+        ((MappedByteBuffer)pages[i]).force();
+
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+      header.putLong(0, size);
+      while (header.hasRemaining())
+        channel.write(header, header.position());
+
+      channel.force(false);
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Forces this list to the file with {@link #force()}, unmaps the file,
+   * truncates it to the length of the values of this list, and closes it. The
+   * list is empty after this method returns, and cannot be modified. Closing a
+   * list that is already closed has no effect.
+   *
+   * @throws UncheckedIOException If an I/O error has occurred.
+   */
+  @Override
+  public void close() {
+    if (!channel.isOpen())
+      return;
+
+    try {
+      final int size = this.size;
+      force();
+      super.close();
+      if (!readOnly)
+        channel.truncate(offset(0) + (long)size * <XX>.BYTES);
+
+      channel.close();
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
\ No newline at end of file
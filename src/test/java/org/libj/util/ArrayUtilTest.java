@@ -20,9 +20,13 @@ import static org.junit.Assert.*;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Random;
 
 import org.junit.Test;
 import org.libj.lang.Strings;
+import org.libj.util.primitive.DoubleComparator;
+import org.libj.util.primitive.IntComparator;
+import org.libj.util.primitive.LongComparator;
 
 public class ArrayUtilTest {
   private static Object[] createRandomNestedArray() {
@@ -53,6 +57,135 @@ public class ArrayUtilTest {
     }
   }
 
+  @Test
+  public void testRadixSortInt() {
+    final Random random = new Random(0);
+    for (final int length : new int[] {5000, 100000}) {
+      final int[] a = new int[length];
+      for (int i = 0; i < length; ++i)
+        a[i] = i % 3 == 0 ? random.nextInt(100) - 50 : random.nextInt();
+
+      final int[] expected = a.clone();
+      Arrays.sort(expected, 5, length - 5);
+      ArrayUtil.sort(a, 5, length - 5, null);
+      assertArrayEquals(expected, a);
+    }
+  }
+
+  @Test
+  public void testRadixSortLong() {
+    final Random random = new Random(0);
+    final long[] a = new long[100000];
+    for (int i = 0; i < a.length; ++i)
+      a[i] = i % 3 == 0 ? random.nextInt(100) - 50 : random.nextLong();
+
+    a[0] = Long.MIN_VALUE;
+    a[1] = Long.MAX_VALUE;
+    final long[] expected = a.clone();
+    Arrays.sort(expected);
+    ArrayUtil.sort(a, 0, a.length, LongComparator.NATURAL);
+    assertArrayEquals(expected, a);
+  }
+
+  @Test
+  public void testRadixSortFloat() {
+    final Random random = new Random(0);
+    final float[] special = {Float.NaN, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, -0f, 0f, Float.MIN_VALUE, -Float.MIN_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE};
+    final float[] a = new float[100000];
+    for (int i = 0; i < a.length; ++i)
+      a[i] = i % 10 == 0 ? special[random.nextInt(special.length)] : (random.nextFloat() - .5f) * random.nextInt();
+
+    final float[] expected = a.clone();
+    Arrays.sort(expected);
+    ArrayUtil.sort(a, 0, a.length, null);
+    assertArrayEquals(expected, a, 0);
+  }
+
+  @Test
+  public void testRadixSortDouble() {
+    final Random random = new Random(0);
+    final double[] special = {Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0d, 0d, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+    final double[] a = new double[100000];
+    for (int i = 0; i < a.length; ++i)
+      a[i] = i % 10 == 0 ? special[random.nextInt(special.length)] : (random.nextDouble() - .5) * random.nextLong();
+
+    final double[] expected = a.clone();
+    Arrays.sort(expected);
+    ArrayUtil.sort(a, 0, a.length, DoubleComparator.NATURAL);
+    assertArrayEquals(expected, a, 0);
+  }
+
+  @Test
+  public void testSelect() {
+    final Random random = new Random(0);
+    final long[] a = new long[100000];
+    for (int i = 0; i < a.length; ++i)
+      a[i] = random.nextInt(1000);
+
+    final long[] expected = a.clone();
+    Arrays.sort(expected);
+    for (final int k : new int[] {0, 1, 500, 50000, a.length - 1}) {
+      assertEquals(expected[k], ArrayUtil.select(a, k));
+      for (int i = 0; i < k; ++i)
+        assertTrue(a[i] <= a[k]);
+
+      for (int i = k + 1; i < a.length; ++i)
+        assertTrue(a[i] >= a[k]);
+    }
+
+    final int[] b = {5, 3, 9, 1, 7, 2, 8};
+    assertEquals(9, ArrayUtil.select(b, 1, 6, 0, IntComparator.REVERSE));
+    assertEquals(9, b[1]);
+    assertEquals(5, b[0]);
+    assertEquals(8, b[6]);
+    try {
+      ArrayUtil.select(b, 7);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testPartialSort() {
+    final Random random = new Random(0);
+    final double[] a = new double[100000];
+    for (int i = 0; i < a.length; ++i)
+      a[i] = random.nextDouble();
+
+    final double[] expected = a.clone();
+    Arrays.sort(expected);
+    ArrayUtil.partialSort(a, 100);
+    assertArrayEquals(Arrays.copyOf(expected, 100), Arrays.copyOf(a, 100), 0);
+
+    final short[] b = {4, 1, 3, 1, 5, 9, 2, 6};
+    ArrayUtil.partialSort(b, 0, b.length, b.length, null);
+    assertArrayEquals(new short[] {1, 1, 2, 3, 4, 5, 6, 9}, b);
+  }
+
+  @Test
+  public void testPartialSortPaired() {
+    final Random random = new Random(0);
+    final long[] score = new long[100000];
+    final Long[] data = new Long[score.length];
+    for (int i = 0; i < score.length; ++i)
+      data[i] = score[i] = random.nextLong();
+
+    final long[] expected = score.clone();
+    Arrays.sort(expected);
+    ArrayUtil.partialSort(data, score, 100, LongComparator.REVERSE);
+    for (int i = 0; i < 100; ++i) {
+      assertEquals(expected[expected.length - 1 - i], score[i]);
+      assertEquals(Long.valueOf(score[i]), data[i]);
+    }
+
+    for (int i = 100; i < score.length; ++i)
+      assertEquals(Long.valueOf(score[i]), data[i]);
+
+    assertEquals(expected[500], ArrayUtil.select(data, score, 500));
+    assertEquals(Long.valueOf(expected[500]), data[500]);
+  }
+
   @Test
   public void testBinaryClosestSearch() {
     final int[] sorted = {1, 3, 5, 9, 19};
@@ -19,17 +19,26 @@ package org.libj.util;
 import static org.junit.Assert.*;
 import static org.libj.util.DigraphTestUtil.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
+import org.libj.util.function.Throwing;
 
 public class DigraphTest {
   private static final Digraph<String> digraph1 = createDigraph("a", null, null, "c", null, "d", "c", "d", "c", "e", "d", "e", "e", "f", "e", "g", "e", "h", "f", "h");
@@ -248,4 +257,316 @@ public class DigraphTest {
     digraph.add(0, 6);
     assertEquals(hashCode, digraph.hashCode());
   }
+
+  @Test
+  public void testHighDegree() {
+    final Digraph<Integer> digraph = new Digraph<>();
+    final ArrayList<Integer> expected = new ArrayList<>();
+    for (int i = 1; i <= 100; ++i) {
+      assertTrue(digraph.add(0, i));
+      expected.add(i);
+    }
+
+    assertFalse(digraph.add(0, 50));
+    assertEquals(100, digraph.getOutDegree(0));
+    assertEquals(0, digraph.getOutDegree(50));
+    assertArrayEquals(expected.toArray(), digraph.get(0).toArray());
+
+    assertTrue(digraph.get(0).remove(50));
+    expected.remove((Integer)50);
+    assertFalse(digraph.get(0).contains(50));
+    assertEquals(0, digraph.getInDegree(50));
+
+    for (int i = 2; i <= 100; i += 2)
+      digraph.get(0).remove(i);
+
+    expected.removeIf(i -> i % 2 == 0);
+    assertArrayEquals(expected.toArray(), digraph.get(0).toArray());
+    for (int i = 1; i <= 100; ++i)
+      assertEquals(i % 2 != 0, digraph.get(0).contains(i));
+
+    assertTrue(digraph.add(0, 50));
+    expected.add(50);
+    assertArrayEquals(expected.toArray(), digraph.clone().get(0).toArray());
+  }
+
+  @Test
+  public void testDeepChain() {
+    final int size = 200000;
+    final Digraph<Integer> digraph = new Digraph<>(size);
+    for (int i = size - 1; i > 0; --i)
+      digraph.add(i - 1, i);
+
+    final List<Integer> order = digraph.getTopologicalOrder();
+    assertEquals(size, order.size());
+    for (int i = 0; i < size; ++i)
+      assertEquals(i, (int)order.get(i));
+
+    assertEquals(size, digraph.getStronglyConnectedComponents().size());
+    digraph.add(size - 1, 0);
+    assertEquals(size, digraph.getStronglyConnectedComponents().get(0).size());
+    final List<Integer> cycle = digraph.getCycle();
+    assertEquals(size + 1, cycle.size());
+    assertEquals(cycle.get(0), cycle.get(size));
+    assertNull(digraph.getTopologicalOrder());
+  }
+
+  private static void assertTopologicalOrder(final Digraph<Integer> digraph) {
+    final List<Integer> order = digraph.getTopologicalOrder();
+    assertEquals(digraph.size(), order.size());
+    final Map<Integer,Integer> positions = new HashMap<>();
+    for (int i = 0; i < order.size(); ++i)
+      assertNull(positions.put(order.get(i), i));
+
+    // A loop is not regarded as a cycle
+    for (final Integer v : digraph.keySet())
+      for (final Integer w : digraph.get(v))
+        assertTrue(v.equals(w) || positions.get(v) < positions.get(w));
+  }
+
+  @Test
+  public void testIncrementalTopologicalOrder() {
+    final Random random = new Random(0);
+    for (int t = 0; t < 200; ++t) {
+      final Digraph<Integer> digraph = new Digraph<>();
+      final int size = 1 + random.nextInt(30);
+      for (int i = 0; i < size; ++i)
+        digraph.add(i);
+
+      assertTopologicalOrder(digraph);
+      for (int i = random.nextInt(60); i > 0; --i) {
+        final int from = random.nextInt(size);
+        final int to = random.nextInt(size);
+        digraph.add(from, to);
+        if (random.nextInt(8) == 0)
+          digraph.get(from).remove(random.nextInt(size));
+
+        final List<Integer> cycle = digraph.getCycle();
+        // The incrementally maintained state agrees with that of a new search of a copy
+        final Digraph<Integer> copy = new Digraph<>();
+        for (final Integer v : digraph.keySet())
+          for (final Integer w : digraph.get(v))
+            copy.add(v, w);
+
+        assertEquals(cycle != null, copy.hasCycle());
+        if (cycle == null) {
+          assertTopologicalOrder(digraph);
+          continue;
+        }
+
+        assertNull(digraph.getTopologicalOrder());
+        verifyCycle(cycle);
+        // The cycle is listed from the head to the tail of each of its edges
+        for (int j = 1; j < cycle.size(); ++j)
+          assertTrue(digraph.get(cycle.get(j)).contains(cycle.get(j - 1)));
+
+        break;
+      }
+    }
+  }
+
+  @Test
+  public void testTopologicalOrderSnapshot() {
+    final Digraph<Integer> digraph = makeDirectedAcyclicGraph();
+    final List<Integer> order = digraph.getTopologicalOrder();
+    final List<Integer> expected = new ArrayList<>(order);
+    digraph.add(100);
+    digraph.add(8, 2);
+    assertEquals(expected, order);
+    for (final Integer vertex : order)
+      digraph.add(vertex, 101);
+
+    assertEquals(expected, order);
+    assertTopologicalOrder(digraph);
+
+    // The snapshot is retained until the order changes
+    final Digraph<Integer> dag = makeDirectedAcyclicGraph();
+    final List<Integer> snapshot = dag.getTopologicalOrder();
+    dag.add(12, 4);
+    assertSame(snapshot, dag.getTopologicalOrder());
+    dag.add(3, 12);
+    assertNotSame(snapshot, dag.getTopologicalOrder());
+    assertEquals(Arrays.asList(8, 7, 2, 0, 1, 6, 9, 11, 10, 12, 3, 5, 4), snapshot);
+    assertTopologicalOrder(dag);
+  }
+
+  private static void assertComponents(final Digraph<Integer> digraph) {
+    final List<List<Integer>> components = digraph.getStronglyConnectedComponents();
+    final Set<Integer> vertices = new HashSet<>();
+    for (int c = 0; c < components.size(); ++c) {
+      for (final Integer v : components.get(c)) {
+        assertTrue(vertices.add(v));
+        assertEquals(c, digraph.getComponentIndex(v));
+      }
+    }
+
+    assertEquals(digraph.keySet(), vertices);
+    final Digraph<Integer> condensation = digraph.getCondensation();
+    assertEquals(components.size(), condensation.size());
+    assertFalse(condensation.hasCycle());
+    for (final Integer v : digraph.keySet()) {
+      final int c = digraph.getComponentIndex(v);
+      for (final Integer w : digraph.get(v)) {
+        final int d = digraph.getComponentIndex(w);
+        // The vertices of a component reach each other, and edges between components follow their order
+        assertEquals(c == d, reaches(digraph, w, v));
+        if (c != d) {
+          assertTrue(c < d);
+          assertTrue(condensation.get(c).contains(d));
+        }
+      }
+    }
+  }
+
+  private static boolean reaches(final Digraph<Integer> digraph, final Integer from, final Integer to) {
+    final Set<Integer> visited = new HashSet<>();
+    final ArrayList<Integer> queue = new ArrayList<>();
+    queue.add(from);
+    visited.add(from);
+    for (int i = 0; i < queue.size(); ++i) {
+      if (queue.get(i).equals(to))
+        return true;
+
+      for (final Integer w : digraph.get(queue.get(i)))
+        if (visited.add(w))
+          queue.add(w);
+    }
+
+    return false;
+  }
+
+  @Test
+  public void testStronglyConnectedComponents() {
+    final Digraph<Integer> digraph = makeTinyDirectedGraph();
+    assertEquals("[[7], [6, 8], [9, 10, 12, 11], [4, 2, 3, 5, 0], [1]]", digraph.getStronglyConnectedComponents().toString());
+    assertComponents(digraph);
+    assertComponents(makeDirectedAcyclicGraph());
+    assertComponents(makeMediumDirectedGraph());
+
+    digraph.add(1, 7);
+    assertEquals("[[4, 2, 3, 5, 0, 1, 7, 9, 10, 12, 11, 6, 8]]", digraph.getStronglyConnectedComponents().toString());
+    assertEquals("0:", digraph.getCondensation().toString());
+
+    // A new vertex is a component of its own, with a new or a reused index
+    digraph.add(13);
+    assertEquals(2, digraph.getStronglyConnectedComponents().size());
+    assertEquals(2, digraph.getCondensation().size());
+    assertComponents(digraph);
+
+    digraph.remove(13);
+    assertEquals(1, digraph.getStronglyConnectedComponents().size());
+    digraph.add(14);
+    assertEquals(2, digraph.getStronglyConnectedComponents().size());
+    assertNotEquals(digraph.getComponentIndex(0), digraph.getComponentIndex(14));
+    assertComponents(digraph);
+
+    final Random random = new Random(0);
+    for (int t = 0; t < 200; ++t) {
+      final Digraph<Integer> randomDigraph = new Digraph<>();
+      final int size = 1 + random.nextInt(30);
+      for (int i = random.nextInt(60); i > 0; --i)
+        randomDigraph.add(random.nextInt(size), random.nextInt(size));
+
+      for (int i = random.nextInt(3); i > 0; --i)
+        randomDigraph.remove(random.nextInt(size));
+
+      assertComponents(randomDigraph);
+    }
+  }
+
+  @Test
+  public void testReadySets() {
+    assertEquals("[[2, 8], [3, 0, 7], [1, 5, 6], [4, 9], [10, 11], [12]]", makeDirectedAcyclicGraph().getReadySets().toString());
+    assertNull(makeTinyDirectedGraph().getReadySets());
+
+    final Digraph<Integer> digraph = makeDirectedAcyclicGraph();
+    digraph.add(9, 9);
+    digraph.remove(8);
+    assertEquals("[[2, 7], [3, 0], [6, 1, 5], [9, 4], [10, 11], [12]]", digraph.getReadySets().toString());
+  }
+
+  @Test
+  public void testExecuteInParallel() throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Random random = new Random(0);
+      for (int t = 0; t < 100; ++t) {
+        final Digraph<Integer> digraph = new Digraph<>();
+        final int size = 1 + random.nextInt(100);
+        for (int i = 0; i < size; ++i)
+          digraph.add(i);
+
+        // Edges from lower to higher vertices, which are added in random order
+        for (int i = random.nextInt(300); i > 0; --i) {
+          final int from = random.nextInt(size);
+          final int to = random.nextInt(size);
+          if (from < to)
+            digraph.add(to, from);
+        }
+
+        final AtomicInteger counter = new AtomicInteger();
+        final Map<Integer,Integer> sequence = new ConcurrentHashMap<>();
+        digraph.executeInParallel(executor, v -> assertNull(sequence.put(v, counter.getAndIncrement())));
+        assertEquals(digraph.keySet(), sequence.keySet());
+        for (final Integer v : digraph.keySet())
+          for (final Integer w : digraph.get(v))
+            assertTrue(sequence.get(v) < sequence.get(w));
+      }
+
+      final Digraph<Integer> digraph = makeDirectedAcyclicGraph();
+      final Set<Integer> executed = ConcurrentHashMap.newKeySet();
+      try {
+        digraph.executeInParallel(executor, v -> {
+          if (v == 6)
+            throw new IllegalArgumentException();
+
+          executed.add(v);
+        });
+        fail("Expected IllegalArgumentException");
+      }
+      catch (final IllegalArgumentException e) {
+      }
+
+      for (final Integer v : Arrays.asList(4, 9, 10, 11, 12))
+        assertFalse(executed.contains(v));
+
+      // A checked exception thrown undeclared by the action is thrown as well
+      executed.clear();
+      try {
+        digraph.executeInParallel(executor, Throwing.<Integer>rethrow(v -> {
+          if (v == 6)
+            throw new IOException();
+
+          executed.add(v);
+        }));
+        fail("Expected IOException");
+      }
+      catch (final Exception e) {
+        assertTrue(e instanceof IOException);
+      }
+
+      for (final Integer v : Arrays.asList(4, 9, 10, 11, 12))
+        assertFalse(executed.contains(v));
+
+      try {
+        makeTinyDirectedGraph().executeInParallel(executor, v -> {});
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+
+    // A chain is performed on the thread that readies it, without a task per vertex
+    final int size = 100000;
+    final Digraph<Integer> chain = new Digraph<>(size);
+    for (int i = size - 1; i > 0; --i)
+      chain.add(i - 1, i);
+
+    final ArrayList<Integer> order = new ArrayList<>(size);
+    chain.executeInParallel(Runnable::run, order::add);
+    assertEquals(chain.getTopologicalOrder(), order);
+  }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 import org.libj.util.primitive.IntComparator;
@@ -83,6 +84,58 @@ public class PairedSortTest {
     }
   }
 
+  @Test
+  public void testRadixSortIsStable() {
+    final int length = 10000;
+    final long[] order = new long[length];
+    final Integer[] data = new Integer[length];
+    final Random random = new Random(0);
+    for (int i = 0; i < length; ++i) {
+      order[i] = random.nextInt(100) - 50;
+      data[i] = i;
+    }
+
+    final List<Integer> list = new ArrayList<>(Arrays.asList(data));
+    CollectionUtil.sort(list, order);
+    ArrayUtil.sort(data, order);
+    assertEquals(Arrays.asList(data), list);
+    for (int i = 1; i < length; ++i) {
+      assertTrue(order[i - 1] <= order[i]);
+      if (order[i - 1] == order[i])
+        assertTrue(data[i - 1] < data[i]);
+    }
+  }
+
+  @Test
+  public void testParallelSortIsStable() {
+    final int length = 100000;
+    final int[] order = new int[length];
+    final short[] shorts = new short[length];
+    final Integer[] data = new Integer[length];
+    final Random random = new Random(0);
+    for (int i = 0; i < length; ++i) {
+      order[i] = random.nextInt(1000) - 500;
+      shorts[i] = (short)order[i];
+      data[i] = i;
+    }
+
+    final int[] expected = order.clone();
+    final List<Integer> list = new ArrayList<>(Arrays.asList(data));
+    CollectionUtil.parallelSort(list, order, IntComparator.REVERSE);
+    assertArrayEquals(expected, order);
+    for (int i = 1; i < length; ++i) {
+      assertTrue(order[list.get(i - 1)] >= order[list.get(i)]);
+      if (order[list.get(i - 1)] == order[list.get(i)])
+        assertTrue(list.get(i - 1) < list.get(i));
+    }
+
+    final List<Integer> sorted = new ArrayList<>(Arrays.asList(data));
+    CollectionUtil.sort(sorted, shorts);
+    final List<Integer> parallel = new ArrayList<>(Arrays.asList(data));
+    CollectionUtil.parallelSort(parallel, shorts);
+    assertEquals(sorted, parallel);
+  }
+
   @Test
   public void test26() {
     test(Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l", "m", "n", "o", "p", "q", "r", "s", "t", "u", "v", "w", "x", "y", "z"));
@@ -18,6 +18,9 @@ package org.libj.util;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 public class RefDigraphTest {
@@ -81,4 +84,36 @@ public class RefDigraphTest {
     assertEquals(8, digraph.keySet().size());
     assertEquals("[h->e, g->d, f->d, e->c, d->c, a->b, b->c, c->null]", digraph.getTopologicalOrder().toString());
   }
+
+  @Test
+  public void testStronglyConnectedComponents() {
+    final RefDigraph<Obj,String> digraph = new RefDigraph<>(obj -> obj.id);
+    final Obj a = new Obj("a", "b");
+    final Obj b = new Obj("b", "c");
+    final Obj c = new Obj("c", "a");
+    final Obj d = new Obj("d", "c");
+    digraph.add(a, "b");
+    digraph.add(b, "c");
+    digraph.add(c, "a");
+    digraph.add(d, "c");
+    assertEquals("[[d->c], [a->b, b->c, c->a]]", digraph.getStronglyConnectedComponents().toString());
+    assertEquals(0, digraph.getComponentIndex(d));
+    assertEquals(1, digraph.getComponentIndex(a));
+    assertEquals("0: 1\n1:", digraph.getCondensation().toString());
+  }
+
+  @Test
+  public void testReadySets() throws InterruptedException {
+    final RefDigraph<Obj,String> digraph = new RefDigraph<>(obj -> obj.id);
+    digraph.add(new Obj("a", "b"), "b");
+    digraph.add(new Obj("b", "c"), "c");
+    digraph.add(new Obj("c", null), null);
+    digraph.add(new Obj("d", "c"), "c");
+    digraph.add(new Obj("e", "d"), "d");
+    assertEquals("[[a->b, e->d], [b->c, d->c], [c->null]]", digraph.getReadySets().toString());
+
+    final List<Obj> order = new ArrayList<>();
+    digraph.executeInParallel(Runnable::run, order::add);
+    assertEquals("[a->b, b->c, e->d, d->c, c->null]", order.toString());
+  }
 }
\ No newline at end of file
@@ -19,7 +19,17 @@ package org.libj.util;
 import static org.junit.Assert.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -39,4 +49,202 @@ public class StreamSearcherTest {
     assertEquals(3, searcher.search(test1, bytes, 0));
     assertEquals(3, searcher.search(test2, bytes, 0));
   }
+
+  @Test
+  public void testDifferentLengths() throws IOException {
+    final StreamSearcher.Char searcher = new StreamSearcher.Char("hers".toCharArray(), "his".toCharArray(), "she".toCharArray(), "he".toCharArray());
+    final StringReader in = new StringReader("ushers and his");
+    final StreamSearcher.Match match = new StreamSearcher.Match();
+
+    // "she" and "he" end at the same position, and "she" has the lower index
+    assertEquals(4, searcher.search(in, null, -1, match));
+    assertEquals(2, match.getPattern());
+    assertEquals(1, match.getStart());
+    assertEquals(4, match.getEnd());
+
+    // Each search starts anew, so "hers" is not matched across the previous match
+    assertEquals(10, searcher.search(in, null, -1, match));
+    assertEquals(1, match.getPattern());
+    assertEquals(7, match.getStart());
+    assertEquals(10, match.getEnd());
+
+    assertEquals(0, searcher.search(in, null, -1, match));
+    assertFalse(match.isFound());
+  }
+
+  @Test
+  public void testSkip() throws IOException {
+    final Random random = new Random(0);
+    final File file = File.createTempFile("stream-searcher", ".bin");
+    file.deleteOnExit();
+    for (int t = 0; t < 50; ++t) {
+      // Long single patterns over a small alphabet, such that partial matches are frequent
+      final byte[][] patterns = {new byte[StreamSearcher.MIN_SKIP_LENGTH + random.nextInt(64)]};
+      for (int i = 0; i < patterns[0].length; ++i)
+        patterns[0][i] = (byte)random.nextInt(t < 25 ? 2 : 256);
+
+      final byte[] data = new byte[5000];
+      for (int i = 0; i < data.length; ++i)
+        data[i] = (byte)random.nextInt(t < 25 ? 2 : 256);
+
+      for (int i = 0; i < 5; ++i) {
+        final int at = random.nextInt(data.length - patterns[0].length);
+        System.arraycopy(patterns[0], 0, data, at, patterns[0].length);
+      }
+
+      Files.write(file.toPath(), data);
+      final StreamSearcher.Byte searcher = new StreamSearcher.Byte(patterns);
+      final ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data);
+      direct.flip();
+      final ByteBuffer chunk = ByteBuffer.allocate(patterns[0].length + random.nextInt(100));
+      chunk.flip();
+      final ByteArrayInputStream in = new ByteArrayInputStream(data);
+      final StreamSearcher.Match expected = new StreamSearcher.Match();
+      final StreamSearcher.Match actual = new StreamSearcher.Match();
+      try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+        for (int from = 0; from < data.length;) {
+          final int advanced = naiveSearch(data, from, patterns, expected);
+          assertEquals(advanced, searcher.search(data, from, data.length, actual));
+          assertEquals(expected.toString(), actual.toString());
+
+          assertEquals(advanced, searcher.search(direct, actual));
+          assertEquals(expected.toString(), actual.toString());
+
+          assertEquals(advanced, searcher.search(in, chunk, actual));
+          assertEquals(expected.toString(), actual.toString());
+
+          assertEquals(advanced, searcher.search(channel, from, actual));
+          assertEquals(expected.toString(), actual.toString());
+          from += advanced;
+        }
+      }
+    }
+  }
+
+  private static int naiveSearch(final byte[] data, final int from, final byte[][] patterns, final StreamSearcher.Match match) {
+    for (int end = from + 1; end <= data.length; ++end) {
+      for (int p = 0; p < patterns.length; ++p) {
+        final byte[] pattern = patterns[p];
+        final int start = end - pattern.length;
+        if (start < from)
+          continue;
+
+        int i = 0;
+        while (i < pattern.length && data[start + i] == pattern[i])
+          ++i;
+
+        if (i == pattern.length) {
+          match.set(p, start - from, end - from);
+          return end - from;
+        }
+      }
+    }
+
+    match.clear();
+    return data.length - from;
+  }
+
+  @Test
+  public void testManyPatterns() throws IOException {
+    final Random random = new Random(0);
+    for (int t = 0; t < 50; ++t) {
+      final byte[][] patterns = new byte[1 + random.nextInt(t < 25 ? 5 : 300)][];
+      for (int p = 0; p < patterns.length; ++p) {
+        patterns[p] = new byte[1 + random.nextInt(6)];
+        for (int i = 0; i < patterns[p].length; ++i)
+          patterns[p][i] = (byte)(random.nextInt(4) - 2);
+      }
+
+      final byte[] data = new byte[2000];
+      for (int i = 0; i < data.length; ++i)
+        data[i] = (byte)(random.nextInt(4) - 2);
+
+      final StreamSearcher.Byte searcher = new StreamSearcher.Byte(patterns);
+      final ByteArrayInputStream in = new ByteArrayInputStream(data);
+      final StreamSearcher.Match expected = new StreamSearcher.Match();
+      final StreamSearcher.Match actual = new StreamSearcher.Match();
+      for (int from = 0; from < data.length;) {
+        final int advanced = naiveSearch(data, from, patterns, expected);
+        assertEquals(advanced, searcher.search(in, null, -1, actual));
+        assertEquals(expected.toString(), actual.toString());
+        from += advanced;
+      }
+    }
+  }
+
+  @Test
+  public void testBuffer() {
+    final StreamSearcher.Byte searcher = new StreamSearcher.Byte("hers".getBytes(), "his".getBytes());
+    final StreamSearcher.Match match = new StreamSearcher.Match();
+    for (final ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap("xhis hers".getBytes()), ByteBuffer.allocateDirect(9).put("xhis hers".getBytes())}) {
+      buffer.rewind();
+      assertEquals(4, searcher.search(buffer, match));
+      assertEquals(1, match.getPattern());
+      assertEquals(1, match.getStart());
+      assertEquals(4, buffer.position());
+
+      assertEquals(5, searcher.search(buffer, match));
+      assertEquals(0, match.getPattern());
+      assertEquals(1, match.getStart());
+      assertEquals(5, match.getEnd());
+
+      assertEquals(0, searcher.search(buffer, match));
+      assertFalse(match.isFound());
+    }
+
+    final CharBuffer buffer = CharBuffer.wrap("xxhisxx");
+    assertEquals(5, new StreamSearcher.Char("his".toCharArray()).search(buffer, match));
+    assertEquals(2, match.getStart());
+  }
+
+  @Test
+  public void testChunked() throws IOException {
+    final byte[] data = "abcdefgh-needle-ijklmnop-needle-q".getBytes(StandardCharsets.US_ASCII);
+    final StreamSearcher.Byte searcher = new StreamSearcher.Byte("needle".getBytes());
+    final StreamSearcher.Match match = new StreamSearcher.Match();
+    for (final ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(4), ByteBuffer.allocateDirect(5)}) {
+      // The buffer is initially empty, and is ready to be read
+      buffer.flip();
+      final ByteArrayInputStream in = new ByteArrayInputStream(data);
+      assertEquals(15, searcher.search(Channels.newChannel(in), buffer, match));
+      assertEquals(9, match.getStart());
+      assertEquals(15, match.getEnd());
+
+      // The unconsumed tail of the buffer precedes the rest of the stream
+      final int remaining = buffer.remaining();
+      assertEquals(15 + remaining, data.length - in.available());
+      for (int i = 0; i < remaining; ++i)
+        assertEquals(data[15 + i], buffer.get(buffer.position() + i));
+
+      assertEquals(16, searcher.search(in, buffer, match));
+      assertEquals(10, match.getStart());
+      assertEquals(2, searcher.search(in, buffer, match));
+      assertFalse(match.isFound());
+      assertFalse(buffer.hasRemaining());
+    }
+
+    final StringReader in = new StringReader("abcdefgh-needle-q");
+    final CharBuffer buffer = CharBuffer.allocate(3);
+    buffer.flip();
+    assertEquals(15, new StreamSearcher.Char("needle".toCharArray()).search(in, buffer, match));
+    assertEquals(9, match.getStart());
+  }
+
+  @Test
+  public void testFileChannel() throws IOException {
+    final File file = File.createTempFile("stream-searcher", ".txt");
+    file.deleteOnExit();
+    Files.write(file.toPath(), "abcdefgh-needle-ijklmnop-needle-q".getBytes(StandardCharsets.US_ASCII));
+    final StreamSearcher.Byte searcher = new StreamSearcher.Byte("needle".getBytes());
+    final StreamSearcher.Match match = new StreamSearcher.Match();
+    try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      assertEquals(15, searcher.search(channel, 0, match));
+      assertEquals(9, match.getStart());
+      assertEquals(16, searcher.search(channel, 15, match));
+      assertEquals(10, match.getStart());
+      assertEquals(2, searcher.search(channel, 31, match));
+      assertFalse(match.isFound());
+      assertEquals(0, channel.position());
+    }
+  }
 }
\ No newline at end of file
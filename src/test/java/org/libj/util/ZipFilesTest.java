@@ -20,7 +20,13 @@ import static org.junit.Assert.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Enumeration;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.junit.Test;
@@ -59,4 +65,66 @@ public class ZipFilesTest {
     assertEquals(1, destDir.list().length);
     assertTrue(new File(destDir, "META-INF/MANIFEST.MF").exists());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testExtractParallel() throws IOException {
+    final File file = findJar("junit");
+    final File destDir = new File(extractDir, "parallel");
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (final ZipFile zipFile = new ZipFile(file)) {
+      ZipFiles.extract(zipFile, destDir, null, executor, 2);
+      assertEquals(4, destDir.list().length);
+      final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        final ZipEntry entry = entries.nextElement();
+        final File extracted = new File(destDir, entry.getName());
+        assertTrue(extracted.exists());
+        if (!entry.isDirectory())
+          assertEquals(entry.getName(), entry.getSize(), Files.size(extracted.toPath()));
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testExtractParallelFailure() throws IOException {
+    final File file = findJar("junit");
+    final File destDir = new File(extractDir, "failure");
+    destDir.mkdirs();
+    // A directory in place of a file entry fails its extraction
+    new File(destDir, "META-INF/MANIFEST.MF").mkdirs();
+    try (final ZipFile zipFile = new ZipFile(file)) {
+      ZipFiles.extract(zipFile, destDir, null, Runnable::run, 1);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+
+  @Test
+  public void testExtractParallelRuntimeException() throws IOException {
+    final File file = findJar("junit");
+    final File destDir = new File(extractDir, "runtime");
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    // A RuntimeException on a thread of the executor is thrown to the caller
+    try (final ZipFile zipFile = new ZipFile(file) {
+      @Override
+      public InputStream getInputStream(final ZipEntry entry) throws IOException {
+        if ("META-INF/MANIFEST.MF".equals(entry.getName()))
+          throw new SecurityException();
+
+        return super.getInputStream(entry);
+      }
+    }) {
+      ZipFiles.extract(zipFile, destDir, null, executor, 2);
+      fail("Expected SecurityException");
+    }
+    catch (final SecurityException e) {
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.zip;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.zip.Checksum;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CRC32CTest {
+  private static final Logger logger = LoggerFactory.getLogger(CRC32CTest.class);
+
+  /**
+   * Returns a new instance of {@code java.util.zip.CRC32C}, or {@code null} if
+   * running on Java 8.
+   */
+  private static Checksum newJdkCRC32C() {
+    try {
+      return (Checksum)Class.forName("java.util.zip.CRC32C").getDeclaredConstructor().newInstance();
+    }
+    catch (final ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  @Test
+  public void test() {
+    final CRC32C crc = new CRC32C();
+    crc.update("123456789".getBytes());
+    assertEquals("e3069283", Long.toHexString(crc.getValue()));
+
+    crc.reset();
+    crc.update(new byte[32]);
+    assertEquals("8a9136aa", Long.toHexString(crc.getValue()));
+  }
+
+  @Test
+  public void testSlicing() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[1000];
+    random.nextBytes(bytes);
+    for (int off = 0; off < 9; ++off) {
+      for (int len = 0; len < bytes.length - off; len += 1 + len / 8) {
+        final CRC32C expected = new CRC32C();
+        for (int i = off; i < off + len; ++i)
+          expected.update(bytes[i]);
+
+        final CRC32C crc = new CRC32C();
+        crc.update(bytes, off, len);
+        assertEquals(expected.getValue(), crc.getValue());
+
+        final Checksum jdk = newJdkCRC32C();
+        if (jdk != null) {
+          jdk.update(bytes, off, len);
+          assertEquals(jdk.getValue(), crc.getValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testByteBuffer() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[1027];
+    random.nextBytes(bytes);
+    final CRC32C expected = new CRC32C();
+    expected.update(bytes, 3, bytes.length - 5);
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    for (final ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap(bytes), direct.duplicate(), direct.duplicate().order(ByteOrder.LITTLE_ENDIAN)}) {
+      buffer.limit(bytes.length - 2);
+      buffer.position(3);
+      final CRC32C crc = new CRC32C();
+      crc.update(buffer);
+      assertEquals(expected.getValue(), crc.getValue());
+      assertEquals(buffer.limit(), buffer.position());
+    }
+  }
+
+  @Test
+  public void testCombine() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[10000];
+    random.nextBytes(bytes);
+    final CRC32C crc = new CRC32C();
+    crc.update(bytes);
+    for (final int split : new int[] {0, 1, 7, 8, 4999, 9999, 10000}) {
+      final CRC32C a = new CRC32C();
+      a.update(bytes, 0, split);
+      final CRC32C b = new CRC32C();
+      b.update(bytes, split, bytes.length - split);
+      assertEquals(crc.getValue(), CRC32C.combine(a.getValue(), b.getValue(), bytes.length - split));
+    }
+  }
+
+  private static double benchmark(final Checksum checksum, final byte[] bytes, final int iterations) {
+    long value = 0;
+    final long start = System.nanoTime();
+    for (int i = 0; i < iterations; ++i) {
+      checksum.reset();
+      checksum.update(bytes, 0, bytes.length);
+      value ^= checksum.getValue();
+    }
+
+    final long time = System.nanoTime() - start;
+    assertNotEquals(-1, value);
+    return (double)bytes.length * iterations / time * 1000;
+  }
+
+  /**
+   * Compares the throughput of the CRC implementations over 256MB, and is
+   * thus only run with {@code -Dbenchmark=true}.
+   */
+  @Test
+  public void testBenchmark() {
+    assumeTrue("Run with -Dbenchmark=true", Boolean.getBoolean("benchmark"));
+    final byte[] bytes = new byte[1 << 20];
+    new Random(0).nextBytes(bytes);
+    final Checksum jdk = newJdkCRC32C();
+    for (int warmup = 0; warmup < 2; ++warmup) {
+      final double crc32c = benchmark(new CRC32C(), bytes, 32);
+      final double crc32 = benchmark(new CRC32(), bytes, 32);
+      final double jdkCrc32 = benchmark(new java.util.zip.CRC32(), bytes, 32);
+      final double jdkCrc32c = jdk == null ? Double.NaN : benchmark(jdk, bytes, 32);
+      if (warmup == 1)
+        logger.info(String.format("CRC32C: %.0f MB/s, CRC32: %.0f MB/s, java.util.zip.CRC32: %.0f MB/s, java.util.zip.CRC32C: %.0f MB/s", crc32c, crc32, jdkCrc32, jdkCrc32c));
+    }
+  }
+}
\ No newline at end of file
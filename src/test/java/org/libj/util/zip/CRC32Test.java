@@ -18,6 +18,15 @@ package org.libj.util.zip;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.Test;
 
 public class CRC32Test {
@@ -27,4 +36,98 @@ public class CRC32Test {
     crc.update("foo bar".getBytes());
     assertEquals("be460134", Long.toHexString(crc.getValue()));
   }
+
+  @Test
+  public void testSlicing() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[1000];
+    random.nextBytes(bytes);
+    for (int off = 0; off < 9; ++off) {
+      for (int len = 0; len < bytes.length - off; len += 1 + len / 8) {
+        final java.util.zip.CRC32 expected = new java.util.zip.CRC32();
+        expected.update(bytes, off, len);
+
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, off, len);
+        assertEquals(expected.getValue(), crc.getValue());
+
+        crc.reset();
+        final int half = len / 2;
+        crc.update(bytes, off, half);
+        for (int i = off + half; i < off + len; ++i)
+          crc.update(bytes[i]);
+
+        assertEquals(expected.getValue(), crc.getValue());
+      }
+    }
+  }
+
+  @Test
+  public void testByteBuffer() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[1027];
+    random.nextBytes(bytes);
+    final java.util.zip.CRC32 expected = new java.util.zip.CRC32();
+    expected.update(bytes, 3, bytes.length - 5);
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    for (final ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap(bytes), direct.duplicate(), direct.duplicate().order(ByteOrder.LITTLE_ENDIAN)}) {
+      buffer.limit(bytes.length - 2);
+      buffer.position(3);
+      final CRC32 crc = new CRC32();
+      crc.update(buffer);
+      assertEquals(expected.getValue(), crc.getValue());
+      assertEquals(buffer.limit(), buffer.position());
+    }
+  }
+
+  @Test
+  public void testCombine() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[10000];
+    random.nextBytes(bytes);
+    final CRC32 crc = new CRC32();
+    crc.update(bytes);
+    final long expected = crc.getValue();
+    for (final int split : new int[] {0, 1, 7, 8, 4999, 9999, 10000}) {
+      final CRC32 a = new CRC32();
+      a.update(bytes, 0, split);
+      final CRC32 b = new CRC32();
+      b.update(bytes, split, bytes.length - split);
+      assertEquals(expected, CRC32.combine(a.getValue(), b.getValue(), bytes.length - split));
+    }
+  }
+
+  @Test
+  public void testParallelChecksum() throws IOException {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[(5 << 20) + 3];
+    random.nextBytes(bytes);
+    final CRC32 crc = new CRC32();
+    crc.update(bytes);
+    final long expected = crc.getValue();
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes).flip();
+      assertEquals(expected, CRC32.parallelChecksum(direct, pool));
+      assertEquals(0, direct.position());
+      assertEquals(expected, CRC32.parallelChecksum(ByteBuffer.wrap(bytes)));
+
+      final Path path = Files.createTempFile("crc", ".bin");
+      try {
+        Files.write(path, bytes);
+        try (final FileChannel channel = FileChannel.open(path)) {
+          assertEquals(expected, CRC32.parallelChecksum(channel, pool));
+        }
+      }
+      finally {
+        Files.delete(path);
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
 }
\ No newline at end of file
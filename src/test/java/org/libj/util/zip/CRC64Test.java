@@ -18,6 +18,17 @@ package org.libj.util.zip;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.Test;
 
 public class CRC64Test {
@@ -27,4 +38,108 @@ public class CRC64Test {
     crc.update("foo bar".getBytes());
     assertEquals("8d145fadb8898c9c", Long.toHexString(crc.getValue()));
   }
+
+  private static long bytewise(final byte[] bytes, final int off, final int len) {
+    final CRC64 crc = new CRC64();
+    for (int i = off; i < off + len; ++i)
+      crc.update(bytes[i]);
+
+    return crc.getValue();
+  }
+
+  @Test
+  public void testSlicing() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[1000];
+    random.nextBytes(bytes);
+    for (int off = 0; off < 9; ++off) {
+      for (int len = 0; len < bytes.length - off; len += 1 + len / 8) {
+        final CRC64 crc = new CRC64();
+        crc.update(bytes, off, len);
+        assertEquals(bytewise(bytes, off, len), crc.getValue());
+      }
+    }
+  }
+
+  @Test
+  public void testByteBuffer() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[1027];
+    random.nextBytes(bytes);
+    final long expected = bytewise(bytes, 3, bytes.length - 5);
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    for (final ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap(bytes), direct.duplicate(), direct.duplicate().order(ByteOrder.LITTLE_ENDIAN)}) {
+      buffer.limit(bytes.length - 2);
+      buffer.position(3);
+      final CRC64 crc = new CRC64();
+      crc.update(buffer);
+      assertEquals(expected, crc.getValue());
+      assertEquals(buffer.limit(), buffer.position());
+    }
+  }
+
+  @Test
+  public void testCheckedReadableByteChannel() throws IOException {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[100000];
+    random.nextBytes(bytes);
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(1000);
+    try (final CheckedReadableByteChannel channel = new CheckedReadableByteChannel(Channels.newChannel(new ByteArrayInputStream(bytes)), new CRC64())) {
+      while (channel.read(buffer) != -1)
+        buffer.clear();
+
+      assertEquals(bytewise(bytes, 0, bytes.length), channel.getChecksum().getValue());
+    }
+  }
+
+  @Test
+  public void testCombine() {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[10000];
+    random.nextBytes(bytes);
+    final CRC64 crc = new CRC64();
+    crc.update(bytes);
+    final long expected = crc.getValue();
+    for (final int split : new int[] {0, 1, 7, 8, 4999, 9999, 10000}) {
+      final CRC64 a = new CRC64();
+      a.update(bytes, 0, split);
+      final CRC64 b = new CRC64();
+      b.update(bytes, split, bytes.length - split);
+      assertEquals(expected, CRC64.combine(a.getValue(), b.getValue(), bytes.length - split));
+    }
+  }
+
+  @Test
+  public void testParallelChecksum() throws IOException {
+    final Random random = new Random(0);
+    final byte[] bytes = new byte[(5 << 20) + 3];
+    random.nextBytes(bytes);
+    final CRC64 crc = new CRC64();
+    crc.update(bytes);
+    final long expected = crc.getValue();
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes).flip();
+      assertEquals(expected, CRC64.parallelChecksum(direct, pool));
+      assertEquals(0, direct.position());
+      assertEquals(expected, CRC64.parallelChecksum(ByteBuffer.wrap(bytes)));
+
+      final Path path = Files.createTempFile("crc", ".bin");
+      try {
+        Files.write(path, bytes);
+        try (final FileChannel channel = FileChannel.open(path)) {
+          assertEquals(expected, CRC64.parallelChecksum(channel, pool));
+        }
+      }
+      finally {
+        Files.delete(path);
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
 }
\ No newline at end of file
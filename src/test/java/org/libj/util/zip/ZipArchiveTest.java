@@ -0,0 +1,192 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.zip;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+import org.libj.util.ClassLoaders;
+
+public class ZipArchiveTest {
+  private static byte[] readAll(final InputStream in) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    for (int len; (len = in.read(buffer)) != -1; out.write(buffer, 0, len));
+    return out.toByteArray();
+  }
+
+  private static byte[] toArray(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  private static byte[] content(final int i) {
+    final StringBuilder builder = new StringBuilder();
+    for (int j = 0; j < i % 50; ++j)
+      builder.append("entry ").append(i).append(' ');
+
+    return builder.toString().getBytes();
+  }
+
+  /**
+   * Returns a file of a ZIP archive of one {@link ZipEntry#DEFLATED} entry,
+   * whose central directory header is patched with the specified unsigned short
+   * at the specified offset.
+   */
+  private static File corrupt(final int offset, final int value) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final ZipWriter writer = new ZipWriter(new ZipOutputStream(out))) {
+      writer.write("entry", content(49));
+    }
+
+    final byte[] bytes = out.toByteArray();
+    int cen = bytes.length - 4;
+    while (bytes[cen] != 'P' || bytes[cen + 1] != 'K' || bytes[cen + 2] != 1 || bytes[cen + 3] != 2)
+      --cen;
+
+    bytes[cen + offset] = (byte)value;
+    bytes[cen + offset + 1] = (byte)(value >> 8);
+    final File file = Files.createTempFile("corrupt", ".zip").toFile();
+    file.deleteOnExit();
+    Files.write(file.toPath(), bytes);
+    return file;
+  }
+
+  private static void assertInvalidSize(final int size) throws IOException {
+    try (final ZipArchive archive = new ZipArchive(corrupt(24, size))) {
+      archive.getByteBuffer("entry");
+      fail("Expected ZipException");
+    }
+    catch (final ZipException e) {
+    }
+  }
+
+  @Test
+  public void testArchive() throws IOException {
+    final File file = Files.createTempFile("archive", ".zip").toFile();
+    file.deleteOnExit();
+    final int count = 2000;
+    try (final ZipWriter writer = new ZipWriter(new ZipOutputStream(new FileOutputStream(file)))) {
+      // Written in reverse order, so as to be sorted by the index
+      for (int i = count - 1; i >= 0; --i) {
+        final String name = "dir" + (i % 3) + "/entry" + i;
+        if (i % 2 == 0)
+          writer.writeStored(name, content(i));
+        else
+          writer.write(name, content(i));
+      }
+    }
+
+    try (final ZipArchive archive = new ZipArchive(file)) {
+      assertEquals(count, archive.size());
+      for (int i = 0; i < count; ++i) {
+        final String name = "dir" + (i % 3) + "/entry" + i;
+        final ZipEntry entry = archive.getEntry(name);
+        assertEquals(name, entry.getName());
+        assertEquals(i % 2 == 0 ? ZipEntry.STORED : ZipEntry.DEFLATED, entry.getMethod());
+        assertEquals(content(i).length, entry.getSize());
+
+        final ByteBuffer buffer = archive.getByteBuffer(name);
+        assertTrue(buffer.isReadOnly());
+        if (i % 2 == 0)
+          assertTrue(buffer.isDirect());
+
+        assertArrayEquals(content(i), toArray(buffer));
+        try (final InputStream in = archive.getInputStream(name)) {
+          assertArrayEquals(content(i), readAll(in));
+        }
+      }
+
+      assertNull(archive.getEntry("dir0/entry1"));
+      assertNull(archive.getEntry("dir0/entry"));
+      assertNull(archive.getByteBuffer("missing"));
+      assertNull(archive.getInputStream("missing"));
+
+      final List<ZipEntry> entries = archive.getEntries("dir1/entry1");
+      String prev = "";
+      for (final ZipEntry entry : entries) {
+        assertTrue(entry.getName().startsWith("dir1/entry1"));
+        assertTrue(prev.compareTo(entry.getName()) < 0);
+        prev = entry.getName();
+      }
+
+      int expected = 0;
+      for (int i = 0; i < count; ++i)
+        if (i % 3 == 1 && Integer.toString(i).startsWith("1"))
+          ++expected;
+
+      assertEquals(expected, entries.size());
+      assertEquals(count, archive.getEntries("").size());
+      assertEquals(0, archive.getEntries("dir3").size());
+    }
+  }
+
+  @Test
+  public void testInvalidSize() throws IOException {
+    assertInvalidSize(content(49).length - 1);
+    assertInvalidSize(content(49).length + 1);
+  }
+
+  @Test
+  public void testInvalidNameLength() throws IOException {
+    try (final ZipArchive archive = new ZipArchive(corrupt(28, 0xFFFF))) {
+      fail("Expected ZipException");
+    }
+    catch (final ZipException e) {
+    }
+  }
+
+  @Test
+  public void testJar() throws IOException {
+    for (final File file : ClassLoaders.getClassPath()) {
+      if (!file.getName().startsWith("junit") || !file.getName().endsWith(".jar"))
+        continue;
+
+      try (
+        final ZipFile zipFile = new ZipFile(file);
+        final ZipArchive archive = new ZipArchive(file);
+      ) {
+        assertEquals(zipFile.size(), archive.size());
+        final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+          final ZipEntry expected = entries.nextElement();
+          final ZipEntry entry = archive.getEntry(expected.getName());
+          assertEquals(expected.getCrc(), entry.getCrc());
+          assertEquals(expected.getTime(), entry.getTime());
+          try (final InputStream in = zipFile.getInputStream(expected)) {
+            assertArrayEquals(readAll(in), toArray(archive.getByteBuffer(expected.getName())));
+          }
+        }
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,243 @@
+/* Copyright (c) 2021 OpenJAX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.zip;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+
+public class ZipTest {
+  private static byte[] newData(final int length) {
+    final Random random = new Random(length);
+    final byte[] data = new byte[length];
+    for (int i = 0; i < length; ++i)
+      data[i] = (byte)('a' + random.nextInt(i % 7 + 1));
+
+    return data;
+  }
+
+  private static byte[] readAll(final InputStream in) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    for (int len; (len = in.read(buffer)) != -1; out.write(buffer, 0, len));
+    return out.toByteArray();
+  }
+
+  private static byte[] gzip(final byte[] data) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final GZIPOutputStream gzos = new GZIPOutputStream(out)) {
+      gzos.write(data);
+    }
+
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testGzip() throws IOException {
+    for (final int length : new int[] {0, 1, 100, 70000, 300000}) {
+      final byte[] data = newData(length);
+      final byte[] compressed = Zip.GZIP.compress(data);
+      // The deflated data is that of java.util.zip.GZIPOutputStream
+      final byte[] expected = gzip(data);
+      assertEquals(expected.length, compressed.length);
+      assertArrayEquals(Arrays.copyOfRange(expected, 10, expected.length), Arrays.copyOfRange(compressed, 10, compressed.length));
+      assertArrayEquals(data, readAll(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+      assertArrayEquals(data, Zip.GZIP.decompress(compressed));
+    }
+  }
+
+  @Test
+  public void testGzipMultipleMembers() throws IOException {
+    final byte[] a = newData(1000);
+    final byte[] b = newData(100);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(gzip(a));
+    out.write(gzip(b));
+    final byte[] expected = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, expected, a.length, b.length);
+    assertArrayEquals(expected, Zip.GZIP.decompress(out.toByteArray()));
+  }
+
+  @Test
+  public void testGzipCorrupt() throws IOException {
+    final byte[] compressed = Zip.GZIP.compress(newData(1000));
+    --compressed[compressed.length - 5];
+    try {
+      Zip.GZIP.decompress(compressed);
+      fail("Expected ZipException");
+    }
+    catch (final ZipException e) {
+    }
+  }
+
+  @Test
+  public void testZip() throws IOException {
+    for (final int length : new int[] {0, 1, 100, 70000, 300000}) {
+      final byte[] data = newData(length);
+      final byte[] compressed = Zip.ZIP.compress(data);
+      try (final ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(compressed))) {
+        final ZipEntry entry = in.getNextEntry();
+        assertEquals("-", entry.getName());
+        assertArrayEquals(data, readAll(in));
+        assertNull(in.getNextEntry());
+      }
+
+      assertArrayEquals(data, Zip.ZIP.decompress(compressed));
+    }
+  }
+
+  @Test
+  public void testZipFromZipOutputStream() throws IOException {
+    final byte[] data = newData(5000);
+    for (final int method : new int[] {ZipEntry.DEFLATED, ZipEntry.STORED}) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      try (final ZipOutputStream zos = new ZipOutputStream(out)) {
+        final ZipEntry entry = new ZipEntry("foo");
+        if (method == ZipEntry.STORED) {
+          final java.util.zip.CRC32 crc = new java.util.zip.CRC32();
+          crc.update(data);
+          entry.setMethod(method);
+          entry.setSize(data.length);
+          entry.setCrc(crc.getValue());
+        }
+
+        zos.putNextEntry(entry);
+        zos.write(data);
+        zos.closeEntry();
+        zos.putNextEntry(new ZipEntry("bar"));
+        zos.write(1);
+      }
+
+      assertArrayEquals(data, Zip.ZIP.decompress(out.toByteArray()));
+      final ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+      assertEquals(data.length, Zip.ZIP.decompress(new ByteArrayInputStream(out.toByteArray()), decompressed));
+      assertArrayEquals(data, decompressed.toByteArray());
+    }
+  }
+
+  @Test
+  public void testByteBuffer() throws IOException {
+    final byte[] data = newData(100000);
+    for (final Zip zip : Zip.values()) {
+      for (final boolean direct : new boolean[] {false, true}) {
+        final ByteBuffer src = direct ? ByteBuffer.allocateDirect(data.length + 10) : ByteBuffer.allocate(data.length + 10);
+        src.position(10);
+        src.put(data);
+        src.position(10);
+        final ByteBuffer compressed = direct ? ByteBuffer.allocateDirect(data.length) : ByteBuffer.allocate(data.length);
+        final int length = zip.compress(src, compressed);
+        assertFalse(src.hasRemaining());
+        assertEquals(length, compressed.position());
+        compressed.put((byte)1).flip();
+
+        final ByteBuffer decompressed = direct ? ByteBuffer.allocateDirect(data.length) : ByteBuffer.allocate(data.length);
+        assertEquals(data.length, zip.decompress(compressed, decompressed));
+        if (zip == Zip.GZIP)
+          assertEquals(1, compressed.remaining());
+
+        final byte[] actual = new byte[data.length];
+        decompressed.flip();
+        decompressed.get(actual);
+        assertArrayEquals(data, actual);
+
+        compressed.rewind();
+        try {
+          zip.decompress(compressed, ByteBuffer.allocate(data.length - 1));
+          fail("Expected BufferOverflowException");
+        }
+        catch (final BufferOverflowException e) {
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testStream() throws IOException {
+    final byte[] data = newData(200000);
+    for (final Zip zip : Zip.values()) {
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      final long length = zip.compress(new ByteArrayInputStream(data), compressed);
+      assertEquals(compressed.size(), length);
+      assertArrayEquals(zip.compress(data), compressed.toByteArray());
+
+      final ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+      assertEquals(data.length, zip.decompress(new ByteArrayInputStream(compressed.toByteArray()), decompressed));
+      assertArrayEquals(data, decompressed.toByteArray());
+    }
+  }
+
+  @Test
+  public void testParallel() throws IOException {
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      testParallel(executor);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelCallerRuns() throws IOException {
+    // Each block is deflated with a context that is not pooled, as that of the calling thread is in use
+    testParallel(Runnable::run);
+  }
+
+  private static void testParallel(final Executor executor) throws IOException {
+    for (final int length : new int[] {0, 1, 100000, 300000}) {
+      final byte[] data = newData(length);
+      for (final int blockSize : new int[] {1000, 1 << 15, 1 << 17}) {
+        for (final Zip zip : Zip.values()) {
+          final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+          final long size = zip.compress(new ByteArrayInputStream(data), compressed, executor, 3, blockSize);
+          assertEquals(compressed.size(), size);
+          assertArrayEquals(data, zip.decompress(compressed.toByteArray()));
+          if (zip == Zip.GZIP) {
+            assertArrayEquals(data, readAll(new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))));
+            // Priming each block with the dictionary of the previous block retains the compression ratio
+            if (blockSize >= 1 << 15)
+              assertTrue(compressed.size() + " > " + Zip.GZIP.compress(data).length, compressed.size() < Zip.GZIP.compress(data).length * 1.05 + 32);
+          }
+          else {
+            try (final ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+              assertEquals("-", in.getNextEntry().getName());
+              assertArrayEquals(data, readAll(in));
+            }
+          }
+        }
+      }
+    }
+  }
+}
\ No newline at end of file
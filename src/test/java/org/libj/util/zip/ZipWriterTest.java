@@ -18,13 +18,20 @@ package org.libj.util.zip;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
 import java.nio.file.Files;
 import java.util.jar.JarOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.Test;
 
@@ -65,6 +72,64 @@ public class ZipWriterTest {
     assertFile(destDir, "dbar/bar", "dbar/dbar/bar");
   }
 
+  @Test
+  public void testStreamAndStored() throws IOException {
+    final byte[] data = new byte[100000];
+    for (int i = 0; i < data.length; ++i)
+      data[i] = (byte)(i % 13 * i % 7);
+
+    final CRC32 crc = new CRC32();
+    crc.update(data, 0, data.length);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final ZipWriter writer = new ZipWriter(new ZipOutputStream(out), Deflater.BEST_SPEED)) {
+      writer.write("stream", new ByteArrayInputStream(data));
+      writer.write("channel", Channels.newChannel(new ByteArrayInputStream(data)), Deflater.BEST_COMPRESSION);
+      writer.write("none", new ByteArrayInputStream(data), Deflater.NO_COMPRESSION);
+      writer.writeStored("stored", data);
+      writer.writeStored("storedStream", new ByteArrayInputStream(data), data.length, crc.getValue());
+      writer.write("bytes", data, Deflater.BEST_COMPRESSION);
+      writer.write("last", data);
+    }
+
+    try (final ZipWriter writer = new ZipWriter(new ZipOutputStream(new ByteArrayOutputStream()))) {
+      writer.writeStored("invalid", new ByteArrayInputStream(data), data.length, crc.getValue() ^ 1);
+      fail("Expected ZipException");
+    }
+    catch (final ZipException e) {
+    }
+
+    // The level set on the stream is retained, since a level per entry requires the level of the writer
+    final ByteArrayOutputStream levelOut = new ByteArrayOutputStream();
+    final ZipOutputStream zos = new ZipOutputStream(levelOut);
+    zos.setLevel(Deflater.NO_COMPRESSION);
+    try (final ZipWriter writer = new ZipWriter(zos)) {
+      try {
+        writer.write("level", data, Deflater.BEST_COMPRESSION);
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+      }
+
+      writer.write("default", data);
+    }
+
+    assertTrue(levelOut.size() > data.length);
+
+    final String[] names = {"stream", "channel", "none", "stored", "storedStream", "bytes", "last"};
+    try (final ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      for (final String name : names) {
+        final ZipEntry entry = in.getNextEntry();
+        assertEquals(name, entry.getName());
+        assertEquals(name.startsWith("stored") ? ZipEntry.STORED : ZipEntry.DEFLATED, entry.getMethod());
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        for (int len; (len = in.read(buffer)) != -1; content.write(buffer, 0, len));
+        assertArrayEquals(name, data, content.toByteArray());
+      }
+    }
+  }
+
   /**
    * Recursively delete a directory and its contents.
    *
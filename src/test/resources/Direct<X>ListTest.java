@@ -0,0 +1,193 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Direct<X>ListTest extends PrimitiveCollectionTest {
+  private static final Random random = new Random(0);
+
+  private static <x>[] randomValues(final int length) {
+    final <x>[] values = new <x>[length];
+    for (int i = 0; i < length; ++i)
+      values[i] = (<x>)random.nextInt();
+
+    return values;
+  }
+
+  private final Direct<X>List list = new Direct<X>List();
+
+  @Test
+  public void shouldReportEmpty() {
+    assertEquals(0, list.size());
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  public void shouldAddSetAndRemove() {
+    final int count = 20;
+    for (<x> i = 0; i < count; ++i)
+      list.add(i);
+
+    list.add(10, (<x>)111);
+    assertEquals(count + 1, list.size());
+    assertEquals(111, list.get(10));
+    assertEquals(count - 1, list.get(count));
+
+    assertEquals(111, list.set(10, (<x>)112));
+    assertEquals(112, list.removeIndex(10));
+    assertTrue(list.remove((<x>)5));
+    assertEquals(count - 1, list.size());
+    assertEquals(6, list.get(5));
+    assertEquals(-1, list.indexOf((<x>)5));
+    assertEquals(count - 2, list.lastIndexOf((<x>)(count - 1)));
+  }
+
+  @Test
+  public void shouldMatchArrayListAcrossPages() {
+    final int count = Direct<X>List.PAGE_SIZE + 1000;
+    final <x>[] values = randomValues(count);
+    final Array<X>List expected = new Array<X>List();
+    for (int i = 0; i < count; ++i) {
+      expected.add(values[i]);
+      list.add(values[i]);
+    }
+
+    expected.add(Direct<X>List.PAGE_SIZE - 2, (<x>)7);
+    list.add(Direct<X>List.PAGE_SIZE - 2, (<x>)7);
+    expected.removeIndex(3);
+    list.removeIndex(3);
+
+    assertEquals(expected.size(), list.size());
+    assertTrue(list.capacity() >= list.size());
+    assertArrayEquals(expected.toArray(new <x>[0]), list.toArray(new <x>[0]));
+    assertEquals(expected.hashCode(), list.hashCode());
+
+    list.trimToSize();
+    assertEquals(list.size(), list.capacity());
+    assertArrayEquals(expected.toArray(new <x>[0]), list.toArray(new <x>[0]));
+  }
+
+  @Test
+  public void testSubList() {
+    list.addAll((<x>)0, (<x>)1, (<x>)2, (<x>)3, (<x>)4, (<x>)5, (<x>)6, (<x>)7, (<x>)8, (<x>)9);
+    final Direct<X>List subList = list.subList(2, 6);
+    assertArrayEquals(new <x>[] {2, 3, 4, 5}, subList.toArray(new <x>[0]));
+
+    subList.add((<x>)10);
+    subList.removeIndex(0);
+    assertArrayEquals(new <x>[] {3, 4, 5, 10}, subList.toArray(new <x>[0]));
+    assertArrayEquals(new <x>[] {0, 1, 3, 4, 5, 10, 6, 7, 8, 9}, list.toArray(new <x>[0]));
+
+    subList.sort(<X>Comparator.REVERSE);
+    assertArrayEquals(new <x>[] {0, 1, 10, 5, 4, 3, 6, 7, 8, 9}, list.toArray(new <x>[0]));
+
+    subList.clear();
+    assertArrayEquals(new <x>[] {0, 1, 6, 7, 8, 9}, list.toArray(new <x>[0]));
+  }
+
+  @Test
+  public void testListIterator() {
+    list.addAll((<x>)1, (<x>)2, (<x>)3);
+    final <X>ListIterator i = list.listIterator();
+    assertEquals(1, i.next());
+    i.set((<x>)4);
+    i.add((<x>)5);
+    assertEquals(2, i.next());
+    i.remove();
+    assertEquals(5, i.previous());
+    assertArrayEquals(new <x>[] {4, 5, 3}, list.toArray(new <x>[0]));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void iteratorShouldThrowNoSuchElementException() {
+    list.add((<x>)1);
+    final <X>Iterator i = list.iterator();
+    i.next();
+    i.next();
+  }
+
+  @Test
+  public void shouldSortLikeArrayList() {
+    final <x>[] values = randomValues(50000);
+    final Array<X>List expected = new Array<X>List(values);
+    list.addAll(values);
+
+    expected.sort();
+    list.sort();
+    assertArrayEquals(expected.toArray(new <x>[0]), list.toArray(new <x>[0]));
+
+    expected.sort(<X>Comparator.REVERSE);
+    list.sort(<X>Comparator.REVERSE);
+    assertArrayEquals(expected.toArray(new <x>[0]), list.toArray(new <x>[0]));
+  }
+
+  @Test
+  public void shouldCloseAndReuse() {
+    list.addAll((<x>)1, (<x>)2, (<x>)3);
+    final Direct<X>List subList = list.subList(1, 3);
+    list.close();
+    assertEquals(0, list.size());
+    assertEquals(0, subList.size());
+    assertEquals(0, list.capacity());
+    list.close();
+
+    list.add((<x>)4);
+    assertArrayEquals(new <x>[] {4}, list.toArray(new <x>[0]));
+  }
+
+  @Test
+  public void cloneShouldBeIndependent() {
+    list.addAll((<x>)1, (<x>)2, (<x>)3);
+    final Direct<X>List clone = list.subList(1, 3).clone();
+    assertArrayEquals(new <x>[] {2, 3}, clone.toArray(new <x>[0]));
+
+    clone.set(0, (<x>)7);
+    assertEquals(2, list.get(1));
+    clone.close();
+  }
+
+  @Test
+  public void shouldSerialize() throws Exception {
+    list.addAll((<x>)1, (<x>)2, (<x>)3);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final ObjectOutputStream oos = new ObjectOutputStream(out)) {
+      oos.writeObject(list);
+    }
+
+    try (final ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      Assert.assertEquals(list, ois.readObject());
+    }
+  }
+
+  @Test
+  public void shouldGenerateStringRepresentation() {
+    list.addAll((<x>)7, (<x>)5, (<x>)9);
+    Assert.assertEquals(new Array<X>List((<x>)7, (<x>)5, (<x>)9).toString(), list.toString());
+  }
+}
\ No newline at end of file
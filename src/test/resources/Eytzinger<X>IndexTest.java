@@ -0,0 +1,105 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.libj.util.ArrayUtil;
+
+@SuppressWarnings("all")
+public class Eytzinger<X>IndexTest {
+  private static int lowerBound(final <x>[] a, final int fromIndex, final int toIndex, final <x> key) {
+    for (int i = fromIndex; i < toIndex; ++i)
+      if (<X>Comparator.NATURAL.compare(a[i], key) >= 0)
+        return i;
+
+    return toIndex;
+  }
+
+  private static <x>[] sorted(final Random random, final int length, final int bound) {
+    final <x>[] a = new <x>[length];
+    for (int i = 0; i < length; ++i)
+      a[i] = (<x>)random.nextInt(bound);
+
+    Arrays.sort(a);
+    return a;
+  }
+
+  @Test
+  public void testEmpty() {
+    final Eytzinger<X>Index index = new Eytzinger<X>Index(new <x>[0]);
+    assertEquals(0, index.size());
+    assertEquals(0, index.binaryClosestSearch((<x>)1));
+  }
+
+  @Test
+  public void testBinaryClosestSearch() {
+    final Random random = new Random(0);
+    for (int length = 1; length < 100; ++length) {
+      final <x>[] a = sorted(random, length, 100);
+      final int fromIndex = length / 4;
+      final int toIndex = length - length / 3;
+      final Eytzinger<X>Index index = new Eytzinger<X>Index(a, fromIndex, toIndex);
+      assertEquals(toIndex - fromIndex, index.size());
+      for (int key = -1; key <= 101; ++key)
+        assertEquals(lowerBound(a, fromIndex, toIndex, (<x>)key), index.binaryClosestSearch((<x>)key));
+    }
+  }
+
+  @Test
+  public void testDistinct() {
+    final <x>[] a = new <x>[60];
+    for (int i = 0; i < a.length; ++i)
+      a[i] = (<x>)(i * 2);
+
+    final Eytzinger<X>Index index = new Eytzinger<X>Index(a);
+    for (int key = -1; key <= 121; ++key)
+      assertEquals(ArrayUtil.binaryClosestSearch(a, (<x>)key), index.binaryClosestSearch((<x>)key));
+  }
+
+  @Test
+  public void testBatch() {
+    final Random random = new Random(0);
+    final <x>[] a = sorted(random, 1000, 100);
+    final <x>[] keys = new <x>[203];
+    for (int i = 0; i < keys.length; ++i)
+      keys[i] = (<x>)(random.nextInt(103) - 1);
+
+    final int[] expected = new int[keys.length];
+    for (int i = 0; i < keys.length; ++i)
+      expected[i] = lowerBound(a, 0, a.length, keys[i]);
+
+    final int[] results = new int[keys.length];
+    new Eytzinger<X>Index(a).binaryClosestSearch(keys, results);
+    assertArrayEquals(expected, results);
+
+    Arrays.fill(results, -1);
+    ArrayUtil.binaryClosestSearch(a, keys, results);
+    assertArrayEquals(expected, results);
+
+    Arrays.sort(keys);
+    for (int i = 0; i < keys.length; ++i)
+      expected[i] = lowerBound(a, 0, a.length, keys[i]);
+
+    ArrayUtil.binaryClosestSearch(a, keys, results);
+    assertArrayEquals(expected, results);
+  }
+}
\ No newline at end of file
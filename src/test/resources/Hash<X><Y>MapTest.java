@@ -0,0 +1,237 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Hash<X><Y>MapTest extends PrimitiveCollectionTest {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final Hash<X><Y>Map testMap = new Hash<X><Y>Map(INITIAL_CAPACITY);
+
+  private static void addTwoMappings(final Hash<X><Y>Map map) {
+    map.put((<x>)1, (<y>)2);
+    map.put((<x>)101, (<y>)102);
+  }
+
+  @Test
+  public void initiallyContainsNoMappings() {
+    for (<x> i = 0; i < 100; ++i)
+      assertFalse(testMap.containsKey(i));
+
+    assertEquals(0, testMap.size());
+    assertTrue(testMap.isEmpty());
+  }
+
+  @Test
+  public void getReturnsPutValue() {
+    assertEquals((<y>)0, testMap.put((<x>)1, (<y>)2));
+    assertEquals((<y>)2, testMap.get((<x>)1));
+    assertTrue(testMap.containsKey((<x>)1));
+    assertTrue(testMap.containsValue((<y>)2));
+    assertEquals(1, testMap.size());
+  }
+
+  @Test
+  public void putReplacesValue() {
+    testMap.put((<x>)1, (<y>)2);
+    assertEquals((<y>)2, testMap.put((<x>)1, (<y>)3));
+    assertEquals((<y>)3, testMap.get((<x>)1));
+    assertFalse(testMap.containsValue((<y>)2));
+    assertEquals(1, testMap.size());
+  }
+
+  @Test
+  public void getOrDefaultReturnsDefaultForMissingKey() {
+    assertEquals((<y>)7, testMap.getOrDefault((<x>)1, (<y>)7));
+    assertEquals((<y>)0, testMap.get((<x>)1));
+  }
+
+  @Test
+  public void putIfAbsent() {
+    assertEquals((<y>)0, testMap.putIfAbsent((<x>)1, (<y>)2));
+    assertEquals((<y>)2, testMap.putIfAbsent((<x>)1, (<y>)3));
+    assertEquals((<y>)2, testMap.get((<x>)1));
+  }
+
+  @Test
+  public void supportsNullKey() {
+    assertFalse(testMap.containsKey(Hash<X><Y>Map.NULL));
+    testMap.put(Hash<X><Y>Map.NULL, (<y>)5);
+    assertTrue(testMap.containsKey(Hash<X><Y>Map.NULL));
+    assertEquals((<y>)5, testMap.get(Hash<X><Y>Map.NULL));
+    assertEquals(1, testMap.size());
+
+    assertEquals((<y>)5, testMap.remove(Hash<X><Y>Map.NULL));
+    assertFalse(testMap.containsKey(Hash<X><Y>Map.NULL));
+    assertEquals(0, testMap.size());
+  }
+
+  @Test
+  public void removeReturnsPreviousValue() {
+    addTwoMappings(testMap);
+    assertEquals((<y>)102, testMap.remove((<x>)101));
+    assertEquals((<y>)0, testMap.remove((<x>)101));
+    assertFalse(testMap.containsKey((<x>)101));
+    assertEquals(1, testMap.size());
+  }
+
+  @Test
+  public void clearRemovesAllMappings() {
+    addTwoMappings(testMap);
+    testMap.put(Hash<X><Y>Map.NULL, (<y>)1);
+    testMap.clear();
+    assertEquals(0, testMap.size());
+    assertFalse(testMap.containsKey((<x>)1));
+    assertFalse(testMap.containsKey(Hash<X><Y>Map.NULL));
+  }
+
+  @Test
+  public void shouldResizeWhenItHitsCapacity() {
+    for (<x> i = 1; i < 2 * INITIAL_CAPACITY - 1; ++i)
+      testMap.put(i, (<y>)(i + 1));
+
+    for (<x> i = 1; i < 2 * INITIAL_CAPACITY - 1; ++i)
+      assertEquals((<y>)(i + 1), testMap.get(i));
+  }
+
+  // Test case from usage bug.
+  @Test
+  public void chainCompactionShouldNotCauseElementsToBeMovedBeforeTheirHash() {
+    final Hash<X><Y>Map map = new Hash<X><Y>Map(14);
+    map.put((<x>)8, (<y>)1);
+    map.put((<x>)9, (<y>)2);
+    map.put((<x>)35, (<y>)3);
+    map.put((<x>)49, (<y>)4);
+    map.put((<x>)56, (<y>)5);
+
+    assertEquals((<y>)1, map.remove((<x>)8));
+    assertEquals((<y>)2, map.remove((<x>)9));
+
+    assertEquals((<y>)3, map.get((<x>)35));
+    assertEquals((<y>)4, map.get((<x>)49));
+    assertEquals((<y>)5, map.get((<x>)56));
+  }
+
+  @Test
+  public void keySetAndValuesAreViews() {
+    addTwoMappings(testMap);
+    final <X>Set keySet = testMap.keySet();
+    assertEquals(2, keySet.size());
+    assertTrue(keySet.contains((<x>)1));
+    assertTrue(keySet.contains((<x>)101));
+
+    final <Y>Collection values = testMap.values();
+    assertEquals(2, values.size());
+    assertTrue(values.contains((<y>)2));
+    assertTrue(values.contains((<y>)102));
+
+    assertTrue(keySet.remove((<x>)1));
+    assertFalse(testMap.containsKey((<x>)1));
+    assertEquals(1, values.size());
+    assertFalse(values.contains((<y>)2));
+  }
+
+  @Test
+  public void iteratorRemoveRemovesMappings() {
+    for (<x> i = 0; i < INITIAL_CAPACITY; ++i)
+      testMap.put(i, (<y>)(i + 1));
+
+    int count = 0;
+    for (final <X>Iterator i = testMap.keySet().iterator(); i.hasNext(); ++count) {
+      final <x> key = i.next();
+      if (key % 2 == 0)
+        i.remove();
+    }
+
+    assertEquals(INITIAL_CAPACITY, count);
+    assertEquals(INITIAL_CAPACITY / 2, testMap.size());
+    for (<x> i = 0; i < INITIAL_CAPACITY; ++i)
+      Assert.assertEquals(i % 2 != 0, testMap.containsKey(i));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void iteratorThrowsNoSuchElementException() {
+    addTwoMappings(testMap);
+    final <Y>Iterator i = testMap.values().iterator();
+    i.next();
+    i.next();
+    i.next();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void iteratorThrowsConcurrentModificationException() {
+    addTwoMappings(testMap);
+    final <X>Iterator i = testMap.keySet().iterator();
+    i.next();
+    testMap.put((<x>)3, (<y>)4);
+    i.next();
+  }
+
+  @Test
+  public void forEachVisitsAllMappings() {
+    addTwoMappings(testMap);
+    testMap.put(Hash<X><Y>Map.NULL, (<y>)9);
+    final Hash<X><Y>Map copy = new Hash<X><Y>Map();
+    testMap.forEach(copy::put);
+    Assert.assertEquals(testMap, copy);
+  }
+
+  @Test
+  public void mapsWithTheSameMappingsAreEqual() {
+    final Hash<X><Y>Map that = new Hash<X><Y>Map(100);
+    addTwoMappings(testMap);
+    addTwoMappings(that);
+
+    Assert.assertEquals(testMap, that);
+    assertEquals(testMap.hashCode(), that.hashCode());
+
+    that.put((<x>)1, (<y>)3);
+    assertNotEquals(testMap, that);
+  }
+
+  @Test
+  public void cloneIsIndependent() {
+    addTwoMappings(testMap);
+    final Hash<X><Y>Map clone = testMap.clone();
+    Assert.assertEquals(testMap, clone);
+
+    clone.remove((<x>)1);
+    assertTrue(testMap.containsKey((<x>)1));
+    assertEquals(1, clone.keySet().size());
+  }
+
+  @Test
+  public void compactRetainsMappings() {
+    for (<x> i = 1; i < INITIAL_CAPACITY; ++i)
+      testMap.put(i, (<y>)i);
+
+    for (<x> i = 1; i < INITIAL_CAPACITY; i += 2)
+      testMap.remove(i);
+
+    testMap.compact();
+    for (<x> i = 2; i < INITIAL_CAPACITY; i += 2)
+      assertEquals((<y>)i, testMap.get(i));
+  }
+}
\ No newline at end of file
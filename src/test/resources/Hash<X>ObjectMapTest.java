@@ -0,0 +1,168 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Hash<X>ObjectMapTest extends PrimitiveCollectionTest {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final Hash<X>ObjectMap<String> testMap = new Hash<X>ObjectMap<>(INITIAL_CAPACITY);
+
+  private static void addTwoMappings(final Hash<X>ObjectMap<String> map) {
+    map.put((<x>)1, "one");
+    map.put((<x>)101, "one hundred one");
+  }
+
+  @Test
+  public void initiallyContainsNoMappings() {
+    for (<x> i = 0; i < 100; ++i)
+      assertFalse(testMap.containsKey(i));
+
+    assertEquals(0, testMap.size());
+    assertTrue(testMap.isEmpty());
+  }
+
+  @Test
+  public void getReturnsPutValue() {
+    assertNull(testMap.put((<x>)1, "one"));
+    Assert.assertEquals("one", testMap.get((<x>)1));
+    assertTrue(testMap.containsKey((<x>)1));
+    assertTrue(testMap.containsValue("one"));
+    assertEquals(1, testMap.size());
+  }
+
+  @Test
+  public void putReplacesValue() {
+    testMap.put((<x>)1, "one");
+    Assert.assertEquals("one", testMap.put((<x>)1, "uno"));
+    Assert.assertEquals("uno", testMap.get((<x>)1));
+    assertFalse(testMap.containsValue("one"));
+    assertEquals(1, testMap.size());
+  }
+
+  @Test
+  public void supportsNullKeyAndNullValue() {
+    testMap.put(Hash<X>ObjectMap.NULL, null);
+    assertTrue(testMap.containsKey(Hash<X>ObjectMap.NULL));
+    assertTrue(testMap.containsValue(null));
+    assertNull(testMap.get(Hash<X>ObjectMap.NULL));
+    assertEquals(1, testMap.size());
+
+    assertNull(testMap.remove(Hash<X>ObjectMap.NULL));
+    assertFalse(testMap.containsKey(Hash<X>ObjectMap.NULL));
+    assertEquals(0, testMap.size());
+  }
+
+  @Test
+  public void removeReturnsPreviousValue() {
+    addTwoMappings(testMap);
+    Assert.assertEquals("one hundred one", testMap.remove((<x>)101));
+    assertNull(testMap.remove((<x>)101));
+    assertEquals(1, testMap.size());
+  }
+
+  @Test
+  public void shouldResizeWhenItHitsCapacity() {
+    for (<x> i = 1; i < 2 * INITIAL_CAPACITY - 1; ++i)
+      testMap.put(i, String.valueOf(i));
+
+    for (<x> i = 1; i < 2 * INITIAL_CAPACITY - 1; ++i)
+      Assert.assertEquals(String.valueOf(i), testMap.get(i));
+  }
+
+  @Test
+  public void valuesIsView() {
+    addTwoMappings(testMap);
+    final Collection<String> values = testMap.values();
+    assertEquals(2, values.size());
+    assertTrue(values.contains("one"));
+
+    for (final Iterator<String> i = values.iterator(); i.hasNext();)
+      if ("one".equals(i.next()))
+        i.remove();
+
+    assertFalse(testMap.containsKey((<x>)1));
+    assertEquals(1, testMap.size());
+  }
+
+  @Test
+  public void iteratorRemoveRemovesMappings() {
+    for (<x> i = 0; i < INITIAL_CAPACITY; ++i)
+      testMap.put(i, String.valueOf(i));
+
+    int count = 0;
+    for (final <X>Iterator i = testMap.keySet().iterator(); i.hasNext(); ++count) {
+      final <x> key = i.next();
+      if (key % 2 == 0)
+        i.remove();
+    }
+
+    assertEquals(INITIAL_CAPACITY, count);
+    assertEquals(INITIAL_CAPACITY / 2, testMap.size());
+    for (<x> i = 0; i < INITIAL_CAPACITY; ++i)
+      Assert.assertEquals(i % 2 != 0, testMap.containsKey(i));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void iteratorThrowsNoSuchElementException() {
+    addTwoMappings(testMap);
+    final Iterator<String> i = testMap.values().iterator();
+    i.next();
+    i.next();
+    i.next();
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void iteratorThrowsConcurrentModificationException() {
+    addTwoMappings(testMap);
+    final <X>Iterator i = testMap.keySet().iterator();
+    i.next();
+    testMap.put((<x>)3, "three");
+    i.next();
+  }
+
+  @Test
+  public void forEachVisitsAllMappings() {
+    addTwoMappings(testMap);
+    testMap.put(Hash<X>ObjectMap.NULL, "zero");
+    final Hash<X>ObjectMap<String> copy = new Hash<X>ObjectMap<>();
+    testMap.forEach(copy::put);
+    Assert.assertEquals(testMap, copy);
+    assertEquals(testMap.hashCode(), copy.hashCode());
+  }
+
+  @Test
+  public void cloneIsIndependent() {
+    addTwoMappings(testMap);
+    final Hash<X>ObjectMap<String> clone = testMap.clone();
+    Assert.assertEquals(testMap, clone);
+
+    clone.remove((<x>)1);
+    assertTrue(testMap.containsKey((<x>)1));
+    assertNotEquals(testMap, clone);
+  }
+}
\ No newline at end of file
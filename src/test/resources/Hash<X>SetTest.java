@@ -661,6 +661,54 @@ public class Hash<X>SetTest extends PrimitiveCollectionTest {
     Assert.assertEquals("Fail with seed:" + seed, compatibleSet.hashCode(), testSet.hashCode());
   }
 
+  @Test
+  public void robinHoodShouldBehaveAsHashSet() {
+    final Hash<X>Set robinHoodSet = new Hash<X>Set(16, .9f, true);
+    final HashSet<<XX>> compatibleSet = new HashSet<>();
+    final long seed = System.nanoTime();
+    final Random r = new Random(seed);
+    for (int i = 0; i < 10000; ++i) {
+      final <x> value = (<x>)r.nextInt(512);
+      if (r.nextInt(3) == 0)
+        Assert.assertEquals("Fail with seed:" + seed, compatibleSet.remove(value), robinHoodSet.remove(value));
+      else
+        Assert.assertEquals("Fail with seed:" + seed, compatibleSet.add(value), robinHoodSet.add(value));
+    }
+
+    assertEquals(compatibleSet.size(), robinHoodSet.size());
+    for (final <XX> value : compatibleSet)
+      assertTrue("Fail with seed:" + seed, robinHoodSet.contains(value));
+
+    for (final <X>Iterator i = robinHoodSet.iterator(); i.hasNext();) {
+      final <x> value = i.next();
+      assertTrue("Fail with seed:" + seed, compatibleSet.contains(value));
+      if (value % 2 == 0) {
+        i.remove();
+        compatibleSet.remove(value);
+      }
+    }
+
+    assertEquals(compatibleSet.size(), robinHoodSet.size());
+    assertTrue("Fail with seed:" + seed, robinHoodSet.containsAll(compatibleSet));
+  }
+
+  @Test
+  public void robinHoodShouldNotChangeMeanProbeLength() {
+    final Hash<X>Set linearSet = new Hash<X>Set(128, .9f, false);
+    final Hash<X>Set robinHoodSet = new Hash<X>Set(128, .9f, true);
+    assertEquals(0, robinHoodSet.getMaxProbeLength());
+    assertEquals(0, robinHoodSet.getMeanProbeLength());
+
+    for (<x> i = 1; i < 116; ++i) {
+      linearSet.add(i);
+      robinHoodSet.add(i);
+    }
+
+    assertEquals(linearSet.getMeanProbeLength(), robinHoodSet.getMeanProbeLength());
+    assertTrue(robinHoodSet.getMaxProbeLength() <= linearSet.getMaxProbeLength());
+    assertTrue(1 <= robinHoodSet.getMeanProbeLength());
+  }
+
   private static void addTwoElements(final Hash<X>Set obj) {
     obj.add((<x>)1);
     obj.add((<x>)101);
@@ -0,0 +1,161 @@
+/* Copyright (c) 2020 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Mapped<X>ListTest extends PrimitiveCollectionTest {
+  private static Path newFile() throws IOException {
+    final Path path = Files.createTempFile("mapped", ".<x>");
+    path.toFile().deleteOnExit();
+    Files.delete(path);
+    return path;
+  }
+
+  @Test
+  public void shouldPersistAcrossReopen() throws IOException {
+    final Path path = newFile();
+    final int count = Direct<X>List.PAGE_SIZE + 100;
+    final Array<X>List expected = new Array<X>List();
+    try (final Mapped<X>List list = new Mapped<X>List(path)) {
+      assertTrue(list.isEmpty());
+      for (int i = 0; i < count; ++i) {
+        expected.add((<x>)(i * 31));
+        list.add((<x>)(i * 31));
+      }
+    }
+
+    assertEquals(Mapped<X>List.HEADER_LENGTH + (long)count * <XX>.BYTES, Files.size(path));
+    try (final Mapped<X>List list = new Mapped<X>List(path, true)) {
+      assertTrue(list.isReadOnly());
+      assertEquals(count, list.size());
+      assertArrayEquals(expected.toArray(new <x>[0]), list.toArray(new <x>[0]));
+    }
+  }
+
+  @Test
+  public void shouldAppendAndForce() throws IOException {
+    final Path path = newFile();
+    try (final Mapped<X>List list = new Mapped<X>List(path)) {
+      list.addAll((<x>)1, (<x>)2, (<x>)3);
+    }
+
+    try (final Mapped<X>List list = new Mapped<X>List(path)) {
+      assertArrayEquals(new <x>[] {1, 2, 3}, list.toArray(new <x>[0]));
+      list.add((<x>)4);
+      list.removeIndex(0);
+      list.subList(0, 1).set(0, (<x>)5);
+      list.force();
+
+      try (final Mapped<X>List reader = new Mapped<X>List(path, true)) {
+        assertArrayEquals(new <x>[] {5, 3, 4}, reader.toArray(new <x>[0]));
+      }
+    }
+  }
+
+  @Test
+  public void shouldRejectModificationWhenReadOnly() throws IOException {
+    final Path path = newFile();
+    try (final Mapped<X>List list = new Mapped<X>List(path)) {
+      list.addAll((<x>)1, (<x>)2, (<x>)3);
+    }
+
+    try (final Mapped<X>List list = new Mapped<X>List(path, true)) {
+      try {
+        list.add((<x>)4);
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+
+      try {
+        list.set(0, (<x>)4);
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+
+      try {
+        list.clear();
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+
+      assertArrayEquals(new <x>[] {1, 2, 3}, list.toArray(new <x>[0]));
+    }
+  }
+
+  @Test
+  public void shouldRejectRemovalOfLastValueWhenReadOnly() throws IOException {
+    final Path path = newFile();
+    try (final Mapped<X>List list = new Mapped<X>List(path)) {
+      list.addAll((<x>)1, (<x>)2, (<x>)3);
+    }
+
+    try (final Mapped<X>List list = new Mapped<X>List(path, true)) {
+      try {
+        list.removeIndex(2);
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+
+      try {
+        list.remove((<x>)3);
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+
+      try {
+        list.retainAll(new Array<X>List((<x>)1, (<x>)2));
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+
+      try {
+        list.subList(2, 3).clear();
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+
+      assertArrayEquals(new <x>[] {1, 2, 3}, list.toArray(new <x>[0]));
+    }
+  }
+
+  @Test
+  public void shouldCloneToDirectList() throws IOException {
+    final Path path = newFile();
+    try (final Mapped<X>List list = new Mapped<X>List(path)) {
+      list.addAll((<x>)1, (<x>)2, (<x>)3);
+      final Direct<X>List clone = list.clone();
+      Assert.assertEquals(list, clone);
+      clone.close();
+    }
+  }
+}
\ No newline at end of file